@@ -25,8 +25,11 @@ import android.text.TextUtils;
 import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 
+import com.bytedance.playerkit.player.PlayerKit;
 import com.bytedance.playerkit.player.cache.CacheKeyFactory;
 import com.bytedance.playerkit.player.cache.DefaultCacheKeyFactory;
+import com.bytedance.playerkit.player.playback.WarmPlayerPool;
+import com.bytedance.playerkit.player.source.DisplayAwareTrackSelector;
 import com.bytedance.playerkit.player.source.MediaSource;
 import com.bytedance.playerkit.player.source.Quality;
 import com.bytedance.playerkit.player.source.Subtitle;
@@ -36,6 +39,8 @@ import com.bytedance.playerkit.player.source.TrackSelector;
 import com.bytedance.playerkit.player.volcengine.VolcConfig;
 import com.bytedance.playerkit.player.volcengine.VolcConfigGlobal;
 import com.bytedance.playerkit.player.volcengine.VolcConfigUpdater;
+import com.bytedance.playerkit.player.volcengine.VolcDiskCacheManager;
+import com.bytedance.playerkit.player.volcengine.VolcPlayerFactory;
 import com.bytedance.playerkit.player.volcengine.VolcPlayerInit;
 import com.bytedance.playerkit.player.volcengine.VolcPlayerInitConfig;
 import com.bytedance.playerkit.player.volcengine.VolcQuality;
@@ -46,12 +51,14 @@ import com.bytedance.playerkit.utils.L;
 import com.bytedance.volc.vod.scenekit.VideoSettings;
 import com.bytedance.volc.vod.scenekit.strategy.VideoQuality;
 import com.bytedance.volc.vod.scenekit.strategy.VideoSubtitle;
+import com.bytedance.volc.vod.scenekit.ui.video.scene.PlayScene;
 import com.bytedance.volc.vod.settingskit.SettingItem;
 import com.bytedance.volc.voddemo.ui.sample.SampleSourceActivity;
 import com.bytedance.volc.voddemo.ui.video.scene.pipvideo.PipVideoController;
 import com.bytedance.volc.voddemo.utils.CacheKeyUtils;
 import com.bytedance.volc.voddemo.video.AppUrlRefreshFetcher;
 
+import java.io.File;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -98,7 +105,10 @@ public class VodSDK {
         // FIXME asserts 开关，上线请关闭
         Asserts.DEBUG = VideoSettings.booleanValue(VideoSettings.INIT_ENABLE_ASSERTS);
 
-        final CacheKeyFactory cacheKeyFactory = new DefaultCacheKeyFactory() {
+        // 已有磁盘缓存的安装继续使用旧 key 规则，新安装或清除缓存后使用定长 md5 key。key 规则在初始化线程上确定
+        final CacheKeyFactory cacheKeyFactory = new DefaultCacheKeyFactory(
+                new File(context.getCacheDir(), VolcConfigGlobal.CacheDir.PLAYER_CACHE_DIR),
+                DefaultCacheKeyFactory.KEY_MODE_MD5) {
 
             @Override
             public String generateCacheKey(@NonNull String url) {
@@ -112,6 +122,7 @@ public class VodSDK {
             }
         };
 
+        final TrackSelector displayAwareTrackSelector = new DisplayAwareTrackSelector();
         final TrackSelector trackSelector = new TrackSelector() {
             @NonNull
             @Override
@@ -128,7 +139,7 @@ public class VodSDK {
                         }
                     }
                 }
-                return tracks.get(0);
+                return displayAwareTrackSelector.selectTrack(type, trackType, tracks, source);
             }
         };
 
@@ -194,7 +205,17 @@ public class VodSDK {
                         .setAppVersion(appVersion)
                         .setLicenseUri(licenseUri)
                         .build())
+                .setPlayerKitConfig(new PlayerKit.PlayerKitConfig.Builder()
+                        .setPlayerFactory(new VolcPlayerFactory())
+                        // 复用已 prepare 的播放器，短视频上下滑回看时无需重新 prepare
+                        .setPlayerPool(new WarmPlayerPool())
+                        .build())
                 .setCacheKeyFactory(cacheKeyFactory)
+                .setDiskCacheConfig(new VolcDiskCacheManager.Config.Builder()
+                        .setMaxCacheSize(300 * 1024 * 1024)
+                        .setSceneQuota(PlayScene.map(PlayScene.SCENE_SHORT), 150 * 1024 * 1024)
+                        .setSceneQuota(PlayScene.map(PlayScene.SCENE_FEED), 100 * 1024 * 1024)
+                        .build())
                 .setTrackSelector(trackSelector)
                 .setSubtitleSelector(subtitleSelector)
                 .setConfigUpdater(configUpdater)
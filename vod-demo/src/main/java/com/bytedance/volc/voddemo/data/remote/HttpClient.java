@@ -18,9 +18,13 @@
 
 package com.bytedance.volc.voddemo.data.remote;
 
+import android.content.Context;
+
 import com.bytedance.playerkit.utils.L;
+import com.bytedance.volc.voddemo.VodSDK;
 import com.moczul.ok2curl.CurlInterceptor;
 
+import java.io.File;
 import java.util.concurrent.TimeUnit;
 
 import okhttp3.OkHttpClient;
@@ -35,14 +39,18 @@ public class HttpClient {
         HttpLoggingInterceptor httpLog = new HttpLoggingInterceptor(s -> L.v("OKHttp", "httpLog", s));
         httpLog.setLevel(HttpLoggingInterceptor.Level.BASIC);
         CurlInterceptor curlLog = new CurlInterceptor(s -> L.log("OKHttp", "curlLog", s));
+        final Context context = VodSDK.context();
+        RemoteCacheInterceptor cache = new RemoteCacheInterceptor(context == null ? null : new File(context.getCacheDir(), "app_server_cache"));
         sDefaultClient = new OkHttpClient
                 .Builder()
+                .addInterceptor(cache)
                 .addInterceptor(httpLog)
                 .addInterceptor(curlLog)
-                .connectTimeout(60, TimeUnit.SECONDS)
-                .readTimeout(60, TimeUnit.SECONDS)
-                .writeTimeout(60, TimeUnit.SECONDS)
+                .connectTimeout(10, TimeUnit.SECONDS)
+                .readTimeout(20, TimeUnit.SECONDS)
+                .writeTimeout(20, TimeUnit.SECONDS)
                 .build();
+        cache.attach(sDefaultClient);
         return sDefaultClient;
     }
 }
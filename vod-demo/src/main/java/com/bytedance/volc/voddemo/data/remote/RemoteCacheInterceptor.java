@@ -0,0 +1,458 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.voddemo.data.remote;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.playerkit.utils.JsonPullReader;
+import com.bytedance.playerkit.utils.L;
+import com.bytedance.playerkit.utils.MD5;
+import com.bytedance.volc.voddemo.data.remote.model.base.BaseResponse;
+
+import org.json.JSONException;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+/**
+ * Application interceptor of {@link HttpClient#defaultClient()} adding request coalescing and a
+ * response cache to the AppServer APIs.
+ * <ul>
+ *   <li>Identical in-flight requests (same url and body) share one network call.</li>
+ *   <li>Successful responses are cached in memory, and on disk for endpoints allowing stale
+ *   responses, with a TTL per endpoint, see {@link #POLICIES}. AppServer errors are reported with
+ *   http 200 and {@link BaseResponse.ResponseMetaData#error}, those responses are not cached.</li>
+ *   <li>Within the stale window a cached response is returned immediately and revalidated in
+ *   background, so a drama page renders instantly from cache on re-entry.</li>
+ * </ul>
+ * Responses are marked with {@link #HEADER_CACHE}.
+ */
+public class RemoteCacheInterceptor implements Interceptor {
+
+    public static boolean ENABLE = true;
+
+    public static int MAX_MEMORY_ENTRIES = 64;
+    public static int MAX_DISK_ENTRIES = 256;
+
+    public static final String HEADER_CACHE = "X-App-Cache";
+    public static final String CACHE_HIT = "hit";
+    public static final String CACHE_STALE = "stale";
+    public static final String CACHE_SHARED = "shared";
+    public static final String CACHE_MISS = "miss";
+
+    public static final String PATH_FEED_STREAM = "/api/general/v1/getFeedStream";
+    public static final String PATH_EPISODE_FEED_STREAM = "/api/drama/episode/v1/getEpisodeFeedStream";
+
+    private static final String HEADER_REVALIDATE = "X-App-Cache-Revalidate";
+    private static final int DISK_VERSION = 1;
+
+    public static class Policy {
+        /**
+         * Cached response is returned without network call within {@code freshMs}.
+         */
+        public final long freshMs;
+        /**
+         * Cached response older than {@code freshMs} but within {@code staleMs} is returned and
+         * revalidated in background. 0 disables stale-while-revalidate.
+         */
+        public final long staleMs;
+
+        private volatile long invalidateTime;
+
+        public Policy(long freshMs, long staleMs) {
+            this.freshMs = freshMs;
+            this.staleMs = Math.max(freshMs, staleMs);
+        }
+
+        boolean cacheable() {
+            return freshMs > 0;
+        }
+
+        boolean persistent() {
+            return staleMs > freshMs;
+        }
+    }
+
+    /**
+     * Policies by url path prefix. Endpoints without policy are passed through.
+     */
+    public static final Map<String, Policy> POLICIES = new LinkedHashMap<>();
+
+    static {
+        // Drama list changes rarely
+        POLICIES.put("/api/drama/v1/listDrama",
+                new Policy(TimeUnit.MINUTES.toMillis(1), TimeUnit.HOURS.toMillis(24)));
+        // Play auth tokens and play urls expire, expired urls are refreshed by AppUrlRefreshFetcher
+        POLICIES.put("/api/drama/episode/v1/getDramaEpisode",
+                new Policy(TimeUnit.MINUTES.toMillis(1), TimeUnit.MINUTES.toMillis(10)));
+        // Recommend feeds, only dedupe repeated loads of the same page. Refresh calls invalidate.
+        POLICIES.put(PATH_EPISODE_FEED_STREAM,
+                new Policy(TimeUnit.SECONDS.toMillis(30), 0));
+        POLICIES.put(PATH_FEED_STREAM,
+                new Policy(TimeUnit.SECONDS.toMillis(30), 0));
+        // Coalescing only
+        POLICIES.put("/api/cdn/v1/refreshUrl", new Policy(0, 0));
+    }
+
+    private final File mCacheDir;
+    private final ConcurrentHashMap<String, InFlight> mInFlights = new ConcurrentHashMap<>();
+    private final LinkedHashMap<String, Entry> mMemoryCache = new LinkedHashMap<>(16, 0.75f, true);
+    private volatile OkHttpClient mClient;
+
+    /**
+     * @param cacheDir disk cache directory. null for memory cache only.
+     */
+    public RemoteCacheInterceptor(@Nullable File cacheDir) {
+        this.mCacheDir = cacheDir;
+    }
+
+    void attach(OkHttpClient client) {
+        this.mClient = client;
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        final Request request = chain.request();
+        final Policy policy = ENABLE ? policy(request.url().encodedPath()) : null;
+        if (policy == null) {
+            return chain.proceed(request);
+        }
+        final boolean revalidate = request.header(HEADER_REVALIDATE) != null;
+        final Request networkRequest = revalidate ? request.newBuilder().removeHeader(HEADER_REVALIDATE).build() : request;
+        final String key = key(networkRequest);
+
+        if (!revalidate && policy.cacheable()) {
+            final Entry entry = getEntry(key);
+            if (entry != null && entry.storeTime > policy.invalidateTime) {
+                final long age = System.currentTimeMillis() - entry.storeTime;
+                if (age >= 0 && age < policy.freshMs) {
+                    return entry.toResponse(request, CACHE_HIT);
+                }
+                if (age >= 0 && age < policy.staleMs) {
+                    revalidateAsync(networkRequest);
+                    return entry.toResponse(request, CACHE_STALE);
+                }
+            }
+        }
+        return fetch(chain, networkRequest, key, policy);
+    }
+
+    private Response fetch(Chain chain, Request request, String key, Policy policy) throws IOException {
+        final InFlight created = new InFlight();
+        final InFlight inFlight = mInFlights.putIfAbsent(key, created);
+        if (inFlight != null) {
+            final Entry shared = inFlight.await(chain.connectTimeoutMillis() + chain.readTimeoutMillis());
+            if (shared != null) {
+                return shared.toResponse(request, CACHE_SHARED);
+            }
+            // Leader failed or was canceled, proceed by ourselves
+            return chain.proceed(request);
+        }
+        Entry entry = null;
+        try {
+            final Response response = chain.proceed(request);
+            final ResponseBody body = response.body();
+            if (body == null) {
+                return response;
+            }
+            final MediaType contentType = body.contentType();
+            final byte[] bytes = body.bytes();
+            entry = new Entry(System.currentTimeMillis(),
+                    response.code(),
+                    response.message(),
+                    contentType == null ? null : contentType.toString(),
+                    bytes);
+            if (response.isSuccessful() && policy.cacheable() && !isErrorBody(bytes)) {
+                putEntry(key, entry, policy.persistent());
+            }
+            return response.newBuilder()
+                    .header(HEADER_CACHE, CACHE_MISS)
+                    .body(ResponseBody.create(bytes, contentType))
+                    .build();
+        } finally {
+            mInFlights.remove(key, created);
+            created.complete(entry);
+        }
+    }
+
+    private void revalidateAsync(Request request) {
+        final OkHttpClient client = mClient;
+        if (client == null) return;
+        final String key = key(request);
+        if (mInFlights.containsKey(key)) return;
+        client.newCall(request.newBuilder().header(HEADER_REVALIDATE, "1").build()).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                L.d(RemoteCacheInterceptor.this, "revalidate", "failure", request.url().encodedPath(), e);
+            }
+
+            @Override
+            public void onResponse(@NonNull Call call, @NonNull Response response) {
+                response.close();
+            }
+        });
+    }
+
+    /**
+     * Cached responses of {@code path} stored before this call are not returned any more, eg: on
+     * pull-to-refresh. A request already in flight is still shared.
+     */
+    public static void invalidate(@NonNull String path) {
+        final Policy policy = policy(path);
+        if (policy != null) {
+            policy.invalidateTime = System.currentTimeMillis();
+        }
+    }
+
+    public void clear() {
+        synchronized (mMemoryCache) {
+            mMemoryCache.clear();
+        }
+        final File[] files = mCacheDir == null ? null : mCacheDir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+    }
+
+    @Nullable
+    private static Policy policy(String path) {
+        for (Map.Entry<String, Policy> entry : POLICIES.entrySet()) {
+            if (path.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static final String[] RESPONSE_NAMES = {"responseMetadata"};
+    private static final String[] RESPONSE_METADATA_NAMES = {"error"};
+
+    /**
+     * @return true if {@code body} carries {@link BaseResponse.ResponseMetaData#error} or is not a
+     * json object.
+     */
+    static boolean isErrorBody(byte[] body) {
+        try {
+            final JsonPullReader reader = new JsonPullReader(new String(body, StandardCharsets.UTF_8));
+            if (reader.peek() != JsonPullReader.BEGIN_OBJECT) return true;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.selectName(RESPONSE_NAMES) != 0
+                        || reader.peek() != JsonPullReader.BEGIN_OBJECT) {
+                    reader.skipValue();
+                    continue;
+                }
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (reader.selectName(RESPONSE_METADATA_NAMES) == 0) {
+                        return reader.peek() != JsonPullReader.NULL;
+                    }
+                    reader.skipValue();
+                }
+                return false;
+            }
+            return false;
+        } catch (JSONException e) {
+            return true;
+        }
+    }
+
+    private static String key(Request request) {
+        final StringBuilder sb = new StringBuilder(256);
+        sb.append(request.method()).append(' ').append(request.url());
+        final RequestBody body = request.body();
+        if (body != null) {
+            final Buffer buffer = new Buffer();
+            try {
+                body.writeTo(buffer);
+                sb.append('\n').append(buffer.readUtf8());
+            } catch (IOException ignore) {
+            }
+        }
+        return MD5.getMD5Hex(sb.toString());
+    }
+
+    @Nullable
+    private Entry getEntry(String key) {
+        synchronized (mMemoryCache) {
+            final Entry entry = mMemoryCache.get(key);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        final Entry entry = readDisk(key);
+        if (entry != null) {
+            putMemory(key, entry);
+        }
+        return entry;
+    }
+
+    private void putEntry(String key, Entry entry, boolean persistent) {
+        putMemory(key, entry);
+        if (persistent) {
+            writeDisk(key, entry);
+        }
+    }
+
+    private void putMemory(String key, Entry entry) {
+        synchronized (mMemoryCache) {
+            mMemoryCache.put(key, entry);
+            while (mMemoryCache.size() > MAX_MEMORY_ENTRIES) {
+                final String eldest = mMemoryCache.keySet().iterator().next();
+                mMemoryCache.remove(eldest);
+            }
+        }
+    }
+
+    @Nullable
+    private Entry readDisk(String key) {
+        if (mCacheDir == null) return null;
+        final File file = new File(mCacheDir, key);
+        if (!file.exists()) return null;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readInt() != DISK_VERSION) {
+                file.delete();
+                return null;
+            }
+            final long storeTime = in.readLong();
+            final int code = in.readInt();
+            final String message = in.readUTF();
+            final String contentType = in.readUTF();
+            final byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new Entry(storeTime, code, message, contentType.isEmpty() ? null : contentType, body);
+        } catch (IOException e) {
+            L.d(this, "readDisk", e, key);
+            file.delete();
+            return null;
+        }
+    }
+
+    private synchronized void writeDisk(String key, Entry entry) {
+        if (mCacheDir == null) return;
+        if (!mCacheDir.exists() && !mCacheDir.mkdirs()) return;
+        final File tmp = new File(mCacheDir, key + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tmp))) {
+            out.writeInt(DISK_VERSION);
+            out.writeLong(entry.storeTime);
+            out.writeInt(entry.code);
+            out.writeUTF(entry.message);
+            out.writeUTF(entry.contentType == null ? "" : entry.contentType);
+            out.writeInt(entry.body.length);
+            out.write(entry.body);
+        } catch (IOException e) {
+            L.d(this, "writeDisk", e, key);
+            tmp.delete();
+            return;
+        }
+        if (!tmp.renameTo(new File(mCacheDir, key))) {
+            tmp.delete();
+            return;
+        }
+        trimDisk();
+    }
+
+    private void trimDisk() {
+        final File[] files = mCacheDir.listFiles();
+        if (files == null || files.length <= MAX_DISK_ENTRIES) return;
+        Arrays.sort(files, (o1, o2) -> Long.compare(o1.lastModified(), o2.lastModified()));
+        for (int i = 0; i < files.length - MAX_DISK_ENTRIES; i++) {
+            files[i].delete();
+        }
+    }
+
+    private static final class Entry {
+        final long storeTime;
+        final int code;
+        final String message;
+        final String contentType;
+        final byte[] body;
+
+        Entry(long storeTime, int code, String message, String contentType, byte[] body) {
+            this.storeTime = storeTime;
+            this.code = code;
+            this.message = message;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        Response toResponse(Request request, String cache) {
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(code)
+                    .message(message)
+                    .header(HEADER_CACHE, cache)
+                    .body(ResponseBody.create(body, contentType == null ? null : MediaType.parse(contentType)))
+                    .sentRequestAtMillis(storeTime)
+                    .receivedResponseAtMillis(storeTime)
+                    .build();
+        }
+    }
+
+    private static final class InFlight {
+        private final CountDownLatch mLatch = new CountDownLatch(1);
+        private volatile Entry mEntry;
+
+        void complete(@Nullable Entry entry) {
+            mEntry = entry;
+            mLatch.countDown();
+        }
+
+        @Nullable
+        Entry await(long timeoutMs) {
+            try {
+                if (!mLatch.await(timeoutMs, TimeUnit.MILLISECONDS)) {
+                    return null;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            return mEntry;
+        }
+    }
+}
@@ -60,6 +60,13 @@ public class Params {
             return null;
         }
 
+        /**
+         * @param showThumbs true if the scene shows seek preview thumbs, see SpriteThumbPreview.
+         */
+        public static Boolean needThumbs(boolean showThumbs) {
+            return showThumbs ? Boolean.TRUE : needThumbs();
+        }
+
         public static Boolean enableBarrageMask() {
             return null;
         }
@@ -24,11 +24,17 @@ import androidx.annotation.Nullable;
 
 import com.bytedance.playerkit.player.source.MediaSource;
 import com.bytedance.playerkit.player.source.Subtitle;
+import com.bytedance.playerkit.utils.ExtraKey;
+import com.bytedance.playerkit.utils.Parser;
 import com.bytedance.volc.vod.scenekit.VideoSettings;
 import com.bytedance.volc.vod.scenekit.data.model.VideoItem;
 import com.bytedance.volc.vod.scenekit.ui.widgets.adatper.Item;
 import com.bytedance.volc.voddemo.data.remote.model.parser.PlayInfoJson2MediaSourceParser;
+import com.bytedance.volc.voddemo.data.remote.model.parser.PlayInfoJson2MediaSourceStreamParser;
 import com.bytedance.volc.voddemo.data.remote.model.parser.SubtitleInfoJson2SubtitleListParser;
+import com.bytedance.volc.voddemo.data.remote.model.parser.SubtitleInfoJson2SubtitleListStreamParser;
+
+import org.json.JSONException;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -37,6 +43,12 @@ import java.util.List;
 
 public class BaseVideo implements Serializable {
     public static final String EXTRA_BASE_VIDEO = "extra_base_video";
+    public static final ExtraKey<BaseVideo> KEY_BASE_VIDEO = ExtraKey.of(EXTRA_BASE_VIDEO, BaseVideo.class);
+    /**
+     * Parse PlayInfo/SubtitleInfo json with the streaming parsers instead of building JSONObject trees.
+     */
+    public static boolean ENABLE_STREAMING_JSON_PARSER = true;
+
     public String vid;
     public String videoUrl;
     public String videoModel;
@@ -54,7 +66,9 @@ public class BaseVideo implements Serializable {
         // Demonstrate parse SubtitleInfo JSON to PlayerKit Subtitle Model
         // You should implement your own Parser with your AppServer data structure.
         final List<Subtitle> subtitles = TextUtils.isEmpty(video.subtitleModel) ? null :
-                new SubtitleInfoJson2SubtitleListParser(video.subtitleModel).safeParse();
+                safeParse(ENABLE_STREAMING_JSON_PARSER ?
+                        new SubtitleInfoJson2SubtitleListStreamParser(video.subtitleModel) :
+                        new SubtitleInfoJson2SubtitleListParser(video.subtitleModel));
 
         if (!TextUtils.isEmpty(video.playAuthToken)) {
             // vid + playAuthToken
@@ -84,7 +98,9 @@ public class BaseVideo implements Serializable {
                 case VideoSettings.SourceType.SOURCE_TYPE_URL: {
                     // Demonstrate parse VideoModel JSON to PlayerKit MediaSource object
                     // You should implement your own Parser with your AppServer data structure.
-                    final MediaSource source = new PlayInfoJson2MediaSourceParser(video.videoModel).safeParse();
+                    final MediaSource source = safeParse(ENABLE_STREAMING_JSON_PARSER ?
+                            new PlayInfoJson2MediaSourceStreamParser(video.videoModel) :
+                            new PlayInfoJson2MediaSourceParser(video.videoModel));
                     if (source == null) return null;
                     return VideoItem.createMultiStreamUrlItem(
                             video.vid,
@@ -116,13 +132,23 @@ public class BaseVideo implements Serializable {
         }
     }
 
+    @Nullable
+    private static <T> T safeParse(Parser<T> parser) {
+        try {
+            return parser.parse();
+        } catch (JSONException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
     @Nullable
     public static VideoItem toVideoItem(BaseVideo video) {
         if (video == null) return null;
 
         VideoItem videoItem = createVideoItem(video);
         if (videoItem != null) {
-            videoItem.putExtra(EXTRA_BASE_VIDEO, video);
+            videoItem.putExtra(KEY_BASE_VIDEO, video);
         }
         return videoItem;
     }
@@ -150,6 +176,6 @@ public class BaseVideo implements Serializable {
     public static <T extends BaseVideo> T get(Item item) {
         if (!(item instanceof VideoItem)) return null;
         VideoItem videoItem = (VideoItem) item;
-        return (T) videoItem.getExtra(EXTRA_BASE_VIDEO, BaseVideo.class);
+        return (T) videoItem.getExtra(KEY_BASE_VIDEO);
     }
 }
@@ -21,6 +21,7 @@ package com.bytedance.volc.voddemo.data.remote.model.parser;
 import android.text.TextUtils;
 
 import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.playerkit.player.source.SpriteThumb;
 import com.bytedance.playerkit.player.source.Track;
 import com.bytedance.playerkit.player.volcengine.Mapper;
 import com.bytedance.playerkit.utils.Numbers;
@@ -75,9 +76,45 @@ public class PlayInfoJson2MediaSourceParser implements Parser<MediaSource> {
         mediaSource.setMediaType(fileType2MediaType(fileType));
         mediaSource.setSupportABR(enableAdaptive);
         mediaSource.setSegmentType(adaptiveType2SegmentType(parseAdaptiveType(result)));
+        mediaSource.setSpriteThumb(parseSpriteThumb(thumbInfoList));
         return mediaSource;
     }
 
+    /**
+     * @return first valid sprite thumb of {@code ThumbInfoList}.
+     * @see <a href="https://www.volcengine.com/docs/4/2918#vodthumbinfo">VodThumbInfo</a>
+     */
+    public static SpriteThumb parseSpriteThumb(JSONArray thumbInfoList) {
+        if (thumbInfoList == null) return null;
+        for (int i = 0; i < thumbInfoList.length(); i++) {
+            JSONObject thumbInfo = thumbInfoList.optJSONObject(i);
+            if (thumbInfo == null) continue;
+            JSONArray storeUrls = thumbInfo.optJSONArray("StoreUrls");
+            List<String> urls = new ArrayList<>();
+            if (storeUrls != null) {
+                for (int j = 0; j < storeUrls.length(); j++) {
+                    String url = storeUrls.optString(j);
+                    if (!TextUtils.isEmpty(url)) {
+                        urls.add(url);
+                    }
+                }
+            }
+            SpriteThumb spriteThumb = new SpriteThumb();
+            spriteThumb.setUrls(urls);
+            spriteThumb.setCaptureNum(thumbInfo.optInt("CaptureNum"));
+            spriteThumb.setCellWidth(thumbInfo.optInt("CellWidth"));
+            spriteThumb.setCellHeight(thumbInfo.optInt("CellHeight"));
+            spriteThumb.setImgXLen(thumbInfo.optInt("ImgXLen"));
+            spriteThumb.setImgYLen(thumbInfo.optInt("ImgYLen"));
+            spriteThumb.setInterval((long) (thumbInfo.optDouble("Interval", 0) * 1000));
+            spriteThumb.setFormat(thumbInfo.optString("Format"));
+            if (spriteThumb.isValid()) {
+                return spriteThumb;
+            }
+        }
+        return null;
+    }
+
     private List<Track> parseTracks(JSONObject result) {
         if (result == null) return null;
         JSONArray playInfoList = result.optJSONArray("PlayInfoList"); // 播放地址列表
@@ -214,7 +251,7 @@ public class PlayInfoJson2MediaSourceParser implements Parser<MediaSource> {
         return adaptiveInfo.optString("AdaptiveType");
     }
 
-    private static int adaptiveType2SegmentType(String adaptiveType) {
+    public static int adaptiveType2SegmentType(String adaptiveType) {
         if (TextUtils.isEmpty(adaptiveType)) {
             return -1;
         }
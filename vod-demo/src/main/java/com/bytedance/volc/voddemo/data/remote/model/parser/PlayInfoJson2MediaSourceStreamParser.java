@@ -0,0 +1,357 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.voddemo.data.remote.model.parser;
+
+import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.playerkit.player.source.SpriteThumb;
+import com.bytedance.playerkit.player.source.Track;
+import com.bytedance.playerkit.player.volcengine.Mapper;
+import com.bytedance.playerkit.utils.JsonPullReader;
+import com.bytedance.playerkit.utils.Numbers;
+import com.bytedance.playerkit.utils.Parser;
+
+import org.json.JSONException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streaming version of {@link PlayInfoJson2MediaSourceParser}. Produces the same {@link MediaSource}
+ * while reading the json with {@link JsonPullReader}, unused fields are skipped without being parsed.
+ */
+public class PlayInfoJson2MediaSourceStreamParser implements Parser<MediaSource> {
+
+    private static final String[] PLAY_INFO_MODEL_NAMES = {
+            "Vid", "Duration", "FileType", "EnableAdaptive", "PosterUrl", "PlayInfoList", "AdaptiveInfo",
+            "ThumbInfoList"
+    };
+
+    private static final String[] PLAY_INFO_NAMES = {
+            "MainPlayUrl", "BackupPlayUrl", "FileId", "Md5", "FileType", "Quality", "Definition",
+            "Format", "Codec", "Bitrate", "Width", "Height", "Size", "IndexRange", "InitRange",
+            "PlayAuth", "PlayAuthId"
+    };
+
+    private static final String[] ADAPTIVE_INFO_NAMES = {"AdaptiveType"};
+
+    private static final String[] THUMB_INFO_NAMES = {
+            "StoreUrls", "CaptureNum", "CellWidth", "CellHeight", "ImgXLen", "ImgYLen", "Interval",
+            "Format"
+    };
+
+    public final String mPlayInfoJson;
+
+    public PlayInfoJson2MediaSourceStreamParser(String playInfoJson) {
+        this.mPlayInfoJson = playInfoJson;
+    }
+
+    public MediaSource safeParse() {
+        try {
+            return parse();
+        } catch (JSONException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * @see <a href="https://www.volcengine.com/docs/4/2918#vodplayinfomodel">VodPlayInfoModel</a>
+     */
+    @Override
+    public MediaSource parse() throws JSONException {
+        if (mPlayInfoJson == null) throw new JSONException("json is null");
+
+        final JsonPullReader reader = new JsonPullReader(mPlayInfoJson);
+        String vid = "";
+        String duration = "";
+        String fileType = "";
+        boolean enableAdaptive = false;
+        String posterUrl = "";
+        List<Track> tracks = null;
+        String adaptiveType = null;
+        SpriteThumb spriteThumb = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(PLAY_INFO_MODEL_NAMES)) {
+                case 0:
+                    vid = reader.optString("");
+                    break;
+                case 1:
+                    duration = reader.optString("");
+                    break;
+                case 2:
+                    fileType = reader.optString("");
+                    break;
+                case 3:
+                    enableAdaptive = reader.optBoolean(false);
+                    break;
+                case 4:
+                    posterUrl = reader.optString("");
+                    break;
+                case 5:
+                    tracks = parseTracks(reader);
+                    break;
+                case 6:
+                    adaptiveType = parseAdaptiveType(reader);
+                    break;
+                case 7:
+                    spriteThumb = parseSpriteThumb(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        final long durationMs = (long) (Numbers.safeParseFloat(duration, 0f) * 1000);
+        if (tracks != null) {
+            for (Track track : tracks) {
+                track.setDuration(durationMs);
+            }
+        }
+
+        MediaSource mediaSource = new MediaSource(vid, MediaSource.SOURCE_TYPE_URL);
+        mediaSource.setMediaProtocol(PlayInfoJson2MediaSourceParser.findProtocolFromTracks(tracks));
+        mediaSource.setTracks(tracks);
+        mediaSource.setCoverUrl(posterUrl);
+        mediaSource.setDuration(durationMs);
+        mediaSource.setMediaType(PlayInfoJson2MediaSourceParser.fileType2MediaType(fileType));
+        mediaSource.setSupportABR(enableAdaptive);
+        mediaSource.setSegmentType(PlayInfoJson2MediaSourceParser.adaptiveType2SegmentType(adaptiveType));
+        mediaSource.setSpriteThumb(spriteThumb);
+        return mediaSource;
+    }
+
+    private static List<Track> parseTracks(JsonPullReader reader) throws JSONException {
+        if (reader.peek() != JsonPullReader.BEGIN_ARRAY) {
+            reader.skipValue();
+            return null;
+        }
+        List<Track> tracks = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() == JsonPullReader.BEGIN_OBJECT) {
+                tracks.add(playInfo2Track(reader));
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endArray();
+        return tracks;
+    }
+
+    /**
+     * @see PlayInfoJson2MediaSourceParser#playInfo2Track
+     */
+    private static Track playInfo2Track(JsonPullReader reader) throws JSONException {
+        String mainPlayUrl = "";
+        String backupPlayUrl = "";
+        String fileId = "";
+        String md5 = "";
+        String fileType = "";
+        String quality = "";
+        String definition = "";
+        String format = "";
+        String codec = "";
+        int bitrate = 0;
+        int width = 0;
+        int height = 0;
+        long size = 0;
+        String indexRange = "";
+        String initRange = "";
+        String playAuth = "";
+        String playAuthId = "";
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(PLAY_INFO_NAMES)) {
+                case 0:
+                    mainPlayUrl = reader.optString("");
+                    break;
+                case 1:
+                    backupPlayUrl = reader.optString("");
+                    break;
+                case 2:
+                    fileId = reader.optString("");
+                    break;
+                case 3:
+                    md5 = reader.optString("");
+                    break;
+                case 4:
+                    fileType = reader.optString("");
+                    break;
+                case 5:
+                    quality = reader.optString("");
+                    break;
+                case 6:
+                    definition = reader.optString("");
+                    break;
+                case 7:
+                    format = reader.optString("");
+                    break;
+                case 8:
+                    codec = reader.optString("");
+                    break;
+                case 9:
+                    bitrate = reader.optInt(0);
+                    break;
+                case 10:
+                    width = reader.optInt(0);
+                    break;
+                case 11:
+                    height = reader.optInt(0);
+                    break;
+                case 12:
+                    size = reader.optLong(0);
+                    break;
+                case 13:
+                    indexRange = reader.optString("");
+                    break;
+                case 14:
+                    initRange = reader.optString("");
+                    break;
+                case 15:
+                    playAuth = reader.optString("");
+                    break;
+                case 16:
+                    playAuthId = reader.optString("");
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        Track track = new Track();
+        track.setUrl(mainPlayUrl);
+        track.setBackupUrls(Arrays.asList(backupPlayUrl));
+        track.setFileId(fileId);
+        track.setFileHash(md5);
+        @Track.TrackType final int trackType = PlayInfoJson2MediaSourceParser.fileType2TrackType(fileType);
+        track.setTrackType(trackType);
+        track.setQuality(Mapper.definition2Quality(trackType, trackType == Track.TRACK_TYPE_AUDIO ? quality : definition));
+        track.setFormat(PlayInfoJson2MediaSourceParser.format2Format(format));
+        track.setEncoderType(Mapper.videoModelEncodeType2TrackEncodeType(codec));
+        track.setBitrate(bitrate);
+        track.setVideoWidth(width);
+        track.setVideoHeight(height);
+        track.setFileSize(size);
+        track.setIndexRange(indexRange);
+        track.setInitRange(initRange);
+        track.setEncryptedKey(playAuth);
+        track.setEncryptedKeyId(playAuthId);
+        return track;
+    }
+
+    private static String parseAdaptiveType(JsonPullReader reader) throws JSONException {
+        if (reader.peek() != JsonPullReader.BEGIN_OBJECT) {
+            reader.skipValue();
+            return null;
+        }
+        String adaptiveType = "";
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.selectName(ADAPTIVE_INFO_NAMES) == 0) {
+                adaptiveType = reader.optString("");
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return adaptiveType;
+    }
+
+    /**
+     * @see PlayInfoJson2MediaSourceParser#parseSpriteThumb
+     */
+    private static SpriteThumb parseSpriteThumb(JsonPullReader reader) throws JSONException {
+        if (reader.peek() != JsonPullReader.BEGIN_ARRAY) {
+            reader.skipValue();
+            return null;
+        }
+        SpriteThumb result = null;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (result != null || reader.peek() != JsonPullReader.BEGIN_OBJECT) {
+                reader.skipValue();
+                continue;
+            }
+            final SpriteThumb spriteThumb = new SpriteThumb();
+            final List<String> urls = new ArrayList<>();
+            spriteThumb.setUrls(urls);
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.selectName(THUMB_INFO_NAMES)) {
+                    case 0:
+                        parseUrls(reader, urls);
+                        break;
+                    case 1:
+                        spriteThumb.setCaptureNum(reader.optInt(0));
+                        break;
+                    case 2:
+                        spriteThumb.setCellWidth(reader.optInt(0));
+                        break;
+                    case 3:
+                        spriteThumb.setCellHeight(reader.optInt(0));
+                        break;
+                    case 4:
+                        spriteThumb.setImgXLen(reader.optInt(0));
+                        break;
+                    case 5:
+                        spriteThumb.setImgYLen(reader.optInt(0));
+                        break;
+                    case 6:
+                        spriteThumb.setInterval((long) (reader.optDouble(0) * 1000));
+                        break;
+                    case 7:
+                        spriteThumb.setFormat(reader.optString(""));
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            reader.endObject();
+            if (spriteThumb.isValid()) {
+                result = spriteThumb;
+            }
+        }
+        reader.endArray();
+        return result;
+    }
+
+    private static void parseUrls(JsonPullReader reader, List<String> urls) throws JSONException {
+        if (reader.peek() != JsonPullReader.BEGIN_ARRAY) {
+            reader.skipValue();
+            return;
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            final String url = reader.optString("");
+            if (url != null && !url.isEmpty()) {
+                urls.add(url);
+            }
+        }
+        reader.endArray();
+    }
+}
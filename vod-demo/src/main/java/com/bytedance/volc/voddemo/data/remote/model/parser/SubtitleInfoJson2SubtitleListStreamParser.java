@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.voddemo.data.remote.model.parser;
+
+import android.text.TextUtils;
+
+import com.bytedance.playerkit.player.source.Subtitle;
+import com.bytedance.playerkit.player.volcengine.VolcPlayerInit;
+import com.bytedance.playerkit.utils.JsonPullReader;
+import com.bytedance.playerkit.utils.Parser;
+
+import org.json.JSONException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming version of {@link SubtitleInfoJson2SubtitleListParser}.
+ *
+ * @see <a href="https://www.volcengine.com/docs/4/70518">SubtitleInfoList</a>
+ */
+public class SubtitleInfoJson2SubtitleListStreamParser implements Parser<List<Subtitle>> {
+
+    private static final String[] SUBTITLE_INFO_NAMES = {
+            "Format", "SubtitleUrl", "Language", "LanguageId", "SubtitleId"
+    };
+
+    private final String mSubtitleInfoJson;
+
+    public SubtitleInfoJson2SubtitleListStreamParser(String subtitleInfoJson) {
+        this.mSubtitleInfoJson = subtitleInfoJson;
+    }
+
+    @Override
+    public List<Subtitle> parse() throws JSONException {
+        if (TextUtils.isEmpty(mSubtitleInfoJson)) {
+            return null;
+        }
+        final JsonPullReader reader = new JsonPullReader(mSubtitleInfoJson);
+        List<Subtitle> subtitles = null;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() != JsonPullReader.BEGIN_OBJECT) {
+                reader.skipValue();
+                continue;
+            }
+            if (subtitles == null) {
+                subtitles = new ArrayList<>();
+            }
+            subtitles.add(parseSubtitle(reader));
+        }
+        reader.endArray();
+        return subtitles;
+    }
+
+    public List<Subtitle> safeParse() {
+        try {
+            return parse();
+        } catch (JSONException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    private static Subtitle parseSubtitle(JsonPullReader reader) throws JSONException {
+        String format = "";
+        String url = "";
+        String language = "";
+        int languageId = 0;
+        int subtitleId = 0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(SUBTITLE_INFO_NAMES)) {
+                case 0:
+                    format = reader.optString("");
+                    break;
+                case 1:
+                    url = reader.optString("");
+                    break;
+                case 2:
+                    language = reader.optString("");
+                    break;
+                case 3:
+                    languageId = reader.optInt(0);
+                    break;
+                case 4:
+                    subtitleId = reader.optInt(0);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        Subtitle subtitle = new Subtitle();
+        subtitle.setUrl(url);
+        subtitle.setCacheKey(VolcPlayerInit.config().cacheKeyFactory.generateCacheKey(url));
+        subtitle.setLanguageId(languageId);
+        subtitle.setFormat(format);
+        subtitle.setLanguage(language);
+        subtitle.setSubtitleId(subtitleId);
+        return subtitle;
+    }
+}
@@ -24,6 +24,7 @@ import androidx.annotation.NonNull;
 
 import com.bytedance.volc.vod.scenekit.VideoSettings;
 import com.bytedance.volc.voddemo.data.remote.RemoteApi;
+import com.bytedance.volc.voddemo.data.remote.RemoteCacheInterceptor;
 import com.bytedance.volc.voddemo.data.remote.model.Params;
 import com.bytedance.volc.voddemo.data.remote.model.drama.EpisodeVideo;
 import com.bytedance.volc.voddemo.data.remote.model.drama.GetEpisodeFeedStreamRequest;
@@ -45,6 +46,10 @@ public class GetEpisodeRecommend implements GetEpisodeRecommendApi {
     @Override
     public void getRecommendEpisodeVideoItems(int pageIndex, int pageSize, RemoteApi.Callback<List<EpisodeVideo>> callback) {
         final RemoteApi.HandlerCallback<List<EpisodeVideo>> mainCallback = new RemoteApi.HandlerCallback<>(callback);
+        if (pageIndex == 0) {
+            // first page is loaded by refresh, skip the responses cached for load more dedupe
+            RemoteCacheInterceptor.invalidate(RemoteCacheInterceptor.PATH_EPISODE_FEED_STREAM);
+        }
         final String account = VideoSettings.stringValue(VideoSettings.DRAMA_VIDEO_SCENE_ACCOUNT_ID);
         final GetEpisodeFeedStreamRequest request = new GetEpisodeFeedStreamRequest(
                 account,
@@ -23,6 +23,7 @@ import static com.bytedance.volc.voddemo.ui.minidrama.scene.detail.DramaDetailVi
 import static com.bytedance.volc.voddemo.ui.minidrama.scene.detail.DramaDetailVideoActivityResultContract.EXTRA_OUTPUT;
 import static com.bytedance.volc.voddemo.ui.minidrama.scene.detail.DramaEpisodePayDialogFragment.ACTION_DRAMA_EPISODE_PAY_DIALOG_EPISODE_UNLOCKED;
 import static com.bytedance.volc.voddemo.ui.minidrama.scene.detail.DramaEpisodeSelectDialogFragment.ACTION_DRAMA_EPISODE_SELECT_DIALOG_EPISODE_NUMBER_ITEM_CLICK;
+import static com.bytedance.volc.voddemo.ui.minidrama.scene.detail.DramaEpisodeSelectDialogFragment.EXTRA_EPISODE_NUMBER;
 import static com.bytedance.volc.voddemo.ui.minidrama.scene.detail.DramaEpisodeSelectDialogFragment.EXTRA_ITEM;
 import static com.bytedance.volc.voddemo.ui.minidrama.scene.widgets.layer.DramaVideoLayer.ACTION_DRAMA_VIDEO_LAYER_SHOW_PAY_DIALOG;
 import static com.bytedance.volc.voddemo.ui.video.scene.pipvideo.PipVideoController.PipVideoConfig;
@@ -69,7 +70,6 @@ import com.bytedance.volc.vod.scenekit.ui.video.scene.shortvideo.ShortVideoScene
 import com.bytedance.volc.vod.scenekit.ui.video.viewholder.ViewHolderAction;
 import com.bytedance.volc.vod.scenekit.ui.widgets.adatper.Item;
 import com.bytedance.volc.vod.scenekit.ui.widgets.adatper.ViewHolder;
-import com.bytedance.volc.voddemo.data.remote.RemoteApi;
 import com.bytedance.volc.voddemo.data.remote.model.drama.EpisodeVideo;
 import com.bytedance.volc.voddemo.impl.R;
 import com.bytedance.volc.voddemo.mock.ad.MockShortVideoAdVideoView;
@@ -99,6 +99,7 @@ public class DramaDetailVideoFragment extends BaseFragment {
     private int mCurrentDramaIndex;
     private boolean mContinuesPlayback;
     private GetDramaDetailMultiItemsApi mRemoteApi;
+    private DramaEpisodeWindowLoader mEpisodeLoader;
     private ShortVideoSceneView mSceneView;
     private EpisodeSelectorViewHolder mEpisodeSelector;
     private SpeedIndicatorViewHolder mSpeedIndicator;
@@ -259,6 +260,23 @@ public class DramaDetailVideoFragment extends BaseFragment {
         mSceneView.setRefreshEnabled(false);
         mSceneView.setLoadMoreEnabled(true);
         mSceneView.setOnLoadMoreListener(this::load);
+        mEpisodeLoader = new DramaEpisodeWindowLoader(mRemoteApi, mSceneView.pageView(), new DramaEpisodeWindowLoader.Listener() {
+            @Override
+            public void onEpisodesLoaded(@NonNull DramaItem dramaItem) {
+                if (getActivity() == null) return;
+                mSceneView.dismissLoadingMore();
+                if (mDramaItems != null && mDramaItems.get(mCurrentDramaIndex) == dramaItem) {
+                    syncEpisodeSelectDialog(dramaItem);
+                }
+            }
+
+            @Override
+            public void onLoadError(@NonNull DramaItem dramaItem, @NonNull Exception e) {
+                if (getActivity() == null) return;
+                mSceneView.dismissLoadingMore();
+                Toast.makeText(getActivity(), String.valueOf(e), Toast.LENGTH_LONG).show();
+            }
+        });
         mSceneView.pageView().viewPager().registerOnPageChangeCallback(new ViewPager2.OnPageChangeCallback() {
             @Override
             public void onPageSelected(int position) {
@@ -271,6 +289,7 @@ public class DramaDetailVideoFragment extends BaseFragment {
                 } else if (item instanceof VideoItem) {
                     final EpisodeVideo episode = EpisodeVideo.get(item);
                     final String dramaId = EpisodeVideo.getDramaId(episode);
+                    mEpisodeLoader.onEpisodeSelected(dramaId, EpisodeVideo.getEpisodeNumber(episode));
                     DramaItem currentDrama = mDramaItems.get(mCurrentDramaIndex);
                     if (currentDrama == null) {
                         return;
@@ -420,14 +439,16 @@ public class DramaDetailVideoFragment extends BaseFragment {
 
         if (initDramaItem.currentItem == null) {
             if (initDramaItem.dramaInfo != null) {
-                load(initDramaItem);
+                mSceneView.showLoadingMore();
+                mEpisodeLoader.start(initDramaItem, initDramaItem.currentEpisodeNumber);
             }
         } else {
             final List<Item> items = new ArrayList<>();
             items.add(initDramaItem.currentItem);
             setItems(items, false);
             onDramaEpisodeChanged(initDramaItem);
-            load(initDramaItem);
+            mSceneView.showLoadingMore();
+            mEpisodeLoader.start(initDramaItem, EpisodeVideo.getEpisodeNumber(EpisodeVideo.get(initDramaItem.currentItem)));
         }
     }
 
@@ -438,13 +459,6 @@ public class DramaDetailVideoFragment extends BaseFragment {
         mSceneView.pageView().setItems(items, isPlay);
     }
 
-    private void appendItems(List<Item> items) {
-        List<VideoItem> videoItems = VideoItem.findVideoItems(items);
-        VideoItem.tag(videoItems, PlayScene.map(PlayScene.SCENE_SHORT), null);
-        VideoItem.syncProgress(videoItems, true);
-        mSceneView.pageView().appendItems(items);
-    }
-
     private void onEpisodePayResultUnlocked(EpisodeVideo unlockedEpisode) {
         final VideoItem unlockedVideoItem = EpisodeVideo.toVideoItem(unlockedEpisode);
         VideoItem.tag(unlockedVideoItem, PlayScene.map(PlayScene.SCENE_SHORT), null);
@@ -461,13 +475,7 @@ public class DramaDetailVideoFragment extends BaseFragment {
         }
 
         // 1. replace unlocked videoItem in dramaItem.episodeVideoItems
-        for (int i = 0; i < dramaItem.episodeVideoItems.size(); i++) {
-            final Item item = dramaItem.episodeVideoItems.get(i);
-            if (ItemHelper.comparator().compare(item, unlockedVideoItem)) {
-                dramaItem.episodeVideoItems.set(i, unlockedVideoItem);
-                break;
-            }
-        }
+        mEpisodeLoader.replace(dramaItem, unlockedVideoItem);
 
         // 2. refresh dramaItem.currentItem and dramaItem.lastUnlockedItem
         if (ItemHelper.comparator().compare(dramaItem.currentItem, unlockedVideoItem)) {
@@ -516,6 +524,13 @@ public class DramaDetailVideoFragment extends BaseFragment {
         }
     }
 
+    private void onSelectDramaEpisodeNumberClicked(int episodeNumber) {
+        if (mDramaItems == null) return;
+        final DramaItem dramaItem = mDramaItems.get(mCurrentDramaIndex);
+        if (dramaItem == null || dramaItem.dramaInfo == null) return;
+        mEpisodeLoader.jumpTo(dramaItem, episodeNumber);
+    }
+
     private VideoView getCurrentVideoView() {
         final ViewHolder viewHolder = mSceneView.pageView().getCurrentViewHolder();
         if (viewHolder instanceof DramaEpisodeVideoViewHolder) {
@@ -567,75 +582,27 @@ public class DramaDetailVideoFragment extends BaseFragment {
         }
     }
 
-    private void setCurrentItemByEpisodeNumber(int episodeNumber) {
-        final int position = EpisodeVideo.episodeNumber2VideoItemIndex(mSceneView.pageView().getItems(), episodeNumber);
-        mSceneView.pageView().setCurrentItem(position, false);
-    }
-
     private void load() {
         if (mSceneView.isLoadingMore()) {
             return;
         }
         if (mDramaItems == null) return;
 
-        DramaItem dramaItem = null;
         int index = mCurrentDramaIndex;
         while (index < mDramaItems.size()) {
             final DramaItem item = mDramaItems.get(index);
-            if (item == null) {
+            if (item == null || item.dramaInfo == null) {
                 return;
             }
-            if (item.episodesAllLoaded) {
-                index++;
-            } else {
-                dramaItem = item;
-                break;
+            if (mEpisodeLoader.loadMore(item)) {
+                mSceneView.showLoadingMore();
+                L.d(this, "load", "start", DramaItem.dump(item));
+                return;
             }
+            index++;
         }
-        if (dramaItem == null) {
-            mSceneView.finishLoadingMore();
-            L.d(this, "load", "end");
-            return;
-        }
-        load(dramaItem);
-    }
-
-    private void load(@NonNull DramaItem dramaItem) {
-        mSceneView.showLoadingMore();
-        L.d(this, "load", "start", DramaItem.dump(dramaItem));
-        mRemoteApi.getDramaDetail(0, -1, dramaItem.dramaInfo.dramaId, null, new RemoteApi.Callback<List<Item>>() {
-            @Override
-            public void onSuccess(List<Item> items) {
-                L.d(this, "load", "success", DramaItem.dump(dramaItem), ItemHelper.dump(items));
-                if (getActivity() == null) return;
-                if (mDramaItems == null) return;
-
-                mSceneView.dismissLoadingMore();
-                dramaItem.episodeVideoItems = items;
-                dramaItem.episodesAllLoaded = true;
-                final DramaItem initDrama = mDramaItems.get(mInitDramaIndex);
-                if (dramaItem == initDrama) {
-                    // isPlay set "false" at update list, startPlayback will be triggered in onPageSelected adapter update complete
-                    setItems(items, false);
-                    if (dramaItem.currentEpisodeNumber >= 1) {
-                        // currentEpisodeNumber >= 1 in blew scene:
-                        // 1. DramaTheaterFragment -> DramaDetailVideoFragment
-                        // 2. DramaRecommendVideoFragment(play complete auto jump into) -> DramaDetailVideoFragment
-                        setCurrentItemByEpisodeNumber(dramaItem.currentEpisodeNumber);
-                    }
-                } else {
-                    appendItems(items);
-                }
-            }
-
-            @Override
-            public void onError(Exception e) {
-                L.e(this, "load", e, "error", DramaItem.dump(dramaItem));
-                if (getActivity() == null) return;
-                mSceneView.dismissLoadingMore();
-                Toast.makeText(getActivity(), String.valueOf(e), Toast.LENGTH_LONG).show();
-            }
-        });
+        mSceneView.finishLoadingMore();
+        L.d(this, "load", "end");
     }
 
 
@@ -650,6 +617,8 @@ public class DramaDetailVideoFragment extends BaseFragment {
                     final Item item = (Item) intent.getSerializableExtra(EXTRA_ITEM);
                     if (item != null) {
                         onSelectDramaEpisodeItemClicked(item);
+                    } else {
+                        onSelectDramaEpisodeNumberClicked(intent.getIntExtra(EXTRA_EPISODE_NUMBER, -1));
                     }
                     break;
                 }
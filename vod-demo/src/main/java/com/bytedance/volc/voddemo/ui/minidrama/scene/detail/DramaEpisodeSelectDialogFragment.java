@@ -49,6 +49,7 @@ public class DramaEpisodeSelectDialogFragment extends BaseBottomDialogFragment {
 
     public static final String ACTION_DRAMA_EPISODE_SELECT_DIALOG_EPISODE_NUMBER_ITEM_CLICK = "action_drama_episode_select_dialog_click";
     public static final String EXTRA_ITEM = "extra_video_item";
+    public static final String EXTRA_EPISODE_NUMBER = "extra_episode_number";
     public static final String EXTRA_DRAMA_ITEM = "extra_drama_item";
 
     public static DramaEpisodeSelectDialogFragment newInstance(DramaItem dramaItem) {
@@ -93,11 +94,16 @@ public class DramaEpisodeSelectDialogFragment extends BaseBottomDialogFragment {
     }
 
     private void onEpisodeNumberItemClick(ItemAdapter.ViewHolder holder) {
-        VideoItem videoItem = (VideoItem) holder.itemView.getTag();
-        if (videoItem == null) return;
-
+        final Object tag = holder.itemView.getTag();
         Intent intent = new Intent(ACTION_DRAMA_EPISODE_SELECT_DIALOG_EPISODE_NUMBER_ITEM_CLICK);
-        intent.putExtra(EXTRA_ITEM, videoItem);
+        if (tag instanceof VideoItem) {
+            intent.putExtra(EXTRA_ITEM, (VideoItem) tag);
+        } else if (tag instanceof Integer) {
+            // episode not loaded yet
+            intent.putExtra(EXTRA_EPISODE_NUMBER, (int) (Integer) tag);
+        } else {
+            return;
+        }
         LocalBroadcastManager.getInstance(requireActivity()).sendBroadcast(intent);
         holder.itemView.postDelayed(this::dismiss, 100); // delay 100MS would make selection changing be visible
     }
@@ -194,6 +200,12 @@ public class DramaEpisodeSelectDialogFragment extends BaseBottomDialogFragment {
 
                 final int itemIndex = adapterPosition2ItemIndex(position, dramaItem.episodeVideoItems);
                 if (itemIndex >= dramaItem.episodeVideoItems.size() || itemIndex < 0) {
+                    final int episodeNumber = adapterPosition2EpisodeNumber(position);
+                    indexView.setText(String.valueOf(episodeNumber));
+                    playingView.setVisibility(View.GONE);
+                    itemView.setSelected(false);
+                    lockView.setVisibility(View.GONE);
+                    itemView.setTag(episodeNumber);
                     return;
                 }
                 final Item item = dramaItem.episodeVideoItems.get(itemIndex);
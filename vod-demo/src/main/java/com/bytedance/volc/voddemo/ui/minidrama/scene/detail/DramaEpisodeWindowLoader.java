@@ -0,0 +1,350 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.voddemo.ui.minidrama.scene.detail;
+
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.playerkit.utils.L;
+import com.bytedance.volc.vod.scenekit.data.model.VideoItem;
+import com.bytedance.volc.vod.scenekit.data.utils.ItemHelper;
+import com.bytedance.volc.vod.scenekit.ui.video.scene.PlayScene;
+import com.bytedance.volc.vod.scenekit.ui.video.scene.shortvideo.ShortVideoPageView;
+import com.bytedance.volc.vod.scenekit.ui.widgets.adatper.Item;
+import com.bytedance.volc.voddemo.data.remote.RemoteApi;
+import com.bytedance.volc.voddemo.data.remote.model.drama.EpisodeVideo;
+import com.bytedance.volc.voddemo.ui.minidrama.data.business.model.DramaItem;
+import com.bytedance.volc.voddemo.ui.minidrama.data.remote.api.GetDramaDetailMultiItemsApi;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Loads episodes of dramas into {@link ShortVideoPageView} page by page instead of fetching a
+ * whole drama at once.
+ * <p>
+ * The page around the playing episode is fetched first, adjacent pages are prefetched when the
+ * selected episode gets within {@link #PREFETCH_DISTANCE} of the loaded window edge, and pages far
+ * from the playing episode are dropped once a drama holds more than {@link #MAX_WINDOW_PAGES}.
+ * Episodes in the pager are always contiguous: only head pages of the first drama and tail pages
+ * of the last drama in the pager are dropped.
+ * <p>
+ * {@link DramaItem#episodeVideoItems} holds the loaded window of a drama,
+ * {@link DramaItem#episodesAllLoaded} is true when the last episode is in the window.
+ * Main thread only.
+ */
+public class DramaEpisodeWindowLoader {
+
+    public static int PAGE_SIZE = 10;
+    public static int PREFETCH_DISTANCE = 3;
+    public static int MAX_WINDOW_PAGES = 5;
+
+    public interface Listener {
+        void onEpisodesLoaded(@NonNull DramaItem dramaItem);
+
+        void onLoadError(@NonNull DramaItem dramaItem, @NonNull Exception e);
+    }
+
+    private static class Window {
+        final TreeMap<Integer, List<Item>> pages = new TreeMap<>();
+        final Set<Integer> loading = new HashSet<>();
+        /**
+         * Index of the last page of drama. Unknown until reached.
+         */
+        int lastPage = Integer.MAX_VALUE;
+    }
+
+    private final GetDramaDetailMultiItemsApi mRemoteApi;
+    private final ShortVideoPageView mPageView;
+    private final Listener mListener;
+    /**
+     * Windows of dramas in pager order.
+     */
+    private final LinkedHashMap<DramaItem, Window> mWindows = new LinkedHashMap<>();
+
+    public DramaEpisodeWindowLoader(@NonNull GetDramaDetailMultiItemsApi remoteApi,
+                                    @NonNull ShortVideoPageView pageView,
+                                    @NonNull Listener listener) {
+        this.mRemoteApi = remoteApi;
+        this.mPageView = pageView;
+        this.mListener = listener;
+    }
+
+    public static int page(int episodeNumber) {
+        return Math.max(episodeNumber - 1, 0) / PAGE_SIZE;
+    }
+
+    /**
+     * Replaces all items of pager with the page of {@code dramaItem} containing
+     * {@code episodeNumber}, then selects that episode.
+     */
+    public void start(@NonNull DramaItem dramaItem, int episodeNumber) {
+        for (DramaItem item : mWindows.keySet()) {
+            if (item != dramaItem) {
+                item.episodeVideoItems = null;
+                item.episodesAllLoaded = false;
+            }
+        }
+        mWindows.clear();
+        final Window window = new Window();
+        mWindows.put(dramaItem, window);
+        fetch(dramaItem, window, page(episodeNumber), Math.max(episodeNumber, 1));
+    }
+
+    /**
+     * Loads the next page of {@code dramaItem}, or its first page if it is not in pager yet.
+     *
+     * @return false if all episodes of {@code dramaItem} are loaded.
+     */
+    public boolean loadMore(@NonNull DramaItem dramaItem) {
+        Window window = mWindows.get(dramaItem);
+        if (window == null) {
+            window = new Window();
+            mWindows.put(dramaItem, window);
+            fetch(dramaItem, window, 0, -1);
+            return true;
+        }
+        if (window.pages.isEmpty()) {
+            return !window.loading.isEmpty();
+        }
+        final int lastLoaded = window.pages.lastKey();
+        if (lastLoaded >= window.lastPage) {
+            return false;
+        }
+        fetch(dramaItem, window, lastLoaded + 1, -1);
+        return true;
+    }
+
+    /**
+     * Prefetches adjacent pages and drops pages far from {@code episodeNumber}.
+     */
+    public void onEpisodeSelected(@Nullable String dramaId, int episodeNumber) {
+        final DramaItem dramaItem = findDramaItem(dramaId);
+        if (dramaItem == null) return;
+        final Window window = mWindows.get(dramaItem);
+        if (window == null || window.pages.isEmpty()) return;
+
+        final int firstLoaded = window.pages.firstKey();
+        final int lastLoaded = window.pages.lastKey();
+        if (lastLoaded < window.lastPage
+                && episodeNumber > (lastLoaded + 1) * PAGE_SIZE - PREFETCH_DISTANCE) {
+            fetch(dramaItem, window, lastLoaded + 1, -1);
+        }
+        if (firstLoaded > 0
+                && episodeNumber <= firstLoaded * PAGE_SIZE + PREFETCH_DISTANCE
+                && isFirst(dramaItem)) {
+            fetch(dramaItem, window, firstLoaded - 1, -1);
+        }
+        // Avoid changing adapter in scroll callback.
+        mPageView.post(() -> {
+            if (mWindows.get(dramaItem) == window) {
+                trim(dramaItem, window, page(episodeNumber));
+            }
+        });
+    }
+
+    /**
+     * Selects {@code episodeNumber} of {@code dramaItem}, loading its page first if needed.
+     */
+    public void jumpTo(@NonNull DramaItem dramaItem, int episodeNumber) {
+        final Window window = mWindows.get(dramaItem);
+        final int page = page(episodeNumber);
+        if (window == null || window.pages.isEmpty()) {
+            start(dramaItem, episodeNumber);
+        } else if (window.pages.containsKey(page)) {
+            select(episodeNumber);
+        } else if ((page == window.pages.lastKey() + 1 && page <= window.lastPage)
+                || (page == window.pages.firstKey() - 1 && isFirst(dramaItem))) {
+            fetch(dramaItem, window, page, episodeNumber);
+        } else {
+            start(dramaItem, episodeNumber);
+        }
+    }
+
+    /**
+     * Replaces the loaded episode equal to {@code item}, e.g. after it is unlocked.
+     */
+    public void replace(@NonNull DramaItem dramaItem, @NonNull Item item) {
+        final Window window = mWindows.get(dramaItem);
+        if (window == null) return;
+        for (List<Item> items : window.pages.values()) {
+            for (int i = 0; i < items.size(); i++) {
+                if (ItemHelper.comparator().compare(items.get(i), item)) {
+                    items.set(i, item);
+                    update(dramaItem, window);
+                    return;
+                }
+            }
+        }
+    }
+
+    public boolean isLoading() {
+        for (Window window : mWindows.values()) {
+            if (!window.loading.isEmpty()) return true;
+        }
+        return false;
+    }
+
+    private void fetch(DramaItem dramaItem, Window window, int page, int selectEpisodeNumber) {
+        if (page < 0 || window.pages.containsKey(page) || !window.loading.add(page)) return;
+
+        L.d(this, "fetch", DramaItem.dump(dramaItem), page);
+        mRemoteApi.getDramaDetail(page * PAGE_SIZE, PAGE_SIZE, dramaItem.dramaInfo.dramaId, null, new RemoteApi.Callback<List<Item>>() {
+            @Override
+            public void onSuccess(List<Item> items) {
+                window.loading.remove(page);
+                if (mWindows.get(dramaItem) != window) return; // restarted
+
+                L.d(DramaEpisodeWindowLoader.this, "fetch", "success", DramaItem.dump(dramaItem), page, ItemHelper.dump(items));
+                merge(dramaItem, window, page, items == null ? new ArrayList<>() : items);
+                if (selectEpisodeNumber > 0) {
+                    select(selectEpisodeNumber);
+                }
+                mListener.onEpisodesLoaded(dramaItem);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                window.loading.remove(page);
+                if (mWindows.get(dramaItem) != window) return;
+
+                L.e(DramaEpisodeWindowLoader.this, "fetch", e, "error", DramaItem.dump(dramaItem), page);
+                mListener.onLoadError(dramaItem, e);
+            }
+        });
+    }
+
+    private void merge(DramaItem dramaItem, Window window, int page, List<Item> items) {
+        final int totalEpisodeNumber = dramaItem.dramaInfo.totalEpisodeNumber;
+        if (items.size() < PAGE_SIZE
+                || (totalEpisodeNumber > 0 && (page + 1) * PAGE_SIZE >= totalEpisodeNumber)) {
+            window.lastPage = items.isEmpty() ? page - 1 : page;
+        }
+        if (items.isEmpty()) {
+            update(dramaItem, window);
+            return;
+        }
+
+        final List<VideoItem> videoItems = VideoItem.findVideoItems(items);
+        VideoItem.tag(videoItems, PlayScene.map(PlayScene.SCENE_SHORT), null);
+        VideoItem.syncProgress(videoItems, true);
+
+        if (window.pages.isEmpty()) {
+            if (mWindows.size() == 1) {
+                // isPlay set "false" at update list, startPlayback will be triggered in onPageSelected adapter update complete
+                mPageView.setItems(items, false);
+            } else {
+                mPageView.appendItems(items);
+            }
+        } else if (page == window.pages.lastKey() + 1) {
+            final List<Item> lastPage = window.pages.lastEntry().getValue();
+            final int position = mPageView.findItemPosition(lastPage.get(lastPage.size() - 1), ItemHelper.comparator()) + 1;
+            if (position <= 0) return;
+            if (position >= mPageView.getItemCount()) {
+                mPageView.appendItems(items);
+            } else {
+                mPageView.insertItems(position, items);
+            }
+        } else if (page == window.pages.firstKey() - 1) {
+            final int position = mPageView.findItemPosition(window.pages.firstEntry().getValue().get(0), ItemHelper.comparator());
+            if (position < 0) return;
+            if (position == 0) {
+                mPageView.prependItems(items);
+            } else {
+                mPageView.insertItems(position, items);
+            }
+        } else {
+            return;
+        }
+        window.pages.put(page, items);
+        update(dramaItem, window);
+    }
+
+    private void trim(DramaItem dramaItem, Window window, int currentPage) {
+        boolean trimmed = false;
+        while (window.pages.size() > MAX_WINDOW_PAGES) {
+            final int firstLoaded = window.pages.firstKey();
+            final int lastLoaded = window.pages.lastKey();
+            final boolean canDropHead = isFirst(dramaItem) && firstLoaded != currentPage;
+            final boolean canDropTail = isLast(dramaItem) && lastLoaded != currentPage;
+            final boolean dropHead;
+            if (canDropHead && canDropTail) {
+                dropHead = currentPage - firstLoaded >= lastLoaded - currentPage;
+            } else if (canDropHead || canDropTail) {
+                dropHead = canDropHead;
+            } else {
+                break;
+            }
+            final List<Item> items = window.pages.remove(dropHead ? firstLoaded : lastLoaded);
+            // items of a page are contiguous
+            final int position = mPageView.findItemPosition(items.get(0), ItemHelper.comparator());
+            mPageView.deleteItems(position, items.size());
+            L.d(this, "trim", DramaItem.dump(dramaItem), dropHead ? firstLoaded : lastLoaded);
+            trimmed = true;
+        }
+        if (trimmed) {
+            update(dramaItem, window);
+        }
+    }
+
+    private void select(int episodeNumber) {
+        final int position = EpisodeVideo.episodeNumber2VideoItemIndex(mPageView.getItems(), episodeNumber);
+        if (position >= 0 && position != mPageView.getCurrentItem()) {
+            mPageView.setCurrentItem(position, false);
+        }
+    }
+
+    private static void update(DramaItem dramaItem, Window window) {
+        final List<Item> items = new ArrayList<>();
+        for (List<Item> page : window.pages.values()) {
+            items.addAll(page);
+        }
+        dramaItem.episodeVideoItems = items;
+        dramaItem.episodesAllLoaded = !window.pages.isEmpty() && window.pages.lastKey() >= window.lastPage;
+    }
+
+    @Nullable
+    private DramaItem findDramaItem(@Nullable String dramaId) {
+        for (DramaItem dramaItem : mWindows.keySet()) {
+            if (dramaItem.dramaInfo != null && TextUtils.equals(dramaItem.dramaInfo.dramaId, dramaId)) {
+                return dramaItem;
+            }
+        }
+        return null;
+    }
+
+    private boolean isFirst(DramaItem dramaItem) {
+        return !mWindows.isEmpty() && mWindows.keySet().iterator().next() == dramaItem;
+    }
+
+    private boolean isLast(DramaItem dramaItem) {
+        DramaItem last = null;
+        for (Map.Entry<DramaItem, Window> entry : mWindows.entrySet()) {
+            last = entry.getKey();
+        }
+        return last == dramaItem;
+    }
+}
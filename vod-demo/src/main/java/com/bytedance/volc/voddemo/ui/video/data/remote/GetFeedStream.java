@@ -26,6 +26,7 @@ import com.bytedance.volc.vod.scenekit.VideoSettings;
 import com.bytedance.volc.vod.scenekit.ui.widgets.adatper.Item;
 import com.bytedance.volc.voddemo.data.remote.RemoteApi.Callback;
 import com.bytedance.volc.voddemo.data.remote.RemoteApi.HandlerCallback;
+import com.bytedance.volc.voddemo.data.remote.RemoteCacheInterceptor;
 import com.bytedance.volc.voddemo.data.remote.model.Params;
 import com.bytedance.volc.voddemo.data.remote.model.base.BaseVideo;
 import com.bytedance.volc.voddemo.data.remote.model.general.GetFeedStreamRequest;
@@ -44,13 +45,27 @@ public class GetFeedStream implements GetFeedStreamApi {
 
     private final List<Call<?>> mCalls = Collections.synchronizedList(new ArrayList<>());
     private final String mAccount;
+    private final boolean mShowThumbs;
+
     public GetFeedStream(String account) {
+        this(account, false);
+    }
+
+    /**
+     * @param showThumbs true if the scene shows seek preview thumbs, requests ThumbInfoList.
+     */
+    public GetFeedStream(String account, boolean showThumbs) {
         mAccount = account;
+        mShowThumbs = showThumbs;
     }
 
     @Override
     public void getFeedStream(int pageIndex, int pageSize, Callback<List<Item>> callback) {
         final HandlerCallback<List<Item>> mainCallback = new HandlerCallback<>(callback);
+        if (pageIndex == 0) {
+            // first page is loaded by refresh, skip the responses cached for load more dedupe
+            RemoteCacheInterceptor.invalidate(RemoteCacheInterceptor.PATH_FEED_STREAM);
+        }
         final GetFeedStreamRequest request = new GetFeedStreamRequest(
                 mAccount,
                 pageIndex * pageSize,
@@ -59,7 +74,7 @@ public class GetFeedStream implements GetFeedStreamApi {
                 Params.Value.codec(),
                 Params.Value.definition(),
                 Params.Value.fileType(),
-                Params.Value.needThumbs(),
+                Params.Value.needThumbs(mShowThumbs),
                 Params.Value.enableBarrageMask(),
                 Params.Value.cdnType(),
                 Params.Value.unionInfo()
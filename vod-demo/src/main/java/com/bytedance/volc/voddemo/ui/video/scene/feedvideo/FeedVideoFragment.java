@@ -92,7 +92,7 @@ public class FeedVideoFragment extends BaseFragment implements FeedVideoPageView
     @Override
     public void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
-        mRemoteApi = new GetFeedStream(VideoSettings.stringValue(VideoSettings.FEED_VIDEO_SCENE_ACCOUNT_ID));
+        mRemoteApi = new GetFeedStream(VideoSettings.stringValue(VideoSettings.FEED_VIDEO_SCENE_ACCOUNT_ID), true);
         mPipSessionKey = UUID.randomUUID().toString();
     }
 
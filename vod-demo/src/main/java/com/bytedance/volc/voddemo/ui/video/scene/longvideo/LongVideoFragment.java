@@ -100,7 +100,7 @@ public class LongVideoFragment extends BaseFragment {
     @Override
     public void onCreate(@Nullable Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
-        mRemoteApi = new GetFeedStream(VideoSettings.stringValue(VideoSettings.LONG_VIDEO_SCENE_ACCOUNT_ID));
+        mRemoteApi = new GetFeedStream(VideoSettings.stringValue(VideoSettings.LONG_VIDEO_SCENE_ACCOUNT_ID), true);
         mDataTrans = new LongVideoDataTrans(requireActivity());
         mAdapter = new LongVideoAdapter(new OnItemClickListener() {
             @Override
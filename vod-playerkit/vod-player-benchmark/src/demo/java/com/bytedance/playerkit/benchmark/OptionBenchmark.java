@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.benchmark;
+
+import com.bytedance.volc.vod.settingskit.Option;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OptionBenchmark {
+
+    public static class Range {
+        public int min;
+        public int max;
+    }
+
+    @Benchmark
+    public Object string2Integer() {
+        return Option.string2Obj("1080", Integer.class);
+    }
+
+    @Benchmark
+    public Object string2Boolean() {
+        return Option.string2Obj("true", Boolean.class);
+    }
+
+    @Benchmark
+    public Object string2JSONObject() {
+        return Option.string2Obj("{\"min\":360,\"max\":1080}", JSONObject.class);
+    }
+
+    @Benchmark
+    public Object string2Gson() {
+        return Option.string2Obj("{\"min\":360,\"max\":1080}", Range.class);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.benchmark;
+
+import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.volc.voddemo.data.remote.model.parser.PlayInfoJson2MediaSourceParser;
+import com.bytedance.volc.voddemo.data.remote.model.parser.PlayInfoJson2MediaSourceStreamParser;
+
+import org.json.JSONException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayInfoParserBenchmark {
+
+    @Param({"4", "8", "16"})
+    public int trackCount;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        json = Samples.playInfoJson("v02004g10000example", trackCount);
+    }
+
+    @Benchmark
+    public MediaSource parse() throws JSONException {
+        return new PlayInfoJson2MediaSourceParser(json).parse();
+    }
+
+    @Benchmark
+    public MediaSource streamParse() throws JSONException {
+        return new PlayInfoJson2MediaSourceStreamParser(json).parse();
+    }
+}
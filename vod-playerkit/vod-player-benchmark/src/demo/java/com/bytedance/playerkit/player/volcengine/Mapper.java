@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.volcengine;
+
+import androidx.annotation.Nullable;
+
+import com.bytedance.playerkit.player.source.Quality;
+import com.bytedance.playerkit.player.source.Track;
+
+/**
+ * JVM stub of the vod-player-volcengine Mapper methods used by demo parsers. The real
+ * implementation depends on TTSDK resolution tables which are not available on the JVM.
+ */
+public class Mapper {
+
+    @Nullable
+    public static Quality definition2Quality(@Track.TrackType int trackType, String definition) {
+        if (definition == null) return null;
+        switch (definition) {
+            case "240p":
+                return new Quality(Quality.QUALITY_RES_240, definition);
+            case "360p":
+                return new Quality(Quality.QUALITY_RES_360, definition);
+            case "480p":
+                return new Quality(Quality.QUALITY_RES_480, definition);
+            case "540p":
+                return new Quality(Quality.QUALITY_RES_540, definition);
+            case "720p":
+                return new Quality(Quality.QUALITY_RES_720, definition);
+            case "1080p":
+                return new Quality(Quality.QUALITY_RES_1080, definition);
+        }
+        return null;
+    }
+
+    public static int videoModelEncodeType2TrackEncodeType(String encodeType) {
+        if (encodeType != null) {
+            switch (encodeType) {
+                case "H264":
+                    return Track.ENCODER_TYPE_H264;
+                case "h265":
+                    return Track.ENCODER_TYPE_H265;
+                case "h266":
+                    return Track.ENCODER_TYPE_H266;
+            }
+        }
+        return Track.ENCODER_TYPE_H264;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.volcengine;
+
+import com.bytedance.playerkit.player.cache.CacheKeyFactory;
+import com.bytedance.playerkit.player.cache.DefaultCacheKeyFactory;
+
+/**
+ * JVM stub of the vod-player-volcengine VolcPlayerInitConfig fields used by demo parsers.
+ */
+public class VolcPlayerInitConfig {
+
+    public final CacheKeyFactory cacheKeyFactory = new DefaultCacheKeyFactory();
+}
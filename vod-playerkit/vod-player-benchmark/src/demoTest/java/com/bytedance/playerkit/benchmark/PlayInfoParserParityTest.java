@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.benchmark;
+
+import static org.junit.Assert.assertEquals;
+
+import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.playerkit.player.source.SpriteThumb;
+import com.bytedance.playerkit.player.source.Track;
+import com.bytedance.volc.voddemo.data.remote.model.parser.PlayInfoJson2MediaSourceParser;
+import com.bytedance.volc.voddemo.data.remote.model.parser.PlayInfoJson2MediaSourceStreamParser;
+
+import org.json.JSONException;
+import org.junit.Test;
+
+/**
+ * {@link PlayInfoJson2MediaSourceStreamParser} must build the same {@link MediaSource} as
+ * {@link PlayInfoJson2MediaSourceParser}.
+ * <p>
+ * JSON {@code null} values are left out of the payloads: org.json on the JVM reads them as
+ * {@code ""} while Android reads them as {@code "null"}, the stream parser follows Android.
+ */
+public class PlayInfoParserParityTest {
+
+    /**
+     * Dash audio/video tracks with numbers as strings, exponents, escapes, missing and unknown fields.
+     */
+    private static final String EDGE_PLAY_INFO = "{"
+            + "\"Version\":2,\"Vid\":\"v0d\\u0030edge\",\"Status\":10,\"Duration\":\"12.5\","
+            + "\"FileType\":\"video\",\"EnableAdaptive\":true,\"TotalCount\":3,"
+            + "\"AdaptiveInfo\":{\"MainPlayUrl\":\"https://vod.example.com/edge.mpd\",\"AdaptiveType\":\"DASH\"},"
+            + "\"BarrageMaskInfo\":{\"Version\":\"1\",\"BarrageMaskUrl\":\"https://m.example.com/mask\",\"HeadLen\":[1,2,{\"a\":[]}]},"
+            + "\"ThumbInfoList\":[{\"CaptureNum\":0},{\"CaptureNum\":\"25\",\"StoreUrls\":[\"\",\"https://p.example.com/s\\/1.jpg\"],"
+            + "\"CellWidth\":1.6e2,\"CellHeight\":90.0,\"ImgXLen\":5,\"ImgYLen\":5,\"Interval\":\"2\",\"Format\":\"jpg\"}],"
+            + "\"PlayInfoList\":["
+            + "{\"FileId\":\"a1\",\"Md5\":\"m1\",\"FileType\":\"audio\",\"Format\":\"dash\",\"Codec\":\"aac\","
+            + "\"Quality\":\"medium\",\"Bitrate\":\"128000\",\"Size\":2.5e6,\"MainPlayUrl\":\"https://vod.example.com/a1\","
+            + "\"IndexRange\":\"800-1000\",\"InitRange\":\"0-799\",\"CheckInfo\":[{\"Md5\":\"x\"}]},"
+            + "{\"FileId\":\"v1\",\"Md5\":\"m2\",\"FileType\":\"video\",\"Format\":\"dash\",\"Codec\":\"h265\","
+            + "\"Definition\":\"1080p\",\"Bitrate\":3000000,\"Width\":1920,\"Height\":1080,\"Size\":123456789012,"
+            + "\"MainPlayUrl\":\"https://vod.example.com/v1?a=1&b=\\\"2\\\"\",\"BackupPlayUrl\":\"https://bak.example.com/v1\","
+            + "\"PlayAuth\":\"k\",\"PlayAuthId\":\"kid\",\"LogoType\":\"\",\"Volume\":{\"Loudness\":-14.2}},"
+            + "{\"FileId\":\"v2\",\"FileType\":\"video\",\"Format\":\"dash\",\"Definition\":\"480p\",\"Bitrate\":800000.0}"
+            + "]}";
+
+    @Test
+    public void samplePayloads() throws JSONException {
+        for (int trackCount : new int[]{1, 4, 8, 16}) {
+            assertParity(Samples.playInfoJson("v02004g10000example", trackCount));
+        }
+    }
+
+    @Test
+    public void edgePayload() throws JSONException {
+        assertParity(EDGE_PLAY_INFO);
+    }
+
+    @Test
+    public void noTracks() throws JSONException {
+        assertParity("{\"Vid\":\"v\",\"PlayInfoList\":[],\"ThumbInfoList\":[]}");
+    }
+
+    private static void assertParity(String json) throws JSONException {
+        final MediaSource expected = new PlayInfoJson2MediaSourceParser(json).parse();
+        final MediaSource actual = new PlayInfoJson2MediaSourceStreamParser(json).parse();
+        assertEquals(describe(expected), describe(actual));
+    }
+
+    private static String describe(MediaSource source) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(source.getMediaId())
+                .append(" protocol=").append(source.getMediaProtocol())
+                .append(" cover=").append(source.getCoverUrl())
+                .append(" duration=").append(source.getDuration())
+                .append(" mediaType=").append(source.getMediaType())
+                .append(" abr=").append(source.isSupportABR())
+                .append(" segmentType=").append(source.getSegmentType())
+                .append('\n');
+        final SpriteThumb thumb = source.getSpriteThumb();
+        if (thumb != null) {
+            sb.append("thumb ").append(thumb.getUrls())
+                    .append(' ').append(thumb.getCaptureNum())
+                    .append(' ').append(thumb.getCellWidth()).append('x').append(thumb.getCellHeight())
+                    .append(' ').append(thumb.getImgXLen()).append('x').append(thumb.getImgYLen())
+                    .append(' ').append(thumb.getInterval())
+                    .append(' ').append(thumb.getFormat())
+                    .append('\n');
+        }
+        if (source.getTracks() != null) {
+            for (Track track : source.getTracks()) {
+                sb.append("track ").append(track.getUrl())
+                        .append(' ').append(track.getBackupUrls())
+                        .append(' ').append(track.getFileId())
+                        .append(' ').append(track.getFileHash())
+                        .append(' ').append(track.getTrackType())
+                        .append(' ').append(track.getQuality() == null ? null : track.getQuality().dump(false))
+                        .append(' ').append(track.getFormat())
+                        .append(' ').append(track.getEncoderType())
+                        .append(' ').append(track.getBitrate())
+                        .append(' ').append(track.getVideoWidth()).append('x').append(track.getVideoHeight())
+                        .append(' ').append(track.getFileSize())
+                        .append(' ').append(track.getIndexRange())
+                        .append(' ').append(track.getInitRange())
+                        .append(' ').append(track.getEncryptedKey())
+                        .append(' ').append(track.getEncryptedKeyId())
+                        .append(' ').append(track.getDuration())
+                        .append('\n');
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.benchmark;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.bytedance.playerkit.player.source.Subtitle;
+import com.bytedance.volc.voddemo.data.remote.model.parser.SubtitleInfoJson2SubtitleListParser;
+import com.bytedance.volc.voddemo.data.remote.model.parser.SubtitleInfoJson2SubtitleListStreamParser;
+
+import org.json.JSONException;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * {@link SubtitleInfoJson2SubtitleListStreamParser} must build the same subtitles as
+ * {@link SubtitleInfoJson2SubtitleListParser}.
+ */
+public class SubtitleParserParityTest {
+
+    private static final String SUBTITLE_INFO = "["
+            + "{\"Format\":\"webvtt\",\"SubtitleUrl\":\"https://sub.example.com/zh.vtt?a=1&b=\\u0032\","
+            + "\"Language\":\"cmn-Hans-CN\",\"LanguageId\":1,\"SubtitleId\":101,\"Version\":\"v1\"},"
+            + "{\"Format\":\"srt\",\"SubtitleUrl\":\"https://sub.example.com/en.srt\",\"Language\":\"eng-US\","
+            + "\"LanguageId\":\"2\",\"SubtitleId\":1.02e2,\"Source\":{\"Type\":[1,2]}},"
+            + "1,\"skip\",[],"
+            + "{\"Format\":\"webvtt\",\"LanguageId\":3.9}"
+            + "]";
+
+    @Test
+    public void samplePayload() throws JSONException {
+        assertParity(SUBTITLE_INFO);
+    }
+
+    @Test
+    public void emptyPayloads() throws JSONException {
+        assertNull(new SubtitleInfoJson2SubtitleListStreamParser(null).parse());
+        assertNull(new SubtitleInfoJson2SubtitleListStreamParser("").parse());
+        assertNull(new SubtitleInfoJson2SubtitleListStreamParser("[]").parse());
+        assertParity("[]");
+        assertParity("[1,2]");
+    }
+
+    private static void assertParity(String json) throws JSONException {
+        final List<Subtitle> expected = new SubtitleInfoJson2SubtitleListParser(json).parse();
+        final List<Subtitle> actual = new SubtitleInfoJson2SubtitleListStreamParser(json).parse();
+        assertEquals(describe(expected), describe(actual));
+    }
+
+    private static String describe(List<Subtitle> subtitles) {
+        if (subtitles == null) return null;
+        final StringBuilder sb = new StringBuilder();
+        for (Subtitle subtitle : subtitles) {
+            sb.append(subtitle.getUrl())
+                    .append(' ').append(subtitle.getCacheKey())
+                    .append(' ').append(subtitle.getFormat())
+                    .append(' ').append(subtitle.getLanguage())
+                    .append(' ').append(subtitle.getLanguageId())
+                    .append(' ').append(subtitle.getSubtitleId())
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.benchmark;
+
+import com.bytedance.playerkit.player.cache.DefaultCacheKeyFactory;
+import com.bytedance.playerkit.utils.MD5;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CacheKeyBenchmark {
+
+    /**
+     * {@link DefaultCacheKeyFactory#KEY_MODE_LEGACY}, {@link DefaultCacheKeyFactory#KEY_MODE_MD5},
+     * {@link DefaultCacheKeyFactory#KEY_MODE_HASH128}
+     */
+    @Param({"0", "1", "2"})
+    public int keyMode;
+
+    private DefaultCacheKeyFactory factory;
+
+    private final String url = Samples.trackUrl(0);
+
+    private final String[] distinctUrls = new String[DefaultCacheKeyFactory.MEMO_CACHE_SIZE * 2];
+
+    private int index;
+
+    private final String path = "/obj/tos-cn-v-0015/oQh2DbqAzAsDEBbMgCfRIuWA9QdNPnABeIvtnL.mp4";
+
+    @Setup
+    public void setup() {
+        factory = new DefaultCacheKeyFactory(keyMode);
+        for (int i = 0; i < distinctUrls.length; i++) {
+            distinctUrls[i] = url.replace(".mp4", "_" + i + ".mp4");
+        }
+    }
+
+    @Benchmark
+    public String generateCacheKey() {
+        return factory.generateCacheKey(url);
+    }
+
+    /**
+     * Every call misses the memo cache.
+     */
+    @Benchmark
+    public String generateCacheKeyMiss() {
+        index = (index + 1) % distinctUrls.length;
+        return factory.generateCacheKey(distinctUrls[index]);
+    }
+
+    @Benchmark
+    public String md5() {
+        return MD5.getMD5(path);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.benchmark;
+
+import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.playerkit.utils.ExtraKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extras lookups done by a preload factory callback: VolcConfig.get, VideoItem.get and the display
+ * size read by the track selector. {@code legacy*} replays the previous synchronized map store.
+ * {@code *Contended} runs the same lookups from 4 threads on one shared source.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExtraObjectBenchmark {
+
+    private static final String EXTRA_VOLC_CONFIG = "extra_volc_config";
+    private static final String EXTRA_VIDEO_ITEM = "extra_video_item";
+    private static final String EXTRA_DISPLAY_SIZE = "extra_display_size";
+    private static final String EXTRA_BASE_VIDEO = "extra_base_video";
+
+    private static final ExtraKey<Config> KEY_VOLC_CONFIG = ExtraKey.of(EXTRA_VOLC_CONFIG, Config.class);
+    private static final ExtraKey<Item> KEY_VIDEO_ITEM = ExtraKey.of(EXTRA_VIDEO_ITEM, Item.class);
+    private static final ExtraKey<int[]> KEY_DISPLAY_SIZE = ExtraKey.of(EXTRA_DISPLAY_SIZE, int[].class);
+
+    static class Config implements Serializable {
+    }
+
+    static class Item implements Serializable {
+    }
+
+    static class LegacyExtras {
+        final Map<String, Object> extras = Collections.synchronizedMap(new LinkedHashMap<>());
+
+        <T> T getExtra(String key, Class<T> clazz) {
+            Object extra = extras.get(key);
+            if (extra != null) {
+                if (clazz.isInstance(extra)) {
+                    return (T) extra;
+                }
+                throw new ClassCastException(extra.getClass() + " can't be cast to + " + clazz);
+            }
+            return null;
+        }
+    }
+
+    private MediaSource mediaSource;
+    private LegacyExtras legacy;
+
+    @Setup
+    public void setup() {
+        final Config config = new Config();
+        final Item item = new Item();
+        final int[] size = {1080, 1920};
+
+        mediaSource = Samples.mediaSource("v0", 4);
+        mediaSource.putExtra(KEY_VOLC_CONFIG, config);
+        mediaSource.putExtra(KEY_VIDEO_ITEM, item);
+        mediaSource.putExtra(KEY_DISPLAY_SIZE, size);
+        mediaSource.putExtra(EXTRA_BASE_VIDEO, "base");
+
+        legacy = new LegacyExtras();
+        legacy.extras.put(EXTRA_VOLC_CONFIG, config);
+        legacy.extras.put(EXTRA_VIDEO_ITEM, item);
+        legacy.extras.put(EXTRA_DISPLAY_SIZE, size);
+        legacy.extras.put(EXTRA_BASE_VIDEO, "base");
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        bh.consume(legacy.getExtra(EXTRA_VOLC_CONFIG, Config.class));
+        bh.consume(legacy.getExtra(EXTRA_VIDEO_ITEM, Item.class));
+        bh.consume(legacy.getExtra(EXTRA_DISPLAY_SIZE, int[].class));
+    }
+
+    @Benchmark
+    public void stringKey(Blackhole bh) {
+        bh.consume(mediaSource.getExtra(EXTRA_VOLC_CONFIG, Config.class));
+        bh.consume(mediaSource.getExtra(EXTRA_VIDEO_ITEM, Item.class));
+        bh.consume(mediaSource.getExtra(EXTRA_DISPLAY_SIZE, int[].class));
+    }
+
+    @Benchmark
+    public void typedKey(Blackhole bh) {
+        bh.consume(mediaSource.getExtra(KEY_VOLC_CONFIG));
+        bh.consume(mediaSource.getExtra(KEY_VIDEO_ITEM));
+        bh.consume(mediaSource.getExtra(KEY_DISPLAY_SIZE));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void legacyContended(Blackhole bh) {
+        legacy(bh);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void typedKeyContended(Blackhole bh) {
+        typedKey(bh);
+    }
+}
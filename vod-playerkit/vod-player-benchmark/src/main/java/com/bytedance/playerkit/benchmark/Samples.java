@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.benchmark;
+
+import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.playerkit.player.source.Quality;
+import com.bytedance.playerkit.player.source.Track;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic inputs shared by benchmarks.
+ */
+public class Samples {
+
+    private static final int[] RESOLUTIONS = {360, 480, 540, 720, 1080};
+
+    public static String trackUrl(int index) {
+        return "https://vod.example.com/obj/tos-cn-v-0015/oQh2DbqAzAsDEBbMgCfRIuWA9QdNPnABeIvtn" + index
+                + ".mp4?a=1128&ch=0&cr=0&dr=0&er=0&cd=0%7C0%7C0%7C0&br=1234&bt=1234&ds=3&ft=kJrRfyl8ZmoY"
+                + "&mime_type=video_mp4&qs=0&rc=aGY1OWg3ZzZpNDQ4OzM3OEBpM3FsOms5cnhxbjMzNGkzM0AyYi4xLi9fNjUx"
+                + "&l=2026101812000001020304050607080910&btag=e00008000";
+    }
+
+    public static MediaSource mediaSource(String mediaId, int trackCount) {
+        MediaSource mediaSource = new MediaSource(mediaId, MediaSource.SOURCE_TYPE_URL);
+        List<Track> tracks = new ArrayList<>();
+        for (int i = 0; i < trackCount; i++) {
+            Track track = new Track();
+            track.setUrl(trackUrl(i));
+            track.setTrackType(i % 4 == 3 ? Track.TRACK_TYPE_AUDIO : Track.TRACK_TYPE_VIDEO);
+            final int res = RESOLUTIONS[i % RESOLUTIONS.length];
+            track.setQuality(new Quality(res, res + "p"));
+            track.setBitrate(res * 1000);
+            tracks.add(track);
+        }
+        mediaSource.setTracks(tracks);
+        return mediaSource;
+    }
+
+    /**
+     * @see <a href="https://www.volcengine.com/docs/4/2918#vodplayinfomodel">VodPlayInfoModel</a>
+     */
+    public static String playInfoJson(String vid, int trackCount) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"Vid\":\"").append(vid).append("\",")
+                .append("\"Status\":10,\"PosterUrl\":\"https://p.example.com/").append(vid).append(".jpg\",")
+                .append("\"Duration\":63.52,\"FileType\":\"video\",\"EnableAdaptive\":false,")
+                .append("\"TotalCount\":").append(trackCount).append(',')
+                .append("\"ThumbInfoList\":[{\"CaptureNum\":64,\"StoreUrls\":[\"https://p.example.com/")
+                .append(vid).append("_sprite.jpg\"],\"CellWidth\":160,\"CellHeight\":90,\"ImgXLen\":8,")
+                .append("\"ImgYLen\":8,\"Interval\":1.0,\"Format\":\"jpg\"}],")
+                .append("\"PlayInfoList\":[");
+        for (int i = 0; i < trackCount; i++) {
+            final int res = RESOLUTIONS[i % RESOLUTIONS.length];
+            if (i > 0) sb.append(',');
+            sb.append("{\"FileId\":\"").append(vid).append("_").append(i).append("\",")
+                    .append("\"Md5\":\"5e7b4c3f2a1d0e9f8a7b6c5d4e3f2a1").append(i).append("\",")
+                    .append("\"FileType\":\"video\",\"Format\":\"mp4\",\"Codec\":\"H264\",")
+                    .append("\"Definition\":\"").append(res).append("p\",")
+                    .append("\"MainPlayUrl\":\"").append(trackUrl(i)).append("\",")
+                    .append("\"BackupPlayUrl\":\"").append(trackUrl(i)).append("&backup=1\",")
+                    .append("\"Bitrate\":").append(res * 1000).append(',')
+                    .append("\"Width\":").append(res * 16 / 9).append(',')
+                    .append("\"Height\":").append(res).append(',')
+                    .append("\"Size\":").append(res * 10000L).append(',')
+                    .append("\"Quality\":\"normal\",\"PlayAuth\":\"\",\"PlayAuthId\":\"\",")
+                    .append("\"IndexRange\":\"\",\"InitRange\":\"\"}");
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+}
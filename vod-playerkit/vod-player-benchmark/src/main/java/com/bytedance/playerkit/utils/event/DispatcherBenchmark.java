@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.utils.event;
+
+import android.os.Looper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatching one event to N listeners. Run with {@code -prof gc} to compare
+ * {@code gc.alloc.rate.norm} (bytes per dispatch) of {@link Dispatcher.EventListeners} against the
+ * previous {@link CopyOnWriteArrayList} fan-out ({@code legacyFanOut}).
+ * <p>
+ * Half of the listeners of {@code filteredFanOut} are only interested in another event code, like
+ * layers only listening to subtitle updates while progress ticks are dispatched.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatcherBenchmark {
+
+    public static class ProgressEvent extends Event {
+        public ProgressEvent() {
+            super(3012);
+        }
+    }
+
+    @Param({"1", "8", "32"})
+    public int listenerCount;
+
+    private Dispatcher dispatcher;
+    private Dispatcher.EventListeners listeners;
+    private Dispatcher.EventListeners filteredListeners;
+    private CopyOnWriteArrayList<Dispatcher.EventListener> legacyListeners;
+    private ProgressEvent event;
+    private Blackhole blackhole;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        dispatcher = new Dispatcher(Looper.myLooper());
+        listeners = new Dispatcher.EventListeners();
+        filteredListeners = new Dispatcher.EventListeners();
+        legacyListeners = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < listenerCount; i++) {
+            final Dispatcher.EventListener listener = e -> this.blackhole.consume(e.code());
+            dispatcher.addEventListener(listener);
+            listeners.addEventListener(listener);
+            legacyListeners.addIfAbsent(listener);
+            if (i % 2 == 0) {
+                filteredListeners.addEventListener(listener);
+            } else {
+                filteredListeners.addEventListener(listener, 3021);
+            }
+        }
+        event = new ProgressEvent();
+    }
+
+    @Benchmark
+    public void dispatch() {
+        dispatcher.obtain(ProgressEvent.class, this).dispatch();
+    }
+
+    @Benchmark
+    public void fanOut() {
+        listeners.onEvent(event);
+    }
+
+    @Benchmark
+    public void filteredFanOut() {
+        filteredListeners.onEvent(event);
+    }
+
+    @Benchmark
+    public void legacyFanOut() {
+        for (Dispatcher.EventListener listener : legacyListeners) {
+            listener.onEvent(event);
+        }
+    }
+}
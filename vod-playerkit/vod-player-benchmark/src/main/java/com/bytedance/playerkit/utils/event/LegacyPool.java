@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.utils.event;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Baseline for {@link PoolBenchmark}. Same algorithm as the event pool before per-class lock-free
+ * slots: one global monitor guarding a map of fixed size stacks.
+ */
+class LegacyPool {
+    private static final Map<Class<? extends Event>, Stack> sPools = new HashMap<>();
+
+    synchronized static <T extends Event> T acquire(Class<T> clazz) {
+        Stack pool = sPools.get(clazz);
+        if (pool == null) {
+            pool = new Stack(Config.EVENT_POOL_SIZE);
+            sPools.put(clazz, pool);
+        }
+        final Event event = pool.acquire();
+        if (event != null) {
+            return clazz.cast(event);
+        }
+        return Factory.create(clazz);
+    }
+
+    synchronized static void release(Event event) {
+        event.recycle();
+        final Stack pool = sPools.get(event.getClass());
+        if (pool != null) {
+            pool.release(event);
+        }
+    }
+
+    private static final class Stack {
+        private final Event[] pool;
+        private int size;
+
+        Stack(int maxSize) {
+            this.pool = new Event[maxSize];
+        }
+
+        Event acquire() {
+            if (size > 0) {
+                final int index = size - 1;
+                final Event event = pool[index];
+                pool[index] = null;
+                size--;
+                return event;
+            }
+            return null;
+        }
+
+        void release(Event event) {
+            if (size < pool.length) {
+                pool[size++] = event;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.utils.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event pool acquire/release, single thread and under contention of several players dispatching
+ * different high frequency events at the same time. {@code legacy*} runs the previous globally
+ * synchronized pool as baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoolBenchmark {
+
+    public static class ProgressEvent extends Event {
+        public ProgressEvent() {
+            super(1);
+        }
+    }
+
+    public static class BufferingEvent extends Event {
+        public BufferingEvent() {
+            super(2);
+        }
+    }
+
+    public static class FrameEvent extends Event {
+        public FrameEvent() {
+            super(3);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final Class<? extends Event>[] EVENTS = new Class[]{
+            ProgressEvent.class, BufferingEvent.class, FrameEvent.class};
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int index;
+
+        Class<? extends Event> next() {
+            return EVENTS[index++ % EVENTS.length];
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Event pool(ThreadState state) {
+        final Event event = Pool.acquire(state.next());
+        Pool.release(event);
+        return event;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Event legacyPool(ThreadState state) {
+        final Event event = LegacyPool.acquire(state.next());
+        LegacyPool.release(event);
+        return event;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Event poolContended(ThreadState state) {
+        final Event event = Pool.acquire(state.next());
+        Pool.release(event);
+        return event;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Event legacyPoolContended(ThreadState state) {
+        final Event event = LegacyPool.acquire(state.next());
+        LegacyPool.release(event);
+        return event;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package android.os;
+
+/**
+ * JVM stub. Messages and runnables are executed synchronously on the calling thread.
+ */
+public class Handler {
+    private final Looper mLooper;
+
+    public Handler() {
+        this(Looper.myLooper());
+    }
+
+    public Handler(Looper looper) {
+        this.mLooper = looper;
+    }
+
+    public final Looper getLooper() {
+        return mLooper;
+    }
+
+    public void handleMessage(Message msg) {
+    }
+
+    public void dispatchMessage(Message msg) {
+        handleMessage(msg);
+    }
+
+    public final Message obtainMessage(int what) {
+        return obtainMessage(what, 0, 0, null);
+    }
+
+    public final Message obtainMessage(int what, Object obj) {
+        return obtainMessage(what, 0, 0, obj);
+    }
+
+    public final Message obtainMessage(int what, int arg1, int arg2) {
+        return obtainMessage(what, arg1, arg2, null);
+    }
+
+    public final Message obtainMessage(int what, int arg1, int arg2, Object obj) {
+        Message msg = new Message();
+        msg.what = what;
+        msg.arg1 = arg1;
+        msg.arg2 = arg2;
+        msg.obj = obj;
+        msg.target = this;
+        return msg;
+    }
+
+    public final boolean sendMessage(Message msg) {
+        msg.target = this;
+        dispatchMessage(msg);
+        return true;
+    }
+
+    public final boolean sendEmptyMessage(int what) {
+        return sendMessage(obtainMessage(what));
+    }
+
+    public final boolean post(Runnable r) {
+        r.run();
+        return true;
+    }
+
+    public final boolean postDelayed(Runnable r, long delayMillis) {
+        r.run();
+        return true;
+    }
+
+    public final void removeCallbacks(Runnable r) {
+    }
+
+    public final void removeMessages(int what) {
+    }
+
+    public final void removeMessages(int what, Object object) {
+    }
+
+    public final void removeCallbacksAndMessages(Object token) {
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package android.os;
+
+/**
+ * JVM stub. Every thread owns a looper, messages are handled synchronously by {@link Handler}.
+ */
+public final class Looper {
+    private static final ThreadLocal<Looper> sLoopers = new ThreadLocal<Looper>() {
+        @Override
+        protected Looper initialValue() {
+            return new Looper(Thread.currentThread());
+        }
+    };
+    private static final Looper sMainLooper = new Looper(Thread.currentThread());
+
+    private final Thread mThread;
+
+    private Looper(Thread thread) {
+        this.mThread = thread;
+    }
+
+    public static Looper getMainLooper() {
+        return sMainLooper;
+    }
+
+    public static Looper myLooper() {
+        return sLoopers.get();
+    }
+
+    public Thread getThread() {
+        return mThread;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Typed key of {@link ExtraObject}. Every distinct key name is assigned a process wide slot index
+ * when its first key is created, so lookups are a bounds check plus an array read instead of a map
+ * lookup. Names only used as String keys are never assigned a slot.
+ * <p>
+ * Keys are meant to be created once and kept in a static field:
+ * <pre>
+ * public static final ExtraKey&lt;VolcConfig&gt; KEY = ExtraKey.of("extra_volc_config", VolcConfig.class);
+ * </pre>
+ */
+public final class ExtraKey<T> {
+
+    private static final ConcurrentHashMap<String, Integer> sIndexes = new ConcurrentHashMap<>();
+    private static volatile String[] sNames = new String[0];
+
+    @NonNull
+    public final String name;
+    @NonNull
+    public final Class<T> type;
+    final int index;
+
+    private ExtraKey(@NonNull String name, @NonNull Class<T> type, int index) {
+        this.name = name;
+        this.type = type;
+        this.index = index;
+    }
+
+    @NonNull
+    public static <T> ExtraKey<T> of(@NonNull String name, @NonNull Class<T> type) {
+        return new ExtraKey<>(name, type, indexOf(name));
+    }
+
+    /**
+     * @return slot index of {@code name}, or -1 if no key named {@code name} was ever created.
+     */
+    static int find(@NonNull String name) {
+        final Integer index = sIndexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    private static int indexOf(@NonNull String name) {
+        final Integer index = sIndexes.get(name);
+        if (index != null) {
+            return index;
+        }
+        synchronized (ExtraKey.class) {
+            final Integer existing = sIndexes.get(name);
+            if (existing != null) {
+                return existing;
+            }
+            final String[] names = Arrays.copyOf(sNames, sNames.length + 1);
+            names[names.length - 1] = name;
+            sNames = names;
+            sIndexes.put(name, names.length - 1);
+            return names.length - 1;
+        }
+    }
+
+    @Nullable
+    static String nameOf(int index) {
+        final String[] names = sNames;
+        return index < names.length ? names[index] : null;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "ExtraKey{" + name + ", " + type.getSimpleName() + ", " + index + "}";
+    }
+}
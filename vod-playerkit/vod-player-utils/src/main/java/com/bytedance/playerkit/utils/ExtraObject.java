@@ -23,18 +23,137 @@ import android.os.Parcelable;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
-
+/**
+ * Extras of declared {@link ExtraKey}s are kept in a small array indexed by key slot. Reads are
+ * lock-free, writes copy the array and publish it with CAS. String keys never declared as
+ * {@link ExtraKey} are kept in a per object map, so dynamic key names don't allocate slots.
+ * <p>
+ * Serialized form is the name to value map of earlier versions.
+ */
 public class ExtraObject implements Serializable {
 
-    protected final Map<String, Object> mExtras = Collections.synchronizedMap(new LinkedHashMap<>());
+    private static final long serialVersionUID = -4973737942809612888L;
+
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("mExtras", Map.class)
+    };
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private static final AtomicReferenceFieldUpdater<ExtraObject, Object[]> SLOTS =
+            AtomicReferenceFieldUpdater.newUpdater(ExtraObject.class, Object[].class, "mSlots");
+
+    private transient volatile Object[] mSlots = EMPTY;
+    /**
+     * Extras of undeclared keys, created on first use. Guarded by itself.
+     */
+    private transient volatile Map<String, Object> mNamedExtras;
+
+    public <T> T getExtra(@NonNull ExtraKey<T> key) {
+        return cast(get(key.index, key.name), key.type);
+    }
+
+    public <T> void putExtra(@NonNull ExtraKey<T> key, @Nullable T extra) {
+        checkType(extra);
+        set(key.index, key.name, extra);
+    }
 
     public <T> T getExtra(@NonNull String key, @NonNull Class<T> clazz) {
-        Object extra = mExtras.get(key);
+        return cast(get(ExtraKey.find(key), key), clazz);
+    }
+
+    public void putExtra(@NonNull String key, @Nullable Object extra) {
+        checkType(extra);
+        set(ExtraKey.find(key), key, extra);
+    }
+
+    public void clearExtras() {
+        mSlots = EMPTY;
+        final Map<String, Object> named = mNamedExtras;
+        if (named != null) {
+            synchronized (named) {
+                named.clear();
+            }
+        }
+    }
+
+    /**
+     * @param index slot index, -1 if {@code name} is not declared.
+     */
+    private Object get(int index, String name) {
+        final Object[] slots = mSlots;
+        if (index >= 0 && index < slots.length && slots[index] != null) {
+            return slots[index];
+        }
+        // put by name before the key was declared
+        final Map<String, Object> named = mNamedExtras;
+        if (named == null) return null;
+        synchronized (named) {
+            return named.get(name);
+        }
+    }
+
+    private void set(int index, String name, Object extra) {
+        final Map<String, Object> named = index >= 0 ? mNamedExtras : namedExtras(extra != null);
+        if (named != null) {
+            synchronized (named) {
+                if (index < 0) {
+                    if (extra == null) {
+                        named.remove(name);
+                    } else {
+                        named.put(name, extra);
+                    }
+                    return;
+                }
+                named.remove(name);
+            }
+        }
+        if (index < 0) return;
+
+        Object[] slots;
+        Object[] updated;
+        do {
+            slots = mSlots;
+            if (extra == null && (index >= slots.length || slots[index] == null)) {
+                return;
+            }
+            updated = Arrays.copyOf(slots, Math.max(slots.length, index + 1));
+            updated[index] = extra;
+        } while (!SLOTS.compareAndSet(this, slots, updated));
+    }
+
+    private Map<String, Object> namedExtras(boolean create) {
+        Map<String, Object> named = mNamedExtras;
+        if (named == null && create) {
+            synchronized (this) {
+                named = mNamedExtras;
+                if (named == null) {
+                    named = new LinkedHashMap<>();
+                    mNamedExtras = named;
+                }
+            }
+        }
+        return named;
+    }
+
+    private static void checkType(Object extra) {
+        if (extra != null && !(extra instanceof Serializable || extra instanceof Parcelable)) {
+            throw new IllegalArgumentException("Unsupported type " + extra.getClass());
+        }
+    }
+
+    private static <T> T cast(Object extra, Class<T> clazz) {
         if (extra != null) {
             if (clazz.isInstance(extra)) {
                 return (T) extra;
@@ -44,19 +163,32 @@ public class ExtraObject implements Serializable {
         return null;
     }
 
-    public void putExtra(@NonNull String key, @Nullable Object extra) {
-        if (extra == null) {
-            mExtras.remove(key);
-        } else {
-            if (extra instanceof Serializable || extra instanceof Parcelable) {
-                mExtras.put(key, extra);
-            } else {
-                throw new IllegalArgumentException("Unsupported type " + extra.getClass());
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        final Map<String, Object> extras = new LinkedHashMap<>();
+        final Object[] slots = mSlots;
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null) {
+                extras.put(ExtraKey.nameOf(i), slots[i]);
+            }
+        }
+        final Map<String, Object> named = mNamedExtras;
+        if (named != null) {
+            synchronized (named) {
+                extras.putAll(named);
             }
         }
+        final ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("mExtras", Collections.synchronizedMap(extras));
+        out.writeFields();
     }
 
-    public void clearExtras() {
-        mExtras.clear();
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        final Map<String, Object> extras = (Map<String, Object>) fields.get("mExtras", null);
+        mSlots = EMPTY;
+        if (extras == null) return;
+        for (Map.Entry<String, Object> entry : extras.entrySet()) {
+            set(ExtraKey.find(entry.getKey()), entry.getKey(), entry.getValue());
+        }
     }
 }
@@ -0,0 +1,535 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONException;
+
+/**
+ * Pull style JSON reader working directly on the json string. Unlike {@link org.json.JSONObject}
+ * no tree is built: names can be matched against the source chars with {@link #selectName(String[])},
+ * unwanted values are skipped in place and only the consumed values are allocated.
+ * <p>
+ * The {@code opt*} methods follow the coercion rules of Android's {@link org.json.JSONObject}:
+ * numbers and booleans may be read from strings, numbers and booleans are read as strings by their
+ * {@link String#valueOf} form and {@code null} is read as string {@code "null"}. Other mismatched
+ * values return the fallback. Unlike {@link org.json.JSONObject#optString}, objects and arrays are
+ * not serialized back to strings.
+ */
+public class JsonPullReader {
+
+    public static final int BEGIN_OBJECT = 1;
+    public static final int END_OBJECT = 2;
+    public static final int BEGIN_ARRAY = 3;
+    public static final int END_ARRAY = 4;
+    public static final int NAME = 5;
+    public static final int STRING = 6;
+    public static final int NUMBER = 7;
+    public static final int TRUE = 8;
+    public static final int FALSE = 9;
+    public static final int NULL = 10;
+    public static final int END_DOCUMENT = 11;
+
+    private static final int PEEKED_NONE = 0;
+
+    private static final int SCOPE_EMPTY_DOCUMENT = 0;
+    private static final int SCOPE_NONEMPTY_DOCUMENT = 1;
+    private static final int SCOPE_EMPTY_OBJECT = 2;
+    private static final int SCOPE_NONEMPTY_OBJECT = 3;
+    private static final int SCOPE_DANGLING_NAME = 4;
+    private static final int SCOPE_EMPTY_ARRAY = 5;
+    private static final int SCOPE_NONEMPTY_ARRAY = 6;
+
+    private final String mJson;
+    private int mPos;
+    private int mPeeked = PEEKED_NONE;
+
+    private int[] mStack = new int[16];
+    private int mStackSize;
+
+    public JsonPullReader(@NonNull String json) {
+        mJson = json;
+        mStack[mStackSize++] = SCOPE_EMPTY_DOCUMENT;
+    }
+
+    /**
+     * @return type of the next token, one of {@link #BEGIN_OBJECT} ... {@link #END_DOCUMENT}.
+     */
+    public int peek() throws JSONException {
+        if (mPeeked != PEEKED_NONE) return mPeeked;
+
+        final int scope = mStack[mStackSize - 1];
+        switch (scope) {
+            case SCOPE_EMPTY_ARRAY:
+                mStack[mStackSize - 1] = SCOPE_NONEMPTY_ARRAY;
+                if (nextNonWhitespace() == ']') {
+                    return mPeeked = END_ARRAY;
+                }
+                mPos--;
+                break;
+            case SCOPE_NONEMPTY_ARRAY: {
+                final int c = nextNonWhitespace();
+                if (c == ']') return mPeeked = END_ARRAY;
+                if (c != ',') throw syntaxError("Expected ',' or ']'");
+                break;
+            }
+            case SCOPE_EMPTY_OBJECT:
+            case SCOPE_NONEMPTY_OBJECT: {
+                mStack[mStackSize - 1] = SCOPE_DANGLING_NAME;
+                int c = nextNonWhitespace();
+                if (scope == SCOPE_NONEMPTY_OBJECT) {
+                    if (c == '}') return mPeeked = END_OBJECT;
+                    if (c != ',') throw syntaxError("Expected ',' or '}'");
+                    c = nextNonWhitespace();
+                } else if (c == '}') {
+                    return mPeeked = END_OBJECT;
+                }
+                if (c != '"') throw syntaxError("Expected name");
+                return mPeeked = NAME;
+            }
+            case SCOPE_DANGLING_NAME:
+                mStack[mStackSize - 1] = SCOPE_NONEMPTY_OBJECT;
+                if (nextNonWhitespace() != ':') throw syntaxError("Expected ':'");
+                break;
+            case SCOPE_EMPTY_DOCUMENT:
+                mStack[mStackSize - 1] = SCOPE_NONEMPTY_DOCUMENT;
+                break;
+            case SCOPE_NONEMPTY_DOCUMENT:
+                if (nextNonWhitespace() == -1) return mPeeked = END_DOCUMENT;
+                throw syntaxError("Expected end of document");
+        }
+
+        final int c = nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return mPeeked = BEGIN_OBJECT;
+            case '[':
+                return mPeeked = BEGIN_ARRAY;
+            case '"':
+                return mPeeked = STRING;
+            case 't':
+                expectLiteral("rue");
+                return mPeeked = TRUE;
+            case 'f':
+                expectLiteral("alse");
+                return mPeeked = FALSE;
+            case 'n':
+                expectLiteral("ull");
+                return mPeeked = NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    mPos--;
+                    return mPeeked = NUMBER;
+                }
+                throw syntaxError(c == -1 ? "End of input" : "Unexpected character");
+        }
+    }
+
+    public boolean hasNext() throws JSONException {
+        final int p = peek();
+        return p != END_OBJECT && p != END_ARRAY && p != END_DOCUMENT;
+    }
+
+    public void beginObject() throws JSONException {
+        expect(BEGIN_OBJECT);
+        push(SCOPE_EMPTY_OBJECT);
+    }
+
+    public void endObject() throws JSONException {
+        expect(END_OBJECT);
+        mStackSize--;
+    }
+
+    public void beginArray() throws JSONException {
+        expect(BEGIN_ARRAY);
+        push(SCOPE_EMPTY_ARRAY);
+    }
+
+    public void endArray() throws JSONException {
+        expect(END_ARRAY);
+        mStackSize--;
+    }
+
+    @NonNull
+    public String nextName() throws JSONException {
+        expect(NAME);
+        return readString();
+    }
+
+    /**
+     * Consumes the next name and matches it against {@code names} without allocating it.
+     *
+     * @return index of the matched name or -1.
+     */
+    public int selectName(@NonNull String[] names) throws JSONException {
+        expect(NAME);
+        final int start = mPos;
+        final int end = findStringEnd();
+        if (end < 0) {
+            final String name = readString();
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) return i;
+            }
+            return -1;
+        }
+        mPos = end + 1;
+        final int length = end - start;
+        for (int i = 0; i < names.length; i++) {
+            final String name = names[i];
+            if (name.length() == length && mJson.regionMatches(start, name, 0, length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Nullable
+    public String optString(@Nullable String fallback) throws JSONException {
+        switch (peek()) {
+            case STRING:
+                mPeeked = PEEKED_NONE;
+                return readString();
+            case NUMBER: {
+                mPeeked = PEEKED_NONE;
+                final int start = mPos;
+                mPos = findNumberEnd();
+                final String literal = mJson.substring(start, mPos);
+                final long value = parseLong(literal);
+                if (value != Long.MIN_VALUE) return String.valueOf(value);
+                return String.valueOf(parseDouble(literal, Double.NaN));
+            }
+            case TRUE:
+                mPeeked = PEEKED_NONE;
+                return "true";
+            case FALSE:
+                mPeeked = PEEKED_NONE;
+                return "false";
+            case NULL:
+                mPeeked = PEEKED_NONE;
+                return "null";
+            default:
+                skipValue();
+                return fallback;
+        }
+    }
+
+    public boolean optBoolean(boolean fallback) throws JSONException {
+        switch (peek()) {
+            case TRUE:
+                mPeeked = PEEKED_NONE;
+                return true;
+            case FALSE:
+                mPeeked = PEEKED_NONE;
+                return false;
+            case STRING: {
+                final String s = optString(null);
+                if ("true".equalsIgnoreCase(s)) return true;
+                if ("false".equalsIgnoreCase(s)) return false;
+                return fallback;
+            }
+            default:
+                skipValue();
+                return fallback;
+        }
+    }
+
+    /**
+     * Integer literals are narrowed like {@link Long#intValue()}, other numbers and strings are
+     * parsed as double and narrowed like {@link Double#intValue()}.
+     */
+    public int optInt(int fallback) throws JSONException {
+        final int p = peek();
+        if (p == NUMBER) {
+            mPeeked = PEEKED_NONE;
+            final int start = mPos;
+            final int end = findNumberEnd();
+            mPos = end;
+            final long value = parseLong(start, end);
+            if (value != Long.MIN_VALUE) return (int) value;
+            final String literal = mJson.substring(start, end);
+            final long longValue = parseLong(literal);
+            if (longValue != Long.MIN_VALUE) return (int) longValue;
+            return (int) parseDouble(literal, fallback);
+        }
+        if (p == STRING) {
+            return (int) parseDouble(readStringValue(), fallback);
+        }
+        skipValue();
+        return fallback;
+    }
+
+    public long optLong(long fallback) throws JSONException {
+        final int p = peek();
+        if (p == NUMBER) {
+            mPeeked = PEEKED_NONE;
+            final int start = mPos;
+            final int end = findNumberEnd();
+            mPos = end;
+            final long value = parseLong(start, end);
+            if (value != Long.MIN_VALUE) return value;
+            final String literal = mJson.substring(start, end);
+            final long longValue = parseLong(literal);
+            if (longValue != Long.MIN_VALUE) return longValue;
+            return (long) parseDouble(literal, fallback);
+        }
+        if (p == STRING) {
+            return (long) parseDouble(readStringValue(), fallback);
+        }
+        skipValue();
+        return fallback;
+    }
+
+    public double optDouble(double fallback) throws JSONException {
+        final int p = peek();
+        if (p == NUMBER) {
+            mPeeked = PEEKED_NONE;
+            final int start = mPos;
+            mPos = findNumberEnd();
+            return parseDouble(mJson.substring(start, mPos), fallback);
+        }
+        if (p == STRING) {
+            return parseDouble(readStringValue(), fallback);
+        }
+        skipValue();
+        return fallback;
+    }
+
+    /**
+     * Skips the next value, including nested objects and arrays, without allocating it.
+     */
+    public void skipValue() throws JSONException {
+        int depth = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    depth++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    depth--;
+                    break;
+                case NAME:
+                case STRING:
+                    mPeeked = PEEKED_NONE;
+                    skipString();
+                    break;
+                case NUMBER:
+                    mPeeked = PEEKED_NONE;
+                    mPos = findNumberEnd();
+                    break;
+                case END_DOCUMENT:
+                    throw syntaxError("End of input");
+                default:
+                    mPeeked = PEEKED_NONE;
+                    break;
+            }
+        } while (depth > 0);
+    }
+
+    private String readStringValue() throws JSONException {
+        mPeeked = PEEKED_NONE;
+        return readString();
+    }
+
+    private void expect(int token) throws JSONException {
+        final int p = peek();
+        if (p != token) {
+            throw syntaxError("Expected token " + token + " but was " + p);
+        }
+        mPeeked = PEEKED_NONE;
+    }
+
+    private void push(int scope) {
+        if (mStackSize == mStack.length) {
+            final int[] stack = new int[mStackSize * 2];
+            System.arraycopy(mStack, 0, stack, 0, mStackSize);
+            mStack = stack;
+        }
+        mStack[mStackSize++] = scope;
+    }
+
+    private int nextNonWhitespace() {
+        final String json = mJson;
+        final int length = json.length();
+        while (mPos < length) {
+            final char c = json.charAt(mPos++);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    private void expectLiteral(String rest) throws JSONException {
+        if (!mJson.startsWith(rest, mPos)) {
+            throw syntaxError("Unexpected literal");
+        }
+        mPos += rest.length();
+    }
+
+    /**
+     * @return index of the closing quote of the string starting at {@link #mPos}, or -1 if the
+     * string contains escapes.
+     */
+    private int findStringEnd() throws JSONException {
+        final String json = mJson;
+        final int length = json.length();
+        for (int i = mPos; i < length; i++) {
+            final char c = json.charAt(i);
+            if (c == '"') return i;
+            if (c == '\\') return -1;
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private void skipString() throws JSONException {
+        final String json = mJson;
+        final int length = json.length();
+        while (mPos < length) {
+            final char c = json.charAt(mPos++);
+            if (c == '"') return;
+            if (c == '\\') mPos++;
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private String readString() throws JSONException {
+        final int end = findStringEnd();
+        if (end >= 0) {
+            final String s = mJson.substring(mPos, end);
+            mPos = end + 1;
+            return s;
+        }
+        final String json = mJson;
+        final int length = json.length();
+        final StringBuilder sb = new StringBuilder();
+        while (mPos < length) {
+            final char c = json.charAt(mPos++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (mPos >= length) break;
+            final char escaped = json.charAt(mPos++);
+            switch (escaped) {
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    if (mPos + 4 > length) throw syntaxError("Unterminated escape sequence");
+                    try {
+                        sb.append((char) Integer.parseInt(json.substring(mPos, mPos + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw syntaxError("Illegal escape");
+                    }
+                    mPos += 4;
+                    break;
+                default:
+                    sb.append(escaped);
+                    break;
+            }
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private int findNumberEnd() {
+        final String json = mJson;
+        final int length = json.length();
+        int i = mPos;
+        while (i < length) {
+            final char c = json.charAt(i);
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * @return parsed value of a plain integer literal, or {@link Long#MIN_VALUE} if the literal is
+     * fractional, exponential or may overflow.
+     */
+    private long parseLong(int start, int end) {
+        final boolean negative = mJson.charAt(start) == '-';
+        int i = negative ? start + 1 : start;
+        if (i == end || end - i > 18) return Long.MIN_VALUE;
+        long value = 0;
+        for (; i < end; i++) {
+            final char c = mJson.charAt(i);
+            if (c < '0' || c > '9') return Long.MIN_VALUE;
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * @return value of an integer literal in long range, or {@link Long#MIN_VALUE} otherwise.
+     */
+    private static long parseLong(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            final char c = literal.charAt(i);
+            if (c == '.' || c == 'e' || c == 'E') return Long.MIN_VALUE;
+        }
+        try {
+            return Long.parseLong(literal);
+        } catch (NumberFormatException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private static double parseDouble(String s, double fallback) {
+        try {
+            return Double.parseDouble(s);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private JSONException syntaxError(String message) {
+        return new JSONException(message + " at character " + mPos);
+    }
+}
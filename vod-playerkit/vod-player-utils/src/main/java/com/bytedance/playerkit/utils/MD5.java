@@ -19,21 +19,62 @@
 package com.bytedance.playerkit.utils;
 
 
-import java.math.BigInteger;
+import androidx.annotation.NonNull;
+
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 
 public class MD5 {
 
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<MessageDigest> DIGEST = new ThreadLocal<MessageDigest>() {
+        @Override
+        protected MessageDigest initialValue() {
+            try {
+                return MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException e) {
+                return null;
+            }
+        }
+    };
+
+    /**
+     * @return md5 hex without leading zeros, the format used by all existing cache keys.
+     * @see #getMD5Hex(String) for fixed width output.
+     */
     public static String getMD5(String s) {
+        final String hex = getMD5Hex(s);
+        if (hex.isEmpty()) return hex;
+        int start = 0;
+        while (start < hex.length() - 1 && hex.charAt(start) == '0') {
+            start++;
+        }
+        return start == 0 ? hex : hex.substring(start);
+    }
+
+    /**
+     * @return 32 chars md5 hex of {@code s}, or empty string if md5 is not available.
+     */
+    @NonNull
+    public static String getMD5Hex(String s) {
         if (s == null) return "";
-        String result = "";
-        try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            md.update(s.getBytes());
-            return (new BigInteger(1, md.digest())).toString(16);
-        } catch (Exception e) {
-            return result;
+        final MessageDigest md = DIGEST.get();
+        if (md == null) return "";
+        md.reset();
+        return toHex(md.digest(s.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @NonNull
+    public static String toHex(byte[] bytes) {
+        final char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            final int b = bytes[i] & 0xFF;
+            chars[i * 2] = HEX[b >>> 4];
+            chars[i * 2 + 1] = HEX[b & 0x0F];
         }
+        return new String(chars);
     }
 }
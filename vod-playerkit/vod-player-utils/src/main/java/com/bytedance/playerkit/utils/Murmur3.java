@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.utils;
+
+import androidx.annotation.NonNull;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * MurmurHash3 x64 128-bit. Non-cryptographic, only use it where collisions are not a security concern.
+ */
+public class Murmur3 {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    /**
+     * @return 32 chars hex of the 128-bit hash of utf-8 bytes of {@code s}.
+     */
+    @NonNull
+    public static String hash128Hex(String s) {
+        if (s == null) return "";
+        final byte[] data = s.getBytes(StandardCharsets.UTF_8);
+        final long[] hash = hash128(data, 0);
+        final byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (hash[0] >>> (56 - i * 8));
+            bytes[i + 8] = (byte) (hash[1] >>> (56 - i * 8));
+        }
+        return MD5.toHex(bytes);
+    }
+
+    @NonNull
+    public static long[] hash128(@NonNull byte[] data, long seed) {
+        final int length = data.length;
+        final int blocks = length / 16;
+        long h1 = seed;
+        long h2 = seed;
+
+        for (int i = 0; i < blocks; i++) {
+            long k1 = getLong(data, i * 16);
+            long k2 = getLong(data, i * 16 + 8);
+
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= C1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        final int tail = blocks * 16;
+        long k1 = 0;
+        long k2 = 0;
+        switch (length & 15) {
+            case 15:
+                k2 ^= (long) (data[tail + 14] & 0xFF) << 48;
+            case 14:
+                k2 ^= (long) (data[tail + 13] & 0xFF) << 40;
+            case 13:
+                k2 ^= (long) (data[tail + 12] & 0xFF) << 32;
+            case 12:
+                k2 ^= (long) (data[tail + 11] & 0xFF) << 24;
+            case 11:
+                k2 ^= (long) (data[tail + 10] & 0xFF) << 16;
+            case 10:
+                k2 ^= (long) (data[tail + 9] & 0xFF) << 8;
+            case 9:
+                k2 ^= data[tail + 8] & 0xFF;
+                k2 *= C2;
+                k2 = Long.rotateLeft(k2, 33);
+                k2 *= C1;
+                h2 ^= k2;
+            case 8:
+                k1 ^= (long) (data[tail + 7] & 0xFF) << 56;
+            case 7:
+                k1 ^= (long) (data[tail + 6] & 0xFF) << 48;
+            case 6:
+                k1 ^= (long) (data[tail + 5] & 0xFF) << 40;
+            case 5:
+                k1 ^= (long) (data[tail + 4] & 0xFF) << 32;
+            case 4:
+                k1 ^= (long) (data[tail + 3] & 0xFF) << 24;
+            case 3:
+                k1 ^= (long) (data[tail + 2] & 0xFF) << 16;
+            case 2:
+                k1 ^= (long) (data[tail + 1] & 0xFF) << 8;
+            case 1:
+                k1 ^= data[tail] & 0xFF;
+                k1 *= C1;
+                k1 = Long.rotateLeft(k1, 31);
+                k1 *= C2;
+                h1 ^= k1;
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+        return new long[]{h1, h2};
+    }
+
+    private static long getLong(byte[] data, int offset) {
+        return (data[offset] & 0xFFL)
+                | (data[offset + 1] & 0xFFL) << 8
+                | (data[offset + 2] & 0xFFL) << 16
+                | (data[offset + 3] & 0xFFL) << 24
+                | (data[offset + 4] & 0xFFL) << 32
+                | (data[offset + 5] & 0xFFL) << 40
+                | (data[offset + 6] & 0xFFL) << 48
+                | (data[offset + 7] & 0xFFL) << 56;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -25,7 +25,8 @@ import android.os.Message;
 import androidx.annotation.NonNull;
 
 import java.lang.ref.WeakReference;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class Dispatcher {
 
@@ -33,34 +34,116 @@ public class Dispatcher {
         void onEvent(Event event);
     }
 
+    /**
+     * Listener registry. Dispatching iterates an immutable snapshot array by index, so firing an
+     * event allocates nothing. Add/remove rebuild the snapshot under a lock.
+     */
     public static class EventListeners implements EventListener {
 
-        private final CopyOnWriteArrayList<EventListener> mListeners = new CopyOnWriteArrayList<>();
+        private static final Entry[] EMPTY = new Entry[0];
+
+        private final Object mLock = new Object();
+        private volatile Entry[] mEntries = EMPTY;
 
         public final void addEventListener(EventListener listener) {
-            this.mListeners.addIfAbsent(listener);
+            addEventListener(listener, (int[]) null);
+        }
+
+        /**
+         * @param codes event codes the listener is interested in. Events with other codes will not
+         *              be delivered to the listener. Empty or null means all events.
+         */
+        public final void addEventListener(EventListener listener, int... codes) {
+            if (listener == null) return;
+            synchronized (mLock) {
+                final Entry[] entries = mEntries;
+                for (Entry entry : entries) {
+                    if (entry.listener.equals(listener)) return;
+                }
+                final Entry[] newEntries = new Entry[entries.length + 1];
+                System.arraycopy(entries, 0, newEntries, 0, entries.length);
+                newEntries[entries.length] = new Entry(listener, codes);
+                mEntries = newEntries;
+            }
         }
 
         public final void removeEventListener(EventListener listener) {
-            if (listener != null) {
-                this.mListeners.remove(listener);
+            if (listener == null) return;
+            synchronized (mLock) {
+                final Entry[] entries = mEntries;
+                for (int i = 0; i < entries.length; i++) {
+                    if (entries[i].listener.equals(listener)) {
+                        if (entries.length == 1) {
+                            mEntries = EMPTY;
+                        } else {
+                            final Entry[] newEntries = new Entry[entries.length - 1];
+                            System.arraycopy(entries, 0, newEntries, 0, i);
+                            System.arraycopy(entries, i + 1, newEntries, i, entries.length - i - 1);
+                            mEntries = newEntries;
+                        }
+                        return;
+                    }
+                }
             }
         }
 
         public final void removeAllEventListener() {
-            this.mListeners.clear();
+            synchronized (mLock) {
+                mEntries = EMPTY;
+            }
         }
 
         @Override
         public void onEvent(Event event) {
-            for (EventListener listener : mListeners) {
-                listener.onEvent(event);
+            final Entry[] entries = mEntries;
+            final int code = event.code();
+            for (int i = 0; i < entries.length; i++) {
+                final Entry entry = entries[i];
+                if (entry.accept(code)) {
+                    entry.listener.onEvent(event);
+                }
+            }
+        }
+
+        private static final class Entry {
+            private final EventListener listener;
+            private final int[] codes;
+            private final long mask;
+
+            Entry(EventListener listener, int[] codes) {
+                this.listener = listener;
+                if (codes == null || codes.length == 0) {
+                    this.codes = null;
+                    this.mask = -1L;
+                } else {
+                    long mask = 0;
+                    for (int code : codes) {
+                        mask |= 1L << (code & 63);
+                    }
+                    this.codes = codes.clone();
+                    this.mask = mask;
+                }
+            }
+
+            boolean accept(int code) {
+                if ((mask & (1L << (code & 63))) == 0) return false;
+                if (codes == null) return true;
+                for (int c : codes) {
+                    if (c == code) return true;
+                }
+                return false;
             }
         }
     }
 
+    private static final int MSG_DISPATCH = 0;
+    private static final int MSG_DISPATCH_COALESCED = 1;
+
     private final H mHandler;
     private final EventListeners mListeners = new EventListeners();
+    private volatile Coalescer mCoalescer;
+    private final AtomicLong mMergedEventCount = new AtomicLong();
+    private final AtomicLong mDroppedEventCount = new AtomicLong();
 
     public Dispatcher(Looper looper) {
         this.mHandler = new H(looper, this);
@@ -75,6 +158,13 @@ public class Dispatcher {
         this.mListeners.addEventListener(listener);
     }
 
+    /**
+     * @see EventListeners#addEventListener(EventListener, int...)
+     */
+    public final void addEventListener(EventListener listener, int... codes) {
+        this.mListeners.addEventListener(listener, codes);
+    }
+
     public final void removeEventListener(EventListener listener) {
         this.mListeners.removeEventListener(listener);
     }
@@ -83,10 +173,61 @@ public class Dispatcher {
         this.mListeners.removeAllEventListener();
     }
 
+    /**
+     * Opt-in coalescing for high frequency events. When an event with one of {@code codes} is
+     * dispatched off the looper thread while a previous one with the same code is still pending,
+     * the pending one is replaced by the latest event. The latest event is queued at the tail, so
+     * events are still delivered in the order of their last dispatch.
+     *
+     * @param codes event codes to coalesce, empty or null to disable coalescing.
+     */
+    public final void setCoalescingEventCodes(int... codes) {
+        final Coalescer coalescer = mCoalescer;
+        mCoalescer = codes == null || codes.length == 0 ? null : new Coalescer(codes);
+        if (coalescer != null) {
+            mHandler.post(() -> dropPending(coalescer));
+        }
+    }
+
+    /**
+     * @return count of pending events replaced by a newer event with the same code.
+     */
+    public final long getMergedEventCount() {
+        return mMergedEventCount.get();
+    }
+
+    /**
+     * @return count of pending events discarded without being delivered. Happens when a newer
+     * event with same code is dispatched on the looper thread, or the dispatcher is released.
+     */
+    public final long getDroppedEventCount() {
+        return mDroppedEventCount.get();
+    }
+
     public void dispatchEvent(Event event) {
+        final Coalescer coalescer = mCoalescer;
+        final int index = coalescer == null ? -1 : coalescer.indexOf(event.code());
         if (Thread.currentThread() != this.mHandler.getLooper().getThread()) {
-            this.mHandler.obtainMessage(0, event).sendToTarget();
+            if (index >= 0) {
+                final Slot slot = coalescer.slots[index];
+                final Event pending = coalescer.pending.getAndSet(index, event);
+                if (pending != null) {
+                    mMergedEventCount.incrementAndGet();
+                    recycle(pending);
+                    this.mHandler.removeMessages(MSG_DISPATCH_COALESCED, slot);
+                }
+                this.mHandler.obtainMessage(MSG_DISPATCH_COALESCED, slot).sendToTarget();
+            } else {
+                this.mHandler.obtainMessage(MSG_DISPATCH, event).sendToTarget();
+            }
         } else {
+            if (index >= 0) {
+                final Event pending = coalescer.pending.getAndSet(index, null);
+                if (pending != null) {
+                    mDroppedEventCount.incrementAndGet();
+                    recycle(pending);
+                }
+            }
             dispatch(event);
         }
     }
@@ -95,11 +236,36 @@ public class Dispatcher {
         mHandler.post(() -> {
             mHandler.removeCallbacksAndMessages(null);
             mListeners.removeAllEventListener();
+            final Coalescer coalescer = mCoalescer;
+            if (coalescer != null) {
+                dropPending(coalescer);
+            }
         });
     }
 
     private void dispatch(Event event) {
         mListeners.onEvent(event);
+        recycle(event);
+    }
+
+    private void dispatchCoalesced(Slot slot) {
+        final Event event = slot.coalescer.pending.getAndSet(slot.index, null);
+        if (event != null) {
+            dispatch(event);
+        }
+    }
+
+    private void dropPending(Coalescer coalescer) {
+        for (int i = 0; i < coalescer.pending.length(); i++) {
+            final Event pending = coalescer.pending.getAndSet(i, null);
+            if (pending != null) {
+                mDroppedEventCount.incrementAndGet();
+                recycle(pending);
+            }
+        }
+    }
+
+    private void recycle(Event event) {
         if (event.dispatcher() == this) {
             if (Config.EVENT_POOL_ENABLE) {
                 Pool.release(event);
@@ -107,6 +273,41 @@ public class Dispatcher {
         }
     }
 
+    private static final class Coalescer {
+        private final int[] codes;
+        private final AtomicReferenceArray<Event> pending;
+        private final Slot[] slots;
+
+        Coalescer(int[] codes) {
+            this.codes = codes.clone();
+            this.pending = new AtomicReferenceArray<>(codes.length);
+            this.slots = new Slot[codes.length];
+            for (int i = 0; i < codes.length; i++) {
+                slots[i] = new Slot(this, i);
+            }
+        }
+
+        int indexOf(int code) {
+            for (int i = 0; i < codes.length; i++) {
+                if (codes[i] == code) return i;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Message token of a coalesced code, lets a replaced event's message be removed from the queue.
+     */
+    private static final class Slot {
+        private final Coalescer coalescer;
+        private final int index;
+
+        Slot(Coalescer coalescer, int index) {
+            this.coalescer = coalescer;
+            this.index = index;
+        }
+    }
+
     private final static class H extends Handler {
         private final WeakReference<Dispatcher> mRef;
 
@@ -120,9 +321,13 @@ public class Dispatcher {
             final Dispatcher dispatcher = this.mRef.get();
             if (dispatcher == null) return;
 
-            if (msg.what == 0) {
-                dispatcher.dispatch((Event) msg.obj);
-                return;
+            switch (msg.what) {
+                case MSG_DISPATCH:
+                    dispatcher.dispatch((Event) msg.obj);
+                    return;
+                case MSG_DISPATCH_COALESCED:
+                    dispatcher.dispatchCoalesced((Slot) msg.obj);
+                    return;
             }
             throw new IllegalArgumentException();
         }
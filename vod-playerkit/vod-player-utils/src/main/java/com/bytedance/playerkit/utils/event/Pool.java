@@ -18,33 +18,121 @@
 
 package com.bytedance.playerkit.utils.event;
 
-import android.util.ArrayMap;
-
-import androidx.core.util.Pools;
+import androidx.annotation.NonNull;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
-class Pool {
-    private static final Map<Class<? extends Event>, Pools.SimplePool<Event>> sPools = new ArrayMap<>();
+/**
+ * Event object pool. Every event class owns its own {@link Slot}, so players dispatching different
+ * events never contend with each other. Slots are lock-free: acquire/release claim a cell of a
+ * fixed size {@link AtomicReferenceArray} with CAS.
+ */
+public class Pool {
+    private static final Map<Class<? extends Event>, Slot> sSlots = new ConcurrentHashMap<>();
 
-    synchronized static <T extends Event> T acquire(Class<T> clazz) {
-        Pools.SimplePool<Event> pool = sPools.get(clazz);
-        if (pool == null) {
-            pool = new Pools.SimplePool<>(Config.EVENT_POOL_SIZE);
-            sPools.put(clazz, pool);
-        }
-        final Event event = pool.acquire();
+    static <T extends Event> T acquire(Class<T> clazz) {
+        final Slot slot = slot(clazz);
+        final Event event = slot.acquire();
         if (event != null) {
             return clazz.cast(event);
         }
         return Factory.create(clazz);
     }
 
-    synchronized static void release(Event event) {
+    static void release(Event event) {
         event.recycle();
-        final Pools.SimplePool<Event> eventPool = sPools.get(event.getClass());
-        if (eventPool != null) {
-            eventPool.release(event);
+        final Slot slot = sSlots.get(event.getClass());
+        if (slot != null) {
+            slot.release(event);
+        }
+    }
+
+    private static Slot slot(Class<? extends Event> clazz) {
+        Slot slot = sSlots.get(clazz);
+        if (slot == null) {
+            final Slot created = new Slot(Config.EVENT_POOL_SIZE);
+            slot = sSlots.putIfAbsent(clazz, created);
+            if (slot == null) {
+                slot = created;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * @return max count of {@code clazz} events alive at the same time. Values greater than
+     * {@link Config#EVENT_POOL_SIZE} means the pool is too small for the dispatch rate.
+     */
+    public static int highWaterMark(@NonNull Class<? extends Event> clazz) {
+        final Slot slot = sSlots.get(clazz);
+        return slot == null ? 0 : slot.highWaterMark.get();
+    }
+
+    /**
+     * @return count of {@code clazz} events created because the pool was empty.
+     */
+    public static int createdCount(@NonNull Class<? extends Event> clazz) {
+        final Slot slot = sSlots.get(clazz);
+        return slot == null ? 0 : slot.created.get();
+    }
+
+    public static String dump() {
+        final StringBuilder sb = new StringBuilder();
+        for (Map.Entry<Class<? extends Event>, Slot> entry : sSlots.entrySet()) {
+            final Slot slot = entry.getValue();
+            sb.append(entry.getKey().getSimpleName())
+                    .append(" highWater=").append(slot.highWaterMark.get())
+                    .append(" created=").append(slot.created.get())
+                    .append(" dropped=").append(slot.dropped.get())
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Statistics are only updated on the slow paths: a miss means every alive event is in flight,
+     * so {@code created - dropped} at that moment is the current in-flight count.
+     */
+    private static final class Slot {
+        private final AtomicReferenceArray<Event> cells;
+        private final AtomicInteger highWaterMark = new AtomicInteger();
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger dropped = new AtomicInteger();
+
+        Slot(int size) {
+            this.cells = new AtomicReferenceArray<>(Math.max(size, 1));
+        }
+
+        Event acquire() {
+            for (int i = 0; i < cells.length(); i++) {
+                final Event event = cells.get(i);
+                if (event != null && cells.compareAndSet(i, event, null)) {
+                    return event;
+                }
+            }
+            final int alive = created.incrementAndGet() - dropped.get();
+            int highWater;
+            while (alive > (highWater = highWaterMark.get())) {
+                if (highWaterMark.compareAndSet(highWater, alive)) break;
+            }
+            return null;
+        }
+
+        void release(Event event) {
+            for (int i = 0; i < cells.length(); i++) {
+                if (cells.get(i) == event) {
+                    throw new IllegalStateException("Already in the pool!");
+                }
+            }
+            for (int i = 0; i < cells.length(); i++) {
+                if (cells.get(i) == null && cells.compareAndSet(i, null, event)) {
+                    return;
+                }
+            }
+            dropped.incrementAndGet();
         }
     }
 }
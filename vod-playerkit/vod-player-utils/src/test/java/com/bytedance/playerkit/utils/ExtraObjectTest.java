@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+public class ExtraObjectTest {
+
+    private static final ExtraKey<String> KEY_TITLE = ExtraKey.of("test_title", String.class);
+    private static final ExtraKey<Integer> KEY_COUNT = ExtraKey.of("test_count", Integer.class);
+
+    @Test
+    public void typedAndStringKeysShareSlot() {
+        final ExtraObject object = new ExtraObject();
+        object.putExtra(KEY_TITLE, "a");
+        assertEquals("a", object.getExtra("test_title", String.class));
+
+        object.putExtra("test_count", 1);
+        assertEquals(Integer.valueOf(1), object.getExtra(KEY_COUNT));
+
+        assertEquals(KEY_TITLE.index, ExtraKey.of("test_title", String.class).index);
+    }
+
+    @Test
+    public void unknownNameDoesNotAllocateSlot() {
+        final ExtraObject object = new ExtraObject();
+        assertNull(object.getExtra("test_never_put", String.class));
+        assertEquals(-1, ExtraKey.find("test_never_put"));
+    }
+
+    @Test
+    public void putNullRemoves() {
+        final ExtraObject object = new ExtraObject();
+        object.putExtra(KEY_TITLE, "a");
+        object.putExtra(KEY_TITLE, null);
+        assertNull(object.getExtra(KEY_TITLE));
+
+        object.putExtra(KEY_TITLE, "b");
+        object.clearExtras();
+        assertNull(object.getExtra(KEY_TITLE));
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void wrongType() {
+        final ExtraObject object = new ExtraObject();
+        object.putExtra("test_title", 1);
+        object.getExtra(KEY_TITLE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unsupportedType() {
+        new ExtraObject().putExtra("test_object", new Object());
+    }
+
+    @Test
+    public void serializedByName() throws Exception {
+        final ExtraObject object = new ExtraObject();
+        object.putExtra(KEY_TITLE, "a");
+        object.putExtra(KEY_COUNT, 2);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        final ExtraObject read;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            read = (ExtraObject) in.readObject();
+        }
+        assertEquals("a", read.getExtra(KEY_TITLE));
+        assertEquals(Integer.valueOf(2), read.getExtra(KEY_COUNT));
+    }
+
+    /**
+     * Extras "test_title" = "a" and "test_legacy" = 3 written by the map based ExtraObject.
+     */
+    private static final String LEGACY_STREAM = "rO0ABXNyACljb20uYnl0ZWRhbmNlLnBsYXllcmtpdC51dGlscy5FeHRyYU9iamVjdLr5u7Fo822oAgAB"
+            + "TAAHbUV4dHJhc3QAD0xqYXZhL3V0aWwvTWFwO3hwc3IAJWphdmEudXRpbC5Db2xsZWN0aW9ucyRTeW5j"
+            + "aHJvbml6ZWRNYXAbc/kJS0s5ewMAAkwAAW1xAH4AAUwABW11dGV4dAASTGphdmEvbGFuZy9PYmplY3Q7"
+            + "eHBzcgAXamF2YS51dGlsLkxpbmtlZEhhc2hNYXA0wE5cEGzA+wIAAVoAC2FjY2Vzc09yZGVyeHIAEWph"
+            + "dmEudXRpbC5IYXNoTWFwBQfawcMWYNEDAAJGAApsb2FkRmFjdG9ySQAJdGhyZXNob2xkeHA/QAAAAAAA"
+            + "DHcIAAAAEAAAAAJ0AAp0ZXN0X3RpdGxldAABYXQAC3Rlc3RfbGVnYWN5c3IAEWphdmEubGFuZy5JbnRl"
+            + "Z2VyEuKgpPeBhzgCAAFJAAV2YWx1ZXhyABBqYXZhLmxhbmcuTnVtYmVyhqyVHQuU4IsCAAB4cAAAAAN4"
+            + "AHEAfgAFeA==";
+
+    @Test
+    public void readsStreamOfMapBasedVersion() throws Exception {
+        final ExtraObject read;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(
+                Base64.getDecoder().decode(LEGACY_STREAM)))) {
+            read = (ExtraObject) in.readObject();
+        }
+        assertEquals("a", read.getExtra(KEY_TITLE));
+        assertEquals(Integer.valueOf(3), read.getExtra("test_legacy", Integer.class));
+        assertEquals(-1, ExtraKey.find("test_legacy"));
+    }
+
+    @Test
+    public void undeclaredNamesDoNotAllocateSlots() {
+        final ExtraObject object = new ExtraObject();
+        object.putExtra("test_undeclared", "a");
+        assertEquals(-1, ExtraKey.find("test_undeclared"));
+        assertEquals("a", object.getExtra("test_undeclared", String.class));
+
+        // declared after the put by name
+        final ExtraKey<String> key = ExtraKey.of("test_undeclared", String.class);
+        assertEquals("a", object.getExtra(key));
+        object.putExtra(key, "b");
+        assertEquals("b", object.getExtra("test_undeclared", String.class));
+        object.putExtra(key, null);
+        assertNull(object.getExtra(key));
+    }
+
+    @Test
+    public void concurrentPutsAreNotLost() throws Exception {
+        final int threadCount = 4;
+        final ExtraObject object = new ExtraObject();
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final int thread = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    object.putExtra("test_concurrent_" + thread + "_" + i, i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int t = 0; t < threadCount; t++) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(Integer.valueOf(i), object.getExtra("test_concurrent_" + t + "_" + i, Integer.class));
+                assertEquals(-1, ExtraKey.find("test_concurrent_" + t + "_" + i));
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.json.JSONException;
+import org.junit.Test;
+
+/**
+ * Coercions of {@link JsonPullReader} opt readers, expected values are what Android's
+ * {@link org.json.JSONObject} opt methods return for the same input.
+ */
+public class JsonPullReaderTest {
+
+    private static JsonPullReader value(String json) throws JSONException {
+        final JsonPullReader reader = new JsonPullReader("{\"v\":" + json + "}");
+        reader.beginObject();
+        reader.nextName();
+        return reader;
+    }
+
+    @Test
+    public void optString() throws JSONException {
+        assertEquals("abc", value("\"abc\"").optString("x"));
+        assertEquals("null", value("null").optString("x"));
+        assertEquals("true", value("true").optString("x"));
+        assertEquals("42", value("42").optString("x"));
+        assertEquals("0", value("-0").optString("x"));
+        assertEquals("63.52", value("63.52").optString("x"));
+        assertEquals("100.0", value("1e2").optString("x"));
+        assertEquals("9223372036854775807", value("9223372036854775807").optString("x"));
+        assertEquals("x", value("{\"a\":1}").optString("x"));
+        assertNull(value("[1]").optString(null));
+    }
+
+    @Test
+    public void optInt() throws JSONException {
+        assertEquals(42, value("42").optInt(-1));
+        assertEquals(42, value("\"42\"").optInt(-1));
+        assertEquals(3, value("3.9").optInt(-1));
+        assertEquals(-3, value("-3.9").optInt(-1));
+        assertEquals((int) 4294967297L, value("4294967297").optInt(-1));
+        assertEquals(Integer.MAX_VALUE, value("1e10").optInt(-1));
+        assertEquals(Integer.MAX_VALUE, value("\"1e10\"").optInt(-1));
+        assertEquals(Integer.MIN_VALUE, value("-1e10").optInt(-1));
+        assertEquals(-1, value("null").optInt(-1));
+        assertEquals(-1, value("\"abc\"").optInt(-1));
+        assertEquals(-1, value("true").optInt(-1));
+    }
+
+    @Test
+    public void optLong() throws JSONException {
+        assertEquals(9223372036854775807L, value("9223372036854775807").optLong(-1));
+        assertEquals(-9223372036854775808L, value("-9223372036854775808").optLong(-1));
+        assertEquals(1500000L, value("1.5e6").optLong(-1));
+        assertEquals(Long.MAX_VALUE, value("1e19").optLong(-1));
+        assertEquals(12L, value("\"12.7\"").optLong(-1));
+        assertEquals(-1L, value("null").optLong(-1));
+    }
+
+    @Test
+    public void optDouble() throws JSONException {
+        assertEquals(63.52, value("63.52").optDouble(0), 0);
+        assertEquals(2.5, value("\"2.5\"").optDouble(0), 0);
+        assertEquals(7, value("null").optDouble(7), 0);
+    }
+
+    @Test
+    public void optBoolean() throws JSONException {
+        assertTrue(value("true").optBoolean(false));
+        assertTrue(value("\"TRUE\"").optBoolean(false));
+        assertFalse(value("\"false\"").optBoolean(true));
+        assertTrue(value("1").optBoolean(true));
+        assertFalse(value("null").optBoolean(false));
+    }
+
+    @Test
+    public void skipsNestedValues() throws JSONException {
+        final JsonPullReader reader = new JsonPullReader(
+                "{\"a\":{\"b\":[1,{\"c\":\"}\"}],\"d\":null},\"e\":\"x\\\"y\",\"f\":7}");
+        final String[] names = {"e", "f"};
+        reader.beginObject();
+        assertEquals(-1, reader.selectName(names));
+        reader.skipValue();
+        assertEquals(0, reader.selectName(names));
+        assertEquals("x\"y", reader.optString(null));
+        assertEquals(1, reader.selectName(names));
+        assertEquals(7, reader.optInt(0));
+        assertFalse(reader.hasNext());
+        reader.endObject();
+    }
+}
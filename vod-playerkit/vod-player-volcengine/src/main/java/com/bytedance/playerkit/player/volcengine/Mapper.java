@@ -152,6 +152,18 @@ public class Mapper {
         return null;
     }
 
+    /**
+     * Generates cache key of {@code track} and records it in {@link VolcDiskCacheManager}.
+     */
+    private static String trackCacheKey(MediaSource mediaSource, Track track, CacheKeyFactory cacheKeyFactory) {
+        final String cacheKey = cacheKeyFactory.generateCacheKey(mediaSource, track);
+        final VolcDiskCacheManager diskCacheManager = VolcDiskCacheManager.get();
+        if (diskCacheManager != null) {
+            diskCacheManager.touch(cacheKey, VolcConfig.get(mediaSource).tag);
+        }
+        return cacheKey;
+    }
+
     public static IVideoModel mediaSource2VideoModel(MediaSource source, CacheKeyFactory cacheKeyFactory) {
         List<VideoInfo> videoInfos = new ArrayList<>();
         List<Track> videoTracks = source.getTracks(TRACK_TYPE_VIDEO);
@@ -170,7 +182,7 @@ public class Mapper {
                                 .mediaType(trackType2VideoModelMediaType(track.getTrackType()))
                                 .urls(urls)
                                 .fileId(track.getFileId())
-                                .fileHash(cacheKeyFactory.generateCacheKey(source, track))
+                                .fileHash(trackCacheKey(source, track, cacheKeyFactory))
                                 .size(track.getFileSize())
                                 .bitrate(track.getBitrate())
                                 .spadea(track.getEncryptedKey())
@@ -193,7 +205,7 @@ public class Mapper {
                                 .mediaType(trackType2VideoModelMediaType(track.getTrackType()))
                                 .urls(Arrays.asList(track.getUrl()))
                                 .fileId(track.getFileId())
-                                .fileHash(cacheKeyFactory.generateCacheKey(source, track))
+                                .fileHash(trackCacheKey(source, track, cacheKeyFactory))
                                 .size(track.getFileSize())
                                 .bitrate(track.getBitrate())
                                 .spadea(track.getEncryptedKey())
@@ -248,8 +260,15 @@ public class Mapper {
     public static void updateVideoModelMediaSource(MediaSource mediaSource) {
         if (mediaSource.getSourceType() == MediaSource.SOURCE_TYPE_MODEL
                 && mediaSource.getTracks() == null) {
+            final VolcVideoModelBinaryCache binaryCache = VolcVideoModelBinaryCache.get();
+            if (binaryCache != null && binaryCache.apply(mediaSource)) {
+                return;
+            }
             IVideoModel videoModel = VolcVideoModelCache.acquire(mediaSource.getModelJson());
             updateMediaSource(mediaSource, videoModel);
+            if (binaryCache != null && videoModel != null) {
+                binaryCache.put(mediaSource, videoModel);
+            }
         }
     }
 
@@ -561,7 +580,7 @@ public class Mapper {
                 .setVid(mediaSource.getMediaId())
                 .addItem(new DirectUrlSource.UrlItem.Builder()
                         .setUrls(urls.toArray(new String[0]))
-                        .setCacheKey(cacheKeyFactory.generateCacheKey(mediaSource, track))
+                        .setCacheKey(trackCacheKey(mediaSource, track, cacheKeyFactory))
                         .setEncodeType(Mapper.trackEncodeType2VideoModelEncodeType(track.getEncoderType()))
                         .setPlayAuth(track.getEncryptedKey())
                         .build());
@@ -26,7 +26,9 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.bytedance.applog.IAppLogInstance;
+import com.bytedance.playerkit.player.cache.DefaultCacheKeyFactory;
 import com.bytedance.playerkit.utils.L;
+import com.bytedance.playerkit.utils.concurrent.ExecutorFactory;
 import com.pandora.common.applog.AppLogWrapper;
 import com.pandora.common.applog.VodAppLog;
 import com.pandora.common.env.Env;
@@ -40,13 +42,59 @@ import com.ss.ttvideoengine.TTVideoEngine;
 import com.ss.ttvideoengine.strategy.StrategyManager;
 import com.ss.ttvideoengine.utils.TTVideoEngineUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 class TTSDKVodInit {
 
-    private static void doInit(VolcPlayerInitConfig initConfig) {
+    private static final int INIT_THREAD_COUNT = 2;
+
+    private static final String TASK_PENDING = "InitTask#pending";
+
+    /**
+     * Strategy inits run concurrently after Env.init, except:
+     * <ul>
+     *   <li>VolcEngineStrategy and VolcNetSpeedStrategy both configure
+     *   {@link StrategyManager#instance()}, so they run in that order as before.</li>
+     *   <li>VolcQualityStrategy inits ABR which reads the speed predictor started by
+     *   VolcNetSpeedStrategy.</li>
+     * </ul>
+     * ABR and speed predictor inits are required for playback whenever ABR is enabled, so the
+     * first player is never created before them. Pending {@link InitTask}s only call AppLog APIs.
+     */
+    private static VolcInitGraph createInitGraph(VolcPlayerInitConfig initConfig) {
+        final boolean abr = VolcConfigGlobal.ENABLE_ABR_INIT || VolcConfigGlobal.ENABLE_STARTUP_ABR_INIT;
+        return new VolcInitGraph()
+                .add("Env.init", true, () -> initEnv(initConfig))
+                .add("VolcEngineStrategy.init", true, VolcEngineStrategy::init, "Env.init")
+                .add("VolcSuperResolutionStrategy.init", true, VolcSuperResolutionStrategy::init, "Env.init")
+                .add("VolcSourceRefreshStrategy.init", true, VolcSourceRefreshStrategy::init, "Env.init")
+                .add("VolcNetSpeedStrategy.init", abr, VolcNetSpeedStrategy::init, "VolcEngineStrategy.init")
+                .add("VolcQualityStrategy.init", abr, VolcQualityStrategy::init, "VolcNetSpeedStrategy.init")
+                .add(TASK_PENDING, false, TTSDKVodInit::runPendingInitTasks, "Env.init")
+                .setListener(TTSDKVodInit::onInitTaskFailed);
+    }
+
+    private static void onInitTaskFailed(String name, RuntimeException error, boolean skipped) {
+        INIT_ERRORS.put(name, error);
+        if (TASK_PENDING.equals(name)) {
+            synchronized (TTSDKVodInit.class) {
+                sEnvInitFailed = true;
+                for (InitTask initTask : INIT_TASK_PENDING_LIST) {
+                    L.e(TTSDKVodInit.class, "onInitTaskFailed", "drop pending task", initTask.taskName);
+                }
+                INIT_TASK_PENDING_LIST.clear();
+            }
+        }
+    }
+
+    private static void initEnv(VolcPlayerInitConfig initConfig) {
         if (L.ENABLE_LOG) {
             VodSDK.openAllVodLog();
         }
@@ -66,10 +114,14 @@ class TTSDKVodInit {
             TTVideoEngine.setIntValue(DataLoaderHelper.DATALOADER_KEY_INT_ALLOW_TRY_THE_LAST_URL, 1);
         }
 
+        if (initConfig.cacheKeyFactory instanceof DefaultCacheKeyFactory) {
+            // resolves key mode against playerCacheDir before the data loader opens it
+            ((DefaultCacheKeyFactory) initConfig.cacheKeyFactory).getKeyMode();
+        }
         if (!initConfig.playerCacheDir.exists()) initConfig.playerCacheDir.mkdirs();
         VodConfig.Builder vodBuilder = new VodConfig.Builder(initConfig.context)
                 .setCacheDirPath(initConfig.playerCacheDir.getAbsolutePath())
-                .setMaxCacheSize(300 * 1024 * 1024);
+                .setMaxCacheSize(initConfig.diskCacheConfig.maxCacheSize);
 
         if (VolcConfigGlobal.ENABLE_ECDN &&
                 VolcExtensions.isIntegrate(VolcExtensions.PLAYER_EXTENSION_ECDN)) {
@@ -96,18 +148,35 @@ class TTSDKVodInit {
                 // 可不设置，默认值见下表
                 .setVodConfig(vodBuilder.build())
                 .build());
-        VolcEngineStrategy.init();
-        VolcNetSpeedStrategy.init();
-        VolcSuperResolutionStrategy.init();
-        VolcQualityStrategy.init();
-        VolcSourceRefreshStrategy.init();
     }
 
-    private static final List<InitTask> INIT_TASK_PENDING_LIST = new CopyOnWriteArrayList<>();
+    private static void trace(String name, Runnable step) {
+        final long startNs = VolcInitTrace.begin(name);
+        try {
+            step.run();
+        } finally {
+            VolcInitTrace.end(name, startNs);
+        }
+    }
+
+    private static final List<InitTask> INIT_TASK_PENDING_LIST = new ArrayList<>();
 
     private static volatile boolean sIniting;
     private static volatile boolean sInited;
+    /**
+     * Guarded by TTSDKVodInit.class
+     */
+    private static boolean sEnvInited;
+    /**
+     * Guarded by TTSDKVodInit.class
+     */
+    private static boolean sEnvInitFailed;
+    private static final Map<String, RuntimeException> INIT_ERRORS = new ConcurrentHashMap<>();
+    private static final ThreadPoolExecutor INIT_EXECUTOR = createInitExecutor();
 
+    /**
+     * Returns when tasks required for playback completed. Others keep running on init executor.
+     */
     static void initVod(VolcPlayerInitConfig initConfig) {
         if (sInited || sIniting) {
             return;
@@ -115,34 +184,55 @@ class TTSDKVodInit {
         sIniting = true;
         try {
             L.d(TTSDKVodInit.class, "initVod", "start");
-            synchronized (TTSDKVodInit.class) {
-                doInit(initConfig);
-            }
+            final VolcInitGraph graph = createInitGraph(initConfig);
+            graph.start(VolcConfigGlobal.ENABLE_PARALLEL_INIT ? INIT_EXECUTOR : Runnable::run);
+            graph.awaitRequired();
         } finally {
             sIniting = false;
             sInited = true;
             L.d(TTSDKVodInit.class, "initVod", "end");
         }
-        for (InitTask initTask : INIT_TASK_PENDING_LIST) {
-            L.d(TTSDKVodInit.class, "initVod", "execute pending task", initTask.taskName);
-            synchronized (TTSDKVodInit.class) {
-                initTask.runnable.run();
-            }
-        }
-        INIT_TASK_PENDING_LIST.clear();
 
         logAuthResult();
     }
 
+    /**
+     * @return errors of failed init tasks by task name, including tasks skipped because a
+     * dependency failed. Tasks not required for playback may fail after {@link #initVod} returned.
+     */
+    static Map<String, RuntimeException> getInitErrors() {
+        return new LinkedHashMap<>(INIT_ERRORS);
+    }
+
+    private static ThreadPoolExecutor createInitExecutor() {
+        final ThreadPoolExecutor executor = ExecutorFactory.DEFAULT.create(INIT_THREAD_COUNT);
+        executor.setKeepAliveTime(10, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static void runPendingInitTasks() {
+        synchronized (TTSDKVodInit.class) {
+            sEnvInited = true;
+            for (InitTask initTask : INIT_TASK_PENDING_LIST) {
+                L.d(TTSDKVodInit.class, "initVod", "execute pending task", initTask.taskName);
+                trace(initTask.traceName(), initTask.runnable);
+            }
+            INIT_TASK_PENDING_LIST.clear();
+        }
+    }
+
     private static void postInitTask(InitTask initTask) {
-        if (sInited) {
-            L.d(TTSDKVodInit.class, "postInitTask", "execute", initTask.taskName);
-            synchronized (TTSDKVodInit.class) {
-                initTask.runnable.run();
+        synchronized (TTSDKVodInit.class) {
+            if (sEnvInited) {
+                L.d(TTSDKVodInit.class, "postInitTask", "execute", initTask.taskName);
+                trace(initTask.traceName(), initTask.runnable);
+            } else if (sEnvInitFailed) {
+                L.e(TTSDKVodInit.class, "postInitTask", "drop", initTask.taskName, "init failed");
+            } else {
+                L.d(TTSDKVodInit.class, "postInitTask", "enqueue", initTask.taskName, "add to pending list");
+                INIT_TASK_PENDING_LIST.add(initTask);
             }
-        } else {
-            L.d(TTSDKVodInit.class, "postInitTask", "enqueue", initTask.taskName, "add to pending list");
-            INIT_TASK_PENDING_LIST.add(initTask);
         }
     }
 
@@ -198,6 +288,22 @@ class TTSDKVodInit {
         return Env.getVersion();
     }
 
+    /**
+     * @return cached bytes of {@code cacheKey}, -1 if not inited.
+     */
+    static long getCacheFileSize(String cacheKey) {
+        if (!sInited) return -1;
+        return TTVideoEngine.getCacheFileSize(cacheKey);
+    }
+
+    static void removeCacheFile(String cacheKey) {
+        if (!sInited) {
+            L.w(TTSDKVodInit.class, "removeCacheFile", "return", "not inited");
+            return;
+        }
+        TTVideoEngine.removeCacheFile(cacheKey);
+    }
+
     static void clearDiskCache() {
         if (!sInited) {
             L.w(TTSDKVodInit.class, "clearDiskCache", "return", "not inited");
@@ -275,5 +381,13 @@ class TTSDKVodInit {
             this.taskName = taskName;
             this.runnable = task;
         }
+
+        /**
+         * Task name without arguments, eg. user id of setUserUniqueId.
+         */
+        String traceName() {
+            final int index = taskName.indexOf(' ');
+            return "InitTask#" + (index < 0 ? taskName : taskName.substring(0, index));
+        }
     }
 }
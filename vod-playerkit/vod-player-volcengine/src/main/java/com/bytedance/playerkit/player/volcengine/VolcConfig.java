@@ -23,6 +23,7 @@ import androidx.annotation.NonNull;
 import com.bytedance.playerkit.player.Player;
 import com.bytedance.playerkit.player.source.MediaSource;
 import com.bytedance.playerkit.player.source.Track;
+import com.bytedance.playerkit.utils.ExtraKey;
 import com.ss.ttvideoengine.source.Source;
 
 import java.io.Serializable;
@@ -32,12 +33,13 @@ import java.util.List;
 public class VolcConfig implements Serializable {
     public static final VolcConfig DEFAULT = new VolcConfig();
     public static final String EXTRA_VOLC_CONFIG = "extra_volc_config";
+    public static final ExtraKey<VolcConfig> KEY_VOLC_CONFIG = ExtraKey.of(EXTRA_VOLC_CONFIG, VolcConfig.class);
 
     @NonNull
     public static VolcConfig get(MediaSource mediaSource) {
         if (mediaSource == null) return VolcConfig.DEFAULT;
 
-        VolcConfig volcConfig = mediaSource.getExtra(VolcConfig.EXTRA_VOLC_CONFIG, VolcConfig.class);
+        VolcConfig volcConfig = mediaSource.getExtra(KEY_VOLC_CONFIG);
         if (volcConfig == null) {
             return VolcConfig.DEFAULT;
         }
@@ -46,7 +48,7 @@ public class VolcConfig implements Serializable {
 
     public static void set(MediaSource mediaSource, VolcConfig volcConfig) {
         if (mediaSource == null) return;
-        mediaSource.putExtra(EXTRA_VOLC_CONFIG, volcConfig);
+        mediaSource.putExtra(KEY_VOLC_CONFIG, volcConfig);
     }
 
 
@@ -29,14 +29,19 @@ public class VolcConfigGlobal {
     public static final boolean ENABLE_STARTUP_ABR_INIT = true;
     public static final boolean ENABLE_ABR_INIT = true;
     public static final boolean ENABLE_USE_BACKUP_URL = true;
+    public static final boolean ENABLE_PARALLEL_INIT = true;
+    public static final boolean ENABLE_VIDEO_MODEL_BINARY_CACHE = true;
 
     public static class CacheDir {
         public static final String ROOT_DIR = "bytedance/playerkit/volcplayer";
         public static final String PLAYER_CACHE_DIR = ROOT_DIR + "/video_cache";
+        public static final String PLAYER_VIDEO_MODEL_CACHE_FILE = ROOT_DIR + "/video_model";
+        public static final String PLAYER_CACHE_INDEX_FILE = ROOT_DIR + "/video_cache_index";
     }
 
     public static class FilesDir {
         public static final String ROOT_DIR = "bytedance/playerkit/volcplayer";
         public static final String PLAYER_BMF_SR_DIR = ROOT_DIR + "/bmf";
+        public static final String PLAYER_PROGRESS_FILE = ROOT_DIR + "/progress";
     }
 }
@@ -0,0 +1,566 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.volcengine;
+
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.playerkit.utils.FileUtils;
+import com.bytedance.playerkit.utils.L;
+import com.bytedance.playerkit.utils.concurrent.ExecutorFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Byte budget of the player disk cache in {@link VolcPlayerInitConfig#playerCacheDir}.
+ * <p>
+ * Every cache key handed to the engine is recorded with the scene ({@link VolcConfig#tag}) of its
+ * media source. Sizes are queried per key from the engine when a key is touched, so the total is
+ * kept incrementally and the cache dir is never walked. When the total exceeds
+ * {@link Config#maxCacheSize}, least recently used keys of scenes over their soft quota are removed
+ * first, then least recently used keys of any scene, until the total drops to
+ * {@link Config#trimToRatio} of the budget. Keys touched within {@link #PROTECT_RECENT_MS} and keys
+ * {@link #bind bound} to a player are never removed. Accounting and trimming run on a single background thread, the index survives restart.
+ */
+public class VolcDiskCacheManager {
+
+    public static long PROTECT_RECENT_MS = 60 * 1000;
+    public static long SAVE_INDEX_INTERVAL_MS = 10 * 1000;
+    public static long FULL_REFRESH_INTERVAL_MS = 5 * 60 * 1000;
+
+    public static final String SCENE_UNKNOWN = "unknown";
+
+    private static final int MAGIC = 0x56444348; // VDCH
+    private static final int VERSION = 1;
+
+    private static volatile VolcDiskCacheManager sInstance;
+
+    private final File mIndexFile;
+    private final Config mConfig;
+    private final ThreadPoolExecutor mExecutor;
+
+    // Guarded by this.
+    private final LinkedHashMap<String, Entry> mEntries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, SceneStats> mScenes = new HashMap<>();
+    private final Map<Object, List<String>> mBindings = new HashMap<>();
+    private final Map<String, Integer> mBoundKeys = new HashMap<>();
+    private long mTotalBytes;
+    private boolean mTrimScheduled;
+    private boolean mIndexDirty;
+    private long mLastSaveTime;
+    private long mLastFullRefreshTime;
+    private long mLastTrimTime;
+
+    private static class Entry {
+        final String key;
+        String scene;
+        long bytes;
+        long lastAccessTime;
+        boolean removed;
+
+        Entry(String key, String scene) {
+            this.key = key;
+            this.scene = scene;
+        }
+    }
+
+    private static class SceneStats {
+        long bytes;
+        int count;
+        int evictions;
+    }
+
+    public static class Config {
+        public final long maxCacheSize;
+        public final float trimToRatio;
+        public final Map<String, Long> sceneQuotas;
+
+        private Config(Builder builder) {
+            this.maxCacheSize = builder.maxCacheSize;
+            this.trimToRatio = builder.trimToRatio;
+            this.sceneQuotas = Collections.unmodifiableMap(new HashMap<>(builder.sceneQuotas));
+        }
+
+        public static class Builder {
+            private long maxCacheSize = 300 * 1024 * 1024;
+            private float trimToRatio = 0.9f;
+            private final Map<String, Long> sceneQuotas = new HashMap<>();
+
+            public Builder setMaxCacheSize(long maxCacheSize) {
+                this.maxCacheSize = maxCacheSize;
+                return this;
+            }
+
+            /**
+             * Trimming stops when total size drops to {@code maxCacheSize * trimToRatio}.
+             */
+            public Builder setTrimToRatio(float trimToRatio) {
+                this.trimToRatio = trimToRatio;
+                return this;
+            }
+
+            /**
+             * Soft quota of {@code scene}. Scenes over quota are trimmed first, a scene may still
+             * exceed its quota while the total budget is not reached.
+             *
+             * @param scene {@link VolcConfig#tag} of media sources, eg: short/feed/drama/ad.
+             */
+            public Builder setSceneQuota(@NonNull String scene, long bytes) {
+                this.sceneQuotas.put(scene, bytes);
+                return this;
+            }
+
+            public Config build() {
+                return new Config(this);
+            }
+        }
+    }
+
+    public static class Stats {
+        public final long maxCacheSize;
+        public final long totalBytes;
+        public final int totalEvictions;
+        public final Map<String, Long> sceneBytes;
+        public final Map<String, Integer> sceneEvictions;
+
+        Stats(long maxCacheSize, long totalBytes, int totalEvictions, Map<String, Long> sceneBytes, Map<String, Integer> sceneEvictions) {
+            this.maxCacheSize = maxCacheSize;
+            this.totalBytes = totalBytes;
+            this.totalEvictions = totalEvictions;
+            this.sceneBytes = sceneBytes;
+            this.sceneEvictions = sceneEvictions;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append("total=").append(FileUtils.formatSize(totalBytes))
+                    .append('/').append(FileUtils.formatSize(maxCacheSize))
+                    .append(" evictions=").append(totalEvictions);
+            for (Map.Entry<String, Long> entry : sceneBytes.entrySet()) {
+                final Integer evictions = sceneEvictions.get(entry.getKey());
+                sb.append(' ').append(entry.getKey())
+                        .append('=').append(FileUtils.formatSize(entry.getValue()))
+                        .append('/').append(evictions == null ? 0 : evictions);
+            }
+            return sb.toString();
+        }
+    }
+
+    public static void init(@NonNull File indexFile, @NonNull Config config) {
+        if (sInstance == null) {
+            synchronized (VolcDiskCacheManager.class) {
+                if (sInstance == null) {
+                    sInstance = new VolcDiskCacheManager(indexFile, config);
+                }
+            }
+        }
+    }
+
+    @Nullable
+    public static VolcDiskCacheManager get() {
+        return sInstance;
+    }
+
+    VolcDiskCacheManager(File indexFile, Config config) {
+        this.mIndexFile = indexFile;
+        this.mConfig = config;
+        this.mExecutor = ExecutorFactory.DEFAULT.create(1);
+        this.mExecutor.setKeepAliveTime(10, TimeUnit.SECONDS);
+        this.mExecutor.allowCoreThreadTimeOut(true);
+        this.mExecutor.execute(this::load);
+    }
+
+    @NonNull
+    public Config config() {
+        return mConfig;
+    }
+
+    /**
+     * Records that {@code cacheKey} is about to be played or preloaded in {@code scene}.
+     */
+    public void touch(@Nullable String cacheKey, @Nullable String scene) {
+        if (TextUtils.isEmpty(cacheKey)) return;
+        final String sceneName = TextUtils.isEmpty(scene) ? SCENE_UNKNOWN : scene;
+        synchronized (this) {
+            Entry entry = mEntries.get(cacheKey);
+            if (entry == null) {
+                entry = new Entry(cacheKey, sceneName);
+                mEntries.put(cacheKey, entry);
+                scene(sceneName).count++;
+            } else if (!TextUtils.equals(entry.scene, sceneName)) {
+                moveLocked(entry, sceneName);
+            }
+            entry.lastAccessTime = System.currentTimeMillis();
+            mIndexDirty = true;
+        }
+        scheduleTrim();
+    }
+
+    /**
+     * Protects {@code cacheKeys} from eviction while {@code owner} plays them, replacing keys
+     * previously bound to {@code owner}. Long playbacks outlive {@link #PROTECT_RECENT_MS}.
+     */
+    public synchronized void bind(@NonNull Object owner, @NonNull List<String> cacheKeys) {
+        unbindLocked(owner);
+        final List<String> keys = new ArrayList<>(cacheKeys);
+        mBindings.put(owner, keys);
+        for (String key : keys) {
+            final Integer count = mBoundKeys.get(key);
+            mBoundKeys.put(key, count == null ? 1 : count + 1);
+        }
+    }
+
+    public synchronized void unbind(@NonNull Object owner) {
+        unbindLocked(owner);
+    }
+
+    private void unbindLocked(Object owner) {
+        final List<String> keys = mBindings.remove(owner);
+        if (keys == null) return;
+        for (String key : keys) {
+            final Integer count = mBoundKeys.get(key);
+            if (count == null || count <= 1) {
+                mBoundKeys.remove(key);
+            } else {
+                mBoundKeys.put(key, count - 1);
+            }
+        }
+    }
+
+    /**
+     * Refreshes sizes of touched keys and trims the cache if over budget. Runs in background.
+     */
+    public void scheduleTrim() {
+        synchronized (this) {
+            if (mTrimScheduled) return;
+            mTrimScheduled = true;
+        }
+        mExecutor.execute(this::trim);
+    }
+
+    /**
+     * Removes all cached files of {@code scene}.
+     */
+    public void clearScene(@NonNull String scene) {
+        mExecutor.execute(() -> {
+            final List<Entry> entries = new ArrayList<>();
+            synchronized (this) {
+                for (Entry entry : mEntries.values()) {
+                    if (TextUtils.equals(entry.scene, scene)) {
+                        entries.add(entry);
+                    }
+                }
+            }
+            for (Entry entry : entries) {
+                TTSDKVodInit.removeCacheFile(entry.key);
+                synchronized (this) {
+                    removeLocked(entry);
+                }
+            }
+            L.d(this, "clearScene", scene, entries.size());
+            saveIndex(true);
+        });
+    }
+
+    /**
+     * Forgets all entries. Call after the whole cache dir has been cleared.
+     */
+    public void reset() {
+        mExecutor.execute(() -> {
+            synchronized (this) {
+                mEntries.clear();
+                mScenes.clear();
+                mTotalBytes = 0;
+                mIndexDirty = true;
+            }
+            saveIndex(true);
+        });
+    }
+
+    @NonNull
+    public synchronized Stats stats() {
+        final Map<String, Long> sceneBytes = new LinkedHashMap<>();
+        final Map<String, Integer> sceneEvictions = new LinkedHashMap<>();
+        int totalEvictions = 0;
+        for (Map.Entry<String, SceneStats> entry : mScenes.entrySet()) {
+            sceneBytes.put(entry.getKey(), entry.getValue().bytes);
+            sceneEvictions.put(entry.getKey(), entry.getValue().evictions);
+            totalEvictions += entry.getValue().evictions;
+        }
+        return new Stats(mConfig.maxCacheSize, mTotalBytes, totalEvictions, sceneBytes, sceneEvictions);
+    }
+
+    public synchronized long totalBytes() {
+        return mTotalBytes;
+    }
+
+    public String dump() {
+        return stats().toString();
+    }
+
+    private void trim() {
+        // Files of recently touched keys may still be growing, refresh them on every pass. All keys
+        // are refreshed periodically to catch up with long playbacks and engine side evictions.
+        final List<Entry> refresh = new ArrayList<>();
+        final boolean full;
+        synchronized (this) {
+            mTrimScheduled = false;
+            final long now = System.currentTimeMillis();
+            full = now - mLastFullRefreshTime > FULL_REFRESH_INTERVAL_MS;
+            final long recentTime = Math.min(now - PROTECT_RECENT_MS, mLastTrimTime);
+            mLastTrimTime = now;
+            for (Entry entry : mEntries.values()) {
+                if (full || entry.lastAccessTime >= recentTime) {
+                    refresh.add(entry);
+                }
+            }
+        }
+        for (Entry entry : refresh) {
+            final long bytes = TTSDKVodInit.getCacheFileSize(entry.key);
+            if (bytes < 0) return; // engine not inited
+            synchronized (this) {
+                if (!entry.removed) {
+                    setBytesLocked(entry, bytes);
+                }
+            }
+        }
+        if (full) {
+            synchronized (this) {
+                mLastFullRefreshTime = System.currentTimeMillis();
+            }
+            dropEmptyEntries();
+        }
+
+        final Set<Entry> evictions = selectEvictions();
+        for (Entry entry : evictions) {
+            TTSDKVodInit.removeCacheFile(entry.key);
+            synchronized (this) {
+                scene(entry.scene).evictions++;
+                removeLocked(entry);
+            }
+        }
+        if (!evictions.isEmpty()) {
+            L.d(this, "trim", evictions.size(), dump());
+        }
+        saveIndex(!evictions.isEmpty());
+    }
+
+    /**
+     * Keys of tracks never played or preloaded have no file, forget them once they are not recent.
+     */
+    private synchronized void dropEmptyEntries() {
+        final long recentTime = System.currentTimeMillis() - PROTECT_RECENT_MS;
+        final List<Entry> empty = new ArrayList<>();
+        for (Entry entry : mEntries.values()) {
+            if (entry.bytes <= 0 && entry.lastAccessTime <= recentTime && !mBoundKeys.containsKey(entry.key)) {
+                empty.add(entry);
+            }
+        }
+        for (Entry entry : empty) {
+            removeLocked(entry);
+        }
+    }
+
+    private synchronized Set<Entry> selectEvictions() {
+        final Set<Entry> evictions = new LinkedHashSet<>();
+        if (mTotalBytes <= mConfig.maxCacheSize) return evictions;
+
+        final long target = (long) (mConfig.maxCacheSize * mConfig.trimToRatio);
+        final long protectTime = System.currentTimeMillis() - PROTECT_RECENT_MS;
+        final Map<String, Long> sceneBytes = new HashMap<>();
+        for (Map.Entry<String, SceneStats> entry : mScenes.entrySet()) {
+            sceneBytes.put(entry.getKey(), entry.getValue().bytes);
+        }
+        long total = mTotalBytes;
+        // pass 0: scenes over soft quota, pass 1: any scene. Both in LRU order.
+        for (int pass = 0; pass < 2 && total > target; pass++) {
+            for (Entry entry : mEntries.values()) {
+                if (total <= target) break;
+                if (entry.lastAccessTime > protectTime || entry.bytes <= 0 || evictions.contains(entry)
+                        || mBoundKeys.containsKey(entry.key)) {
+                    continue;
+                }
+                if (pass == 0) {
+                    final Long quota = mConfig.sceneQuotas.get(entry.scene);
+                    if (quota == null || sceneBytes.get(entry.scene) <= quota) continue;
+                }
+                evictions.add(entry);
+                total -= entry.bytes;
+                sceneBytes.put(entry.scene, sceneBytes.get(entry.scene) - entry.bytes);
+            }
+        }
+        return evictions;
+    }
+
+    private SceneStats scene(String scene) {
+        SceneStats stats = mScenes.get(scene);
+        if (stats == null) {
+            stats = new SceneStats();
+            mScenes.put(scene, stats);
+        }
+        return stats;
+    }
+
+    private void setBytesLocked(Entry entry, long bytes) {
+        final long delta = bytes - entry.bytes;
+        entry.bytes = bytes;
+        scene(entry.scene).bytes += delta;
+        mTotalBytes += delta;
+    }
+
+    private void moveLocked(Entry entry, String scene) {
+        final SceneStats from = scene(entry.scene);
+        from.bytes -= entry.bytes;
+        from.count--;
+        final SceneStats to = scene(scene);
+        to.bytes += entry.bytes;
+        to.count++;
+        entry.scene = scene;
+    }
+
+    private void removeLocked(Entry entry) {
+        if (entry.removed) return;
+        entry.removed = true;
+        mEntries.remove(entry.key);
+        final SceneStats stats = scene(entry.scene);
+        stats.bytes -= entry.bytes;
+        stats.count--;
+        mTotalBytes -= entry.bytes;
+        mIndexDirty = true;
+    }
+
+    private void load() {
+        if (!mIndexFile.exists()) return;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(mIndexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("bad header");
+            }
+            final int count = in.readInt();
+            final List<Entry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final Entry entry = new Entry(in.readUTF(), in.readUTF());
+                entry.bytes = in.readLong();
+                entry.lastAccessTime = in.readLong();
+                entries.add(entry);
+            }
+            final Map<String, Integer> evictions = new HashMap<>();
+            final int sceneCount = in.readInt();
+            for (int i = 0; i < sceneCount; i++) {
+                evictions.put(in.readUTF(), in.readInt());
+            }
+            synchronized (this) {
+                // entries touched before load completed are newer, keep them
+                for (Entry entry : entries) {
+                    if (mEntries.containsKey(entry.key)) continue;
+                    mEntries.put(entry.key, entry);
+                    final SceneStats stats = scene(entry.scene);
+                    stats.bytes += entry.bytes;
+                    stats.count++;
+                    mTotalBytes += entry.bytes;
+                }
+                reorderLocked();
+                for (Map.Entry<String, Integer> entry : evictions.entrySet()) {
+                    scene(entry.getKey()).evictions += entry.getValue();
+                }
+            }
+            L.d(this, "load", count, dump());
+            scheduleTrim();
+        } catch (IOException e) {
+            L.e(this, "load", e, mIndexFile);
+            mIndexFile.delete();
+        }
+    }
+
+    private void reorderLocked() {
+        final List<Entry> entries = new ArrayList<>(mEntries.values());
+        Collections.sort(entries, (o1, o2) -> Long.compare(o1.lastAccessTime, o2.lastAccessTime));
+        mEntries.clear();
+        for (Entry entry : entries) {
+            mEntries.put(entry.key, entry);
+        }
+    }
+
+    private void saveIndex(boolean force) {
+        final List<Entry> entries;
+        final Map<String, Integer> evictions = new HashMap<>();
+        synchronized (this) {
+            if (!mIndexDirty) return;
+            final long now = System.currentTimeMillis();
+            if (!force && now - mLastSaveTime < SAVE_INDEX_INTERVAL_MS) return;
+            mIndexDirty = false;
+            mLastSaveTime = now;
+            entries = new ArrayList<>(mEntries.size());
+            for (Entry entry : mEntries.values()) {
+                final Entry copy = new Entry(entry.key, entry.scene);
+                copy.bytes = entry.bytes;
+                copy.lastAccessTime = entry.lastAccessTime;
+                entries.add(copy);
+            }
+            for (Map.Entry<String, SceneStats> entry : mScenes.entrySet()) {
+                evictions.put(entry.getKey(), entry.getValue().evictions);
+            }
+        }
+        final File parent = mIndexFile.getParentFile();
+        if (parent != null && !parent.exists()) parent.mkdirs();
+        final File tmp = new File(mIndexFile.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            for (Entry entry : entries) {
+                out.writeUTF(entry.key);
+                out.writeUTF(entry.scene);
+                out.writeLong(entry.bytes);
+                out.writeLong(entry.lastAccessTime);
+            }
+            out.writeInt(evictions.size());
+            for (Map.Entry<String, Integer> entry : evictions.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+        } catch (IOException e) {
+            L.e(this, "saveIndex", e, mIndexFile);
+            return;
+        }
+        if (!tmp.renameTo(mIndexFile)) {
+            L.e(this, "saveIndex", "rename failed", mIndexFile);
+        }
+    }
+}
@@ -30,7 +30,6 @@ import android.view.Surface;
 
 import androidx.annotation.Nullable;
 
-import com.bytedance.playerkit.player.cache.CacheKeyFactory;
 import com.bytedance.playerkit.player.config.ABRQualityConfig;
 import com.bytedance.playerkit.player.source.MediaSource;
 import com.bytedance.playerkit.player.source.Subtitle;
@@ -154,7 +153,7 @@ public class VolcEngineStrategy {
             public PreloaderVidSubtitleItem createSubtitleVidItem(VidPlayAuthTokenSource source, long preloadSize) {
                 final PreloaderVidSubtitleItem item = PreloadTaskFactory.super.createSubtitleVidItem(source, preloadSize);
                 // vid subtitle cacheKey generate
-                item.setMDLCacheKeyGeneratorForSubModel(CacheKeyFactory.DEFAULT::generateCacheKey);
+                item.setMDLCacheKeyGeneratorForSubModel(s -> VolcPlayerInit.config().cacheKeyFactory.generateCacheKey(s));
                 final MediaSource mediaSource = (MediaSource) source.tag();
                 if (mediaSource == null) return item; // error
                 VolcPlayerInit.config().configUpdater.updateVolcConfig(mediaSource);
@@ -331,6 +330,17 @@ public class VolcEngineStrategy {
         StrategyManager.instance().preload(index);
     }
 
+    public static void preloadAsync(int index) {
+        if (VolcPlayerInit.config() == null) return;
+
+        VolcPlayerInit.config().workerHandler.post(() -> {
+            VolcPlayerInit.waitInitAsyncResult();
+
+            L.d(VolcEngineStrategy.class, "preloadAsync", index);
+            preload(index);
+        });
+    }
+
     @Nullable
     public static JSONObject getPreloadConfig(int scene) {
         switch (scene) {
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.volcengine;
+
+import androidx.annotation.NonNull;
+
+import com.bytedance.playerkit.utils.L;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Init tasks with declared dependencies. A task is submitted to the executor as soon as all its
+ * dependencies completed, so independent tasks run concurrently.
+ * <p>
+ * Tasks marked as required for playback can be awaited by {@link #awaitRequired()} without
+ * waiting for the others. A failed task fails all its dependents, every failed or skipped task is
+ * reported to {@link Listener}.
+ */
+final class VolcInitGraph {
+
+    interface Listener {
+        /**
+         * @param skipped true if the task was not run because one of its dependencies failed,
+         *                {@code error} is then the error of that dependency.
+         */
+        void onTaskFailed(@NonNull String name, @NonNull RuntimeException error, boolean skipped);
+    }
+
+    private final Map<String, Task> mTasks = new LinkedHashMap<>();
+    private Listener mListener;
+
+    private static final class Task implements Runnable {
+        final String name;
+        final String[] dependencies;
+        final boolean requiredForPlayback;
+        final Runnable runnable;
+        final List<Task> dependents = new ArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        AtomicInteger pendingDependencies;
+        Executor executor;
+        Listener listener;
+        volatile RuntimeException error;
+
+        Task(String name, String[] dependencies, boolean requiredForPlayback, Runnable runnable) {
+            this.name = name;
+            this.dependencies = dependencies;
+            this.requiredForPlayback = requiredForPlayback;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            final boolean skipped = error != null;
+            if (!skipped) {
+                final long startNs = VolcInitTrace.begin(name);
+                try {
+                    runnable.run();
+                } catch (RuntimeException e) {
+                    L.e(VolcInitGraph.class, "run", e, name);
+                    error = e;
+                } finally {
+                    VolcInitTrace.end(name, startNs);
+                }
+            }
+            if (error != null) {
+                if (skipped) {
+                    L.e(VolcInitGraph.class, "run", "skipped", name, "dependency failed");
+                }
+                if (listener != null) {
+                    listener.onTaskFailed(name, error, skipped);
+                }
+            }
+            done.countDown();
+            for (Task dependent : dependents) {
+                if (error != null && dependent.error == null) {
+                    dependent.error = error;
+                }
+                if (dependent.pendingDependencies.decrementAndGet() == 0) {
+                    dependent.executor.execute(dependent);
+                }
+            }
+        }
+    }
+
+    VolcInitGraph add(@NonNull String name, boolean requiredForPlayback, @NonNull Runnable runnable, String... dependencies) {
+        if (mTasks.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate task " + name);
+        }
+        mTasks.put(name, new Task(name, dependencies, requiredForPlayback, runnable));
+        return this;
+    }
+
+    VolcInitGraph setListener(@NonNull Listener listener) {
+        mListener = listener;
+        return this;
+    }
+
+    /**
+     * Tasks are added in dependency order, so a dependency of a task must be added before it.
+     * That also rules out cycles.
+     */
+    void start(@NonNull Executor executor) {
+        final List<Task> roots = new ArrayList<>();
+        final Map<String, Task> added = new LinkedHashMap<>();
+        for (Task task : mTasks.values()) {
+            task.executor = executor;
+            task.listener = mListener;
+            task.pendingDependencies = new AtomicInteger(task.dependencies.length);
+            for (String dependency : task.dependencies) {
+                final Task dependencyTask = added.get(dependency);
+                if (dependencyTask == null) {
+                    throw new IllegalStateException(task.name + " depends on unknown or later task " + dependency);
+                }
+                dependencyTask.dependents.add(task);
+            }
+            added.put(task.name, task);
+            if (task.dependencies.length == 0) {
+                roots.add(task);
+            }
+        }
+        for (Task root : roots) {
+            executor.execute(root);
+        }
+    }
+
+    /**
+     * Blocks until all tasks required for playback completed.
+     *
+     * @throws RuntimeException error of the first failed required task
+     */
+    void awaitRequired() {
+        for (Task task : mTasks.values()) {
+            if (task.requiredForPlayback) {
+                await(task);
+                if (task.error != null) {
+                    throw task.error;
+                }
+            }
+        }
+    }
+
+    private static void await(Task task) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                task.done.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
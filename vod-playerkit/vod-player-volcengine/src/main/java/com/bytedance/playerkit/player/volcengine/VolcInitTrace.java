@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.volcengine;
+
+import android.os.Process;
+import android.os.SystemClock;
+import android.os.Trace;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Startup trace of {@link VolcPlayerInit}. Records a {@link Span} for each init step, pending init
+ * task and blocking {@link VolcPlayerInit#waitInitAsyncResult()} call, independent of
+ * {@link com.bytedance.playerkit.utils.L#ENABLE_LOG}.
+ * <p>
+ * Spans are also emitted as {@link Trace} sections, so they show up in Perfetto/systrace captures
+ * with {@code -a <package>}. {@link #toTraceJson()} exports recorded spans in Chrome JSON trace
+ * format, which can be opened by ui.perfetto.dev directly.
+ * <pre>
+ * final long startNs = VolcInitTrace.begin("Env.init");
+ * try {
+ *     Env.init(config);
+ * } finally {
+ *     VolcInitTrace.end("Env.init", startNs);
+ * }
+ * </pre>
+ */
+public class VolcInitTrace {
+
+    public static boolean ENABLE = true;
+
+    public static final int MAX_SPAN_COUNT = 256;
+
+    public interface Listener {
+        /**
+         * Called on the thread ending the span.
+         */
+        void onSpan(@NonNull Span span);
+    }
+
+    public static class Span {
+        @NonNull
+        public final String name;
+        @NonNull
+        public final String threadName;
+        public final int threadId;
+        /**
+         * {@link SystemClock#elapsedRealtimeNanos()} when span begins.
+         */
+        public final long startNs;
+        public final long durationNs;
+
+        Span(@NonNull String name, @NonNull String threadName, int threadId, long startNs, long durationNs) {
+            this.name = name;
+            this.threadName = threadName;
+            this.threadId = threadId;
+            this.startNs = startNs;
+            this.durationNs = durationNs;
+        }
+
+        public long durationMs() {
+            return durationNs / 1000000;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return name + "[" + threadName + "] " + durationMs() + "ms";
+        }
+    }
+
+    private static final List<Listener> sListeners = new CopyOnWriteArrayList<>();
+    private static final List<Span> sSpans = new ArrayList<>();
+
+    public static void addListener(@NonNull Listener listener) {
+        sListeners.add(listener);
+    }
+
+    public static void removeListener(@NonNull Listener listener) {
+        sListeners.remove(listener);
+    }
+
+    /**
+     * @return start time to pass to {@link #end(String, long)}. Must be ended on the same thread.
+     */
+    public static long begin(@NonNull String name) {
+        if (!ENABLE) return 0;
+        Trace.beginSection(name);
+        return SystemClock.elapsedRealtimeNanos();
+    }
+
+    public static void end(@NonNull String name, long startNs) {
+        if (!ENABLE) return;
+        Trace.endSection();
+        record(name, startNs, SystemClock.elapsedRealtimeNanos() - startNs);
+    }
+
+    /**
+     * Records a span measured by caller, eg. a span crossing threads. No {@link Trace} section is
+     * emitted for it.
+     */
+    public static void record(@NonNull String name, long startNs, long durationNs) {
+        if (!ENABLE) return;
+        final Thread thread = Thread.currentThread();
+        final Span span = new Span(name, thread.getName(), Process.myTid(), startNs, durationNs);
+        synchronized (sSpans) {
+            if (sSpans.size() < MAX_SPAN_COUNT) {
+                sSpans.add(span);
+            }
+        }
+        for (Listener listener : sListeners) {
+            listener.onSpan(span);
+        }
+    }
+
+    @NonNull
+    public static List<Span> getSpans() {
+        synchronized (sSpans) {
+            return new ArrayList<>(sSpans);
+        }
+    }
+
+    /**
+     * @return recorded spans in Chrome JSON trace format.
+     */
+    @NonNull
+    public static String toTraceJson() {
+        final List<Span> spans = getSpans();
+        final int pid = Process.myPid();
+        final StringBuilder sb = new StringBuilder(128 + spans.size() * 128);
+        sb.append("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+        for (int i = 0; i < spans.size(); i++) {
+            final Span span = spans.get(i);
+            if (i > 0) sb.append(',');
+            sb.append("{\"ph\":\"X\",\"cat\":\"VolcPlayerInit\",\"name\":\"");
+            escape(sb, span.name);
+            sb.append("\",\"pid\":").append(pid)
+                    .append(",\"tid\":").append(span.threadId)
+                    .append(",\"ts\":").append(span.startNs / 1000)
+                    .append(",\"dur\":").append(span.durationNs / 1000)
+                    .append(",\"args\":{\"thread\":\"");
+            escape(sb, span.threadName);
+            sb.append("\"}}");
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+
+    private static void escape(StringBuilder sb, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(' ');
+            } else {
+                sb.append(c);
+            }
+        }
+    }
+}
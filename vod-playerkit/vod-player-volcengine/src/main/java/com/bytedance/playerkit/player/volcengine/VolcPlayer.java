@@ -75,6 +75,7 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -907,6 +908,7 @@ class VolcPlayer implements PlayerAdapter {
         // 1. setup video source
         mStrategySource = strategySource;
         mPlayer.setStrategySource(mStrategySource);
+        bindCacheKeys(mediaSource);
 
         // 2. setup subtitle source
         if (volcConfig.enableSubtitle) {
@@ -1095,8 +1097,31 @@ class VolcPlayer implements PlayerAdapter {
         setState(Player.STATE_IDLE);
     }
 
+    /**
+     * Protects cache files of the bound source from {@link VolcDiskCacheManager} eviction.
+     */
+    private void bindCacheKeys(@NonNull MediaSource mediaSource) {
+        final VolcDiskCacheManager diskCacheManager = VolcDiskCacheManager.get();
+        if (diskCacheManager == null) return;
+        final List<Track> tracks = mediaSource.getTracks();
+        final List<String> cacheKeys = new ArrayList<>();
+        if (tracks != null) {
+            for (Track track : tracks) {
+                if (TextUtils.isEmpty(track.getFileHash())
+                        && TextUtils.isEmpty(track.getFileId())
+                        && TextUtils.isEmpty(track.getUrl())) continue;
+                cacheKeys.add(VolcPlayerInit.config().cacheKeyFactory.generateCacheKey(mediaSource, track));
+            }
+        }
+        diskCacheManager.bind(this, cacheKeys);
+    }
+
     private void resetSource() {
         L.d(this, "resetSource", MediaSource.dump(mMediaSource));
+        final VolcDiskCacheManager diskCacheManager = VolcDiskCacheManager.get();
+        if (diskCacheManager != null) {
+            diskCacheManager.unbind(this);
+        }
         mMediaSource = null;
         mStrategySource = null;
         mSubtitleSource = null;
@@ -26,190 +26,263 @@ import androidx.annotation.Nullable;
 import com.bytedance.playerkit.player.Player;
 import com.bytedance.playerkit.player.PlayerException;
 import com.bytedance.playerkit.player.adapter.PlayerAdapter;
+import com.bytedance.playerkit.player.qos.PlaybackQoS;
 import com.bytedance.playerkit.player.source.MediaSource;
 import com.bytedance.playerkit.player.source.Subtitle;
 import com.bytedance.playerkit.player.source.SubtitleText;
 import com.bytedance.playerkit.player.source.Track;
+import com.bytedance.playerkit.utils.L;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 
+/**
+ * Records events of a pre-rendering player to replay them when the player is promoted.
+ * <p>
+ * The log is compacting: every event occupies a slot of its type (and track type, info what or
+ * frame type), a newer event replaces the recorded one and moves to the end. Progress, buffering and
+ * other repeated updates therefore cost one slot however long the player has been pre-rendering,
+ * and replay is O(kinds of events). Order of the last occurrences is kept.
+ */
 class VolcPlayerEventRecorder implements PlayerAdapter.Listener {
-    private final List<VolcEvent> mEvents = Collections.synchronizedList(new ArrayList<>());
+    public static int MAX_EVENTS = 64;
+
+    // Guarded by this.
+    private final LinkedHashMap<Long, VolcEvent> mEvents = new LinkedHashMap<>();
+    private int mRecordedCount;
+    private int mCoalescedCount;
+    private int mDroppedCount;
+    private int mReplayedCount;
+    private long mReplayDurationMs;
+
     private volatile PlayerAdapter.Listener mListener;
 
+    private void record(VolcEvent event) {
+        record(event, 0);
+    }
+
+    private synchronized void record(VolcEvent event, int subKey) {
+        mRecordedCount++;
+        final long slot = ((long) event.type << 32) | (subKey & 0xFFFFFFFFL);
+        if (mEvents.remove(slot) != null) {
+            mCoalescedCount++;
+        }
+        mEvents.put(slot, event);
+        if (mEvents.size() > MAX_EVENTS) {
+            evictOldest();
+        }
+    }
+
+    /**
+     * onInfo is the only event with an open set of slots, evict those first so one-shot events like
+     * onPrepared survive.
+     */
+    private void evictOldest() {
+        Iterator<VolcEvent> it = mEvents.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().type == VolcEvent.EVENT_onInfo) {
+                it.remove();
+                mDroppedCount++;
+                return;
+            }
+        }
+        it = mEvents.values().iterator();
+        it.next();
+        it.remove();
+        mDroppedCount++;
+    }
+
     @Override
     public void onPrepared(@NonNull PlayerAdapter mp) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onPrepared,
+        record(new VolcEvent(VolcEvent.EVENT_onPrepared,
                 null,
                 () -> mListener.onPrepared(mp)));
     }
 
     @Override
     public void onCompletion(@NonNull PlayerAdapter mp) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onCompletion,
+        record(new VolcEvent(VolcEvent.EVENT_onCompletion,
                 null,
                 () -> mListener.onCompletion(mp)));
     }
 
     @Override
     public void onError(@NonNull PlayerAdapter mp, @NonNull PlayerException e) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onError,
+        record(new VolcEvent(VolcEvent.EVENT_onError,
                 new Object[]{e},
                 () -> mListener.onError(mp, e)));
     }
 
     @Override
     public void onSeekComplete(@NonNull PlayerAdapter mp) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onSeekComplete,
+        record(new VolcEvent(VolcEvent.EVENT_onSeekComplete,
                 null,
                 () -> mListener.onSeekComplete(mp)));
     }
 
     @Override
     public void onVideoSizeChanged(@NonNull PlayerAdapter mp, int width, int height) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onVideoSizeChanged,
+        record(new VolcEvent(VolcEvent.EVENT_onVideoSizeChanged,
                 new Object[]{width, height},
                 () -> mListener.onVideoSizeChanged(mp, width, height)));
     }
 
     @Override
     public void onSARChanged(@NonNull PlayerAdapter mp, int num, int den) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onSARChanged,
+        record(new VolcEvent(VolcEvent.EVENT_onSARChanged,
                 new Object[]{num, den},
                 () -> mListener.onSARChanged(mp, num, den)));
     }
 
     @Override
     public void onBufferingUpdate(@NonNull PlayerAdapter mp, int percent) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onBufferingUpdate,
+        record(new VolcEvent(VolcEvent.EVENT_onBufferingUpdate,
                 new Object[]{percent},
                 () -> mListener.onBufferingUpdate(mp, percent)));
     }
 
     @Override
     public void onProgressUpdate(@NonNull PlayerAdapter mp, long position) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onProgressUpdate,
+        record(new VolcEvent(VolcEvent.EVENT_onProgressUpdate,
                 new Object[]{position},
                 () -> mListener.onProgressUpdate(mp, position)));
     }
 
     @Override
     public void onInfo(@NonNull PlayerAdapter mp, int what, @Nullable Object extra) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onInfo,
+        record(new VolcEvent(VolcEvent.EVENT_onInfo,
                 new Object[]{what, extra},
-                () -> mListener.onInfo(mp, what, extra)));
+                () -> mListener.onInfo(mp, what, extra)), what);
     }
 
     @Override
     public void onCacheHint(@NonNull PlayerAdapter mp, long cacheSize) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onCacheHint,
+        record(new VolcEvent(VolcEvent.EVENT_onCacheHint,
                 new Object[]{cacheSize},
                 () -> mListener.onCacheHint(mp, cacheSize)));
     }
 
     @Override
     public void onGetPlayInfoResult(@NonNull PlayerAdapter mp, @NonNull MediaSource mediaSource, @Nullable Object playInfo, @Nullable PlayerException e) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onGetPlayInfoResult,
+        record(new VolcEvent(VolcEvent.EVENT_onGetPlayInfoResult,
                 new Object[]{mediaSource, playInfo, e},
                 () -> mListener.onGetPlayInfoResult(mp, mediaSource, playInfo, e)));
     }
 
     @Override
     public void onTrackInfoReady(@NonNull PlayerAdapter mp, int trackType, @NonNull List<Track> tracks) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onTrackInfoReady,
+        record(new VolcEvent(VolcEvent.EVENT_onTrackInfoReady,
                 new Object[]{trackType, tracks},
-                () -> mListener.onTrackInfoReady(mp, trackType, tracks)));
+                () -> mListener.onTrackInfoReady(mp, trackType, tracks)), trackType);
     }
 
     @Override
     public void onTrackWillChange(@NonNull PlayerAdapter mp, int trackType, @Nullable Track current, @NonNull Track target) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onTrackWillChange,
+        record(new VolcEvent(VolcEvent.EVENT_onTrackWillChange,
                 new Object[]{trackType, trackType, current, target},
-                () -> mListener.onTrackWillChange(mp, trackType, current, target)));
+                () -> mListener.onTrackWillChange(mp, trackType, current, target)), trackType);
     }
 
     @Override
     public void onTrackChanged(@NonNull PlayerAdapter mp, @Track.TrackType int trackType, @NonNull Track pre, @NonNull Track current) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onTrackChanged,
+        record(new VolcEvent(VolcEvent.EVENT_onTrackChanged,
                 new Object[]{trackType, pre, current},
-                () -> mListener.onTrackChanged(mp, trackType, pre, current)));
+                () -> mListener.onTrackChanged(mp, trackType, pre, current)), trackType);
     }
 
     @Override
     public void onSubtitleStateChanged(@NonNull PlayerAdapter mp, boolean enabled) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onSubtitleStateChanged,
+        record(new VolcEvent(VolcEvent.EVENT_onSubtitleStateChanged,
                 new Object[]{enabled},
                 () -> mListener.onSubtitleStateChanged(mp, enabled)));
     }
 
     @Override
     public void onSubtitleInfoFetchError(@NonNull PlayerAdapter mp, @NonNull PlayerException e) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onSubtitleInfoFetchError,
+        record(new VolcEvent(VolcEvent.EVENT_onSubtitleInfoFetchError,
                 new Object[]{e},
                 () -> mListener.onSubtitleInfoFetchError(mp, e)));
     }
 
     @Override
     public void onSubtitleInfoReady(@NonNull PlayerAdapter mp, List<Subtitle> subtitles) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onSubtitleInfoReady,
+        record(new VolcEvent(VolcEvent.EVENT_onSubtitleInfoReady,
                 new Object[]{subtitles},
                 () -> mListener.onSubtitleInfoReady(mp, subtitles)));
     }
 
     @Override
     public void onSubtitleFileLoadFinish(@NonNull PlayerAdapter mp, int success, String info) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onSubtitleFileLoadFinish,
+        record(new VolcEvent(VolcEvent.EVENT_onSubtitleFileLoadFinish,
                 new Object[]{success, info},
                 () -> mListener.onSubtitleFileLoadFinish(mp, success, info)));
     }
 
     @Override
     public void onSubtitleWillChange(@NonNull PlayerAdapter mp, Subtitle current, @NonNull Subtitle target) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onSubtitleWillChange,
+        record(new VolcEvent(VolcEvent.EVENT_onSubtitleWillChange,
                 new Object[]{current, target},
                 () -> mListener.onSubtitleWillChange(mp, current, target)));
     }
 
     @Override
     public void onSubtitleChanged(@NonNull PlayerAdapter mp, Subtitle pre, @NonNull Subtitle current) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onSubtitleChanged,
+        record(new VolcEvent(VolcEvent.EVENT_onSubtitleChanged,
                 new Object[]{pre, current},
                 () -> mListener.onSubtitleChanged(mp, pre, current)));
     }
 
     @Override
     public void onSubtitleTextUpdate(@NonNull PlayerAdapter mp, @NonNull SubtitleText subtitleText) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onSubtitleTextUpdate,
+        record(new VolcEvent(VolcEvent.EVENT_onSubtitleTextUpdate,
                 new Object[]{subtitleText},
                 () -> mListener.onSubtitleTextUpdate(mp, subtitleText)));
     }
 
     @Override
     public void onSubtitleCacheHint(@NonNull PlayerAdapter mp, long cacheSize) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onSubtitleCacheHint,
+        record(new VolcEvent(VolcEvent.EVENT_onSubtitleCacheHint,
                 new Object[]{cacheSize},
                 () -> mListener.onSubtitleCacheHint(mp, cacheSize)));
     }
 
     @Override
     public void onFrameInfoUpdate(@NonNull PlayerAdapter mp, int frameType, long pts, long clockTime) {
-        mEvents.add(new VolcEvent(VolcEvent.EVENT_onFrameInfoUpdate,
+        record(new VolcEvent(VolcEvent.EVENT_onFrameInfoUpdate,
                 new Object[]{frameType, pts, clockTime},
-                () -> mListener.onFrameInfoUpdate(mp, frameType, pts, clockTime)));
+                () -> mListener.onFrameInfoUpdate(mp, frameType, pts, clockTime)), frameType);
     }
 
     void notifyEvents(PlayerAdapter.Listener listener) {
         this.mListener = listener;
-        List<VolcEvent> events;
-        synchronized (mEvents) {
-            events = new ArrayList<>(mEvents);
+        final List<VolcEvent> events;
+        synchronized (this) {
+            events = new ArrayList<>(mEvents.values());
             mEvents.clear();
         }
+        final long startTime = SystemClock.uptimeMillis();
         for (VolcEvent event : events) {
             event.execute();
         }
+        final long duration = SystemClock.uptimeMillis() - startTime;
+        final int recordedCount;
+        synchronized (this) {
+            mReplayedCount += events.size();
+            mReplayDurationMs += duration;
+            recordedCount = mRecordedCount;
+        }
+        PlaybackQoS.recordPreRenderReplay(recordedCount, events.size(), duration);
+        L.d(this, "notifyEvents", dump());
+    }
+
+    synchronized String dump() {
+        return "recorded=" + mRecordedCount +
+                " coalesced=" + mCoalescedCount +
+                " dropped=" + mDroppedCount +
+                " replayed=" + mReplayedCount +
+                " replayDuration=" + mReplayDurationMs + "ms";
     }
 
     static class VolcEvent {
@@ -19,13 +19,21 @@
 package com.bytedance.playerkit.player.volcengine;
 
 import android.annotation.SuppressLint;
+import android.content.ComponentCallbacks;
+import android.os.SystemClock;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.bytedance.playerkit.player.PlayerKit;
+import com.bytedance.playerkit.player.cache.DefaultCacheKeyFactory;
+import com.bytedance.playerkit.player.qos.PlaybackQoS;
+import com.bytedance.playerkit.player.utils.ProgressRecorder;
 import com.bytedance.playerkit.player.volcengine.VolcPlayerInitConfig.AppInfo;
 import com.bytedance.playerkit.utils.L;
 
+import java.io.File;
+import java.util.Map;
 import java.util.concurrent.FutureTask;
 
 public class VolcPlayerInit {
@@ -98,10 +106,12 @@ public class VolcPlayerInit {
         final Boolean isMessageQueueIdle = android.os.Build.VERSION.SDK_INT >= android.os.Build.VERSION_CODES.M ?
                 config.workerHandler.getLooper().getQueue().isIdle() : null;
         final long startTime = System.currentTimeMillis();
+        final long postNs = SystemClock.elapsedRealtimeNanos();
         L.d(VolcPlayerInit.class, "initAsync", "start",
                 config.workerHandler.getLooper().getThread(),
                 "isMessageQueueIdle:" + isMessageQueueIdle, startTime);
         sInitFuture = new FutureTask<>(() -> {
+            VolcInitTrace.record("initAsync#queued", postNs, SystemClock.elapsedRealtimeNanos() - postNs);
             try {
                 L.d(VolcPlayerInit.class, "initAsync", "running",
                         "time:" + (System.currentTimeMillis() - startTime));
@@ -130,6 +140,7 @@ public class VolcPlayerInit {
         if (sInitFuture != null && !sInitFuture.isDone()) {
             final long startTime = System.currentTimeMillis();
             L.d(VolcPlayerInit.class, "waitInitAsyncResult", "wait", Thread.currentThread(), mapState(getInitState()), startTime);
+            final long startNs = VolcInitTrace.begin("waitInitAsyncResult");
             try {
                 sInitFuture.get();
                 L.d(VolcPlayerInit.class, "waitInitAsyncResult", "return", mapState(getInitState()),
@@ -137,6 +148,9 @@ public class VolcPlayerInit {
             } catch (Exception e) {
                 L.e(VolcPlayerInit.class, "waitInitAsyncResult", e, "return", mapState(getInitState()),
                         "time:" + (System.currentTimeMillis() - startTime));
+            } finally {
+                VolcInitTrace.end("waitInitAsyncResult", startNs);
+                PlaybackQoS.recordInitWait(System.currentTimeMillis() - startTime);
             }
         }
     }
@@ -160,6 +174,15 @@ public class VolcPlayerInit {
         return sInitState;
     }
 
+    /**
+     * @return errors of failed SDK init steps by step name. Steps not required for playback run in
+     * background, so they may fail while {@link #getInitState()} is {@link #INIT_STATE_SUCCESS}.
+     */
+    @NonNull
+    public static Map<String, RuntimeException> getInitErrors() {
+        return TTSDKVodInit.getInitErrors();
+    }
+
     @SuppressLint("StaticFieldLeak")
     private static VolcPlayerInitConfig sConfig;
 
@@ -175,6 +198,14 @@ public class VolcPlayerInit {
         L.d(VolcPlayerInit.class, "config", config, AppInfo.dump(config.appInfo));
         sConfig = config;
         PlayerKit.config(config.playerKitConfig);
+        if (config.playerKitConfig != null && config.playerKitConfig.playerPool instanceof ComponentCallbacks) {
+            config.context.registerComponentCallbacks((ComponentCallbacks) config.playerKitConfig.playerPool);
+        }
+        ProgressRecorder.setStore(config.progressStore);
+        if (VolcConfigGlobal.ENABLE_VIDEO_MODEL_BINARY_CACHE) {
+            VolcVideoModelBinaryCache.init(new File(config.context.getCacheDir(), VolcConfigGlobal.CacheDir.PLAYER_VIDEO_MODEL_CACHE_FILE));
+        }
+        VolcDiskCacheManager.init(new File(config.context.getCacheDir(), VolcConfigGlobal.CacheDir.PLAYER_CACHE_INDEX_FILE), config.diskCacheConfig);
     }
 
     public static synchronized VolcPlayerInitConfig config() {
@@ -203,5 +234,32 @@ public class VolcPlayerInit {
 
     public static void clearDiskCache() {
         TTSDKVodInit.clearDiskCache();
+        if (sConfig != null) {
+            DefaultCacheKeyFactory.unpinKeyMode(sConfig.playerCacheDir);
+        }
+        final VolcDiskCacheManager diskCacheManager = VolcDiskCacheManager.get();
+        if (diskCacheManager != null) {
+            diskCacheManager.reset();
+        }
+    }
+
+    /**
+     * Removes cached files of media sources with {@link VolcConfig#tag} {@code scene}.
+     */
+    public static void clearDiskCache(@NonNull String scene) {
+        final VolcDiskCacheManager diskCacheManager = VolcDiskCacheManager.get();
+        if (diskCacheManager != null) {
+            diskCacheManager.clearScene(scene);
+        }
+    }
+
+    /**
+     * Stats of cache keys generated by {@link VolcPlayerInitConfig#cacheKeyFactory}. Files of vid
+     * sources are keyed inside the engine and not included.
+     */
+    @Nullable
+    public static VolcDiskCacheManager.Stats diskCacheStats() {
+        final VolcDiskCacheManager diskCacheManager = VolcDiskCacheManager.get();
+        return diskCacheManager == null ? null : diskCacheManager.stats();
     }
 }
@@ -27,8 +27,11 @@ import androidx.annotation.Nullable;
 
 import com.bytedance.playerkit.player.PlayerKit;
 import com.bytedance.playerkit.player.cache.CacheKeyFactory;
+import com.bytedance.playerkit.player.cache.DefaultCacheKeyFactory;
 import com.bytedance.playerkit.player.source.SubtitleSelector;
 import com.bytedance.playerkit.player.source.TrackSelector;
+import com.bytedance.playerkit.player.utils.JournalProgressStore;
+import com.bytedance.playerkit.player.utils.ProgressStore;
 import com.bytedance.playerkit.utils.Asserts;
 import com.bytedance.playerkit.utils.L;
 
@@ -57,12 +60,18 @@ public class VolcPlayerInitConfig {
     public final VolcSourceRefreshStrategy.VolcUrlRefreshFetcher.Factory urlRefreshFetcherFactory;
     @NonNull
     public final Handler workerHandler;
+    @NonNull
+    public final ProgressStore progressStore;
+    @NonNull
+    public final VolcDiskCacheManager.Config diskCacheConfig;
 
     private VolcPlayerInitConfig(Builder builder) {
         this.context = builder.context.getApplicationContext();
         this.appInfo = builder.appInfo;
         this.playerCacheDir = builder.playerCacheDir == null ? new File(context.getCacheDir(), VolcConfigGlobal.CacheDir.PLAYER_CACHE_DIR) : builder.playerCacheDir;
-        this.cacheKeyFactory = builder.cacheKeyFactory == null ? CacheKeyFactory.DEFAULT : builder.cacheKeyFactory;
+        this.cacheKeyFactory = builder.cacheKeyFactory == null ?
+                new DefaultCacheKeyFactory(playerCacheDir, builder.cacheKeyMode) :
+                builder.cacheKeyFactory;
         if (builder.playerKitConfig == null) {
             this.playerKitConfig = new PlayerKit.PlayerKitConfig.Builder()
                     .setPlayerFactory(new VolcPlayerFactory())
@@ -82,6 +91,8 @@ public class VolcPlayerInitConfig {
         } else {
             this.workerHandler = builder.workerHandler;
         }
+        this.progressStore = builder.progressStore == null ? new JournalProgressStore(context, VolcConfigGlobal.FilesDir.PLAYER_PROGRESS_FILE) : builder.progressStore;
+        this.diskCacheConfig = builder.diskCacheConfig == null ? new VolcDiskCacheManager.Config.Builder().build() : builder.diskCacheConfig;
     }
 
     public static class Builder {
@@ -91,11 +102,14 @@ public class VolcPlayerInitConfig {
         private File playerCacheDir;
         private TTVideoEngineFactory ttVideoEngineFactory;
         private CacheKeyFactory cacheKeyFactory;
+        private int cacheKeyMode = DefaultCacheKeyFactory.KEY_MODE_LEGACY;
         private TrackSelector trackSelector;
         private SubtitleSelector subtitleSelector;
         private VolcConfigUpdater configUpdater;
         private VolcSourceRefreshStrategy.VolcUrlRefreshFetcher.Factory urlRefreshFetcherFactory;
         private Handler workerHandler;
+        private ProgressStore progressStore;
+        private VolcDiskCacheManager.Config diskCacheConfig;
 
         public Builder setContext(@NonNull Context context) {
             this.context = Asserts.checkNotNull(context);
@@ -122,6 +136,16 @@ public class VolcPlayerInitConfig {
             return this;
         }
 
+        /**
+         * Key mode of the default {@link CacheKeyFactory}, ignored if {@link #setCacheKeyFactory} is set.
+         *
+         * @see DefaultCacheKeyFactory#resolveKeyMode(File, int)
+         */
+        public Builder setCacheKeyMode(int cacheKeyMode) {
+            this.cacheKeyMode = cacheKeyMode;
+            return this;
+        }
+
         public Builder setTTVideoEngineFactory(@Nullable TTVideoEngineFactory ttVideoEngineFactory) {
             this.ttVideoEngineFactory = ttVideoEngineFactory;
             return this;
@@ -152,6 +176,16 @@ public class VolcPlayerInitConfig {
             return this;
         }
 
+        public Builder setProgressStore(@Nullable ProgressStore progressStore) {
+            this.progressStore = progressStore;
+            return this;
+        }
+
+        public Builder setDiskCacheConfig(@Nullable VolcDiskCacheManager.Config diskCacheConfig) {
+            this.diskCacheConfig = diskCacheConfig;
+            return this;
+        }
+
         public VolcPlayerInitConfig build() {
             Asserts.checkNotNull(context);
             Asserts.checkNotNull(appInfo);
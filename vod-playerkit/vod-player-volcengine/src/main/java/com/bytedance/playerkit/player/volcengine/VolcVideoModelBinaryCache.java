@@ -0,0 +1,487 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.volcengine;
+
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.playerkit.player.source.Quality;
+import com.bytedance.playerkit.player.source.Track;
+import com.bytedance.playerkit.utils.L;
+import com.bytedance.playerkit.utils.concurrent.ExecutorFactory;
+import com.ss.ttvideoengine.Resolution;
+import com.ss.ttvideoengine.model.IVideoModel;
+import com.ss.ttvideoengine.model.VideoRef;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Second level of {@link VolcVideoModelCache}. Keeps a compact binary encoding of the fields
+ * {@link Mapper#updateMediaSource(MediaSource, IVideoModel)} derives from a model json, so
+ * {@link Mapper#updateVideoModelMediaSource(MediaSource)} can skip json parsing on a hit. Survives
+ * process restart.
+ * <p>
+ * Entries are keyed by {@code mediaId + content hash of model json} and appended to a memory-mapped
+ * file of {@link #CAPACITY_BYTES}. When the file is full, the least recently used entries are
+ * dropped by rewriting the file with recent ones only. Appending and compaction run on a single
+ * background thread.
+ * <p>
+ * File layout: {@code [int magic][int version]} followed by records of
+ * {@code [int length][UTF key][entry]}. Length {@code 0} ends the file.
+ */
+public class VolcVideoModelBinaryCache {
+
+    public static int CAPACITY_BYTES = 4 * 1024 * 1024;
+
+    private static final int MAGIC = 0x564d4243; // VMBC
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+
+    private static volatile VolcVideoModelBinaryCache sInstance;
+
+    private final File mFile;
+    private final int mCapacity;
+    private final Executor mExecutor;
+
+    // Guarded by this.
+    private MappedByteBuffer mBuffer;
+    private boolean mLoaded;
+    private final LinkedHashMap<String, Record> mIndex = new LinkedHashMap<>(64, 0.75f, true);
+    private int mLiveBytes;
+    private int mHitCount;
+    private int mMissCount;
+    private int mPutCount;
+    private int mEvictionCount;
+
+    private static class Record {
+        final int position;
+        final int length;
+
+        Record(int position, int length) {
+            this.position = position;
+            this.length = length;
+        }
+    }
+
+    public static void init(@NonNull File file) {
+        if (sInstance == null) {
+            synchronized (VolcVideoModelBinaryCache.class) {
+                if (sInstance == null) {
+                    sInstance = new VolcVideoModelBinaryCache(file, CAPACITY_BYTES);
+                }
+            }
+        }
+    }
+
+    @Nullable
+    public static VolcVideoModelBinaryCache get() {
+        return sInstance;
+    }
+
+    VolcVideoModelBinaryCache(File file, int capacity) {
+        this.mFile = file;
+        this.mCapacity = capacity;
+        final ThreadPoolExecutor executor = ExecutorFactory.DEFAULT.create(1);
+        executor.setKeepAliveTime(10, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        this.mExecutor = executor;
+        this.mExecutor.execute(this::load);
+    }
+
+    /**
+     * Fills {@code mediaSource} with cached fields of its model json.
+     *
+     * @return true if hit. False if missed or file is still loading.
+     */
+    public boolean apply(@NonNull MediaSource mediaSource) {
+        final String key = key(mediaSource);
+        if (key == null) return false;
+
+        final byte[] bytes;
+        synchronized (this) {
+            final Record record = mLoaded ? mIndex.get(key) : null;
+            if (record == null || mBuffer == null) {
+                mMissCount++;
+                return false;
+            }
+            bytes = new byte[record.length];
+            final MappedByteBuffer buffer = mBuffer;
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(record.position + i);
+            }
+        }
+
+        try {
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (!TextUtils.equals(in.readUTF(), key)) {
+                throw new IOException("key mismatch");
+            }
+            decode(in, mediaSource);
+        } catch (IOException | RuntimeException e) {
+            L.e(this, "apply", e, key);
+            synchronized (this) {
+                removeLocked(key);
+                mMissCount++;
+            }
+            return false;
+        }
+        synchronized (this) {
+            mHitCount++;
+        }
+        return true;
+    }
+
+    /**
+     * Caches fields of {@code mediaSource} updated by
+     * {@link Mapper#updateMediaSource(MediaSource, IVideoModel)} with {@code videoModel}.
+     */
+    public void put(@NonNull MediaSource mediaSource, @NonNull IVideoModel videoModel) {
+        final String key = key(mediaSource);
+        if (key == null || mediaSource.getTracks() == null) return;
+
+        final byte[] bytes;
+        try {
+            final ByteArrayOutputStream bos = new ByteArrayOutputStream(512);
+            final DataOutputStream out = new DataOutputStream(bos);
+            out.writeUTF(key);
+            encode(out, mediaSource, videoModel);
+            out.flush();
+            bytes = bos.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            L.e(this, "put", e, key);
+            return;
+        }
+        mExecutor.execute(() -> append(key, bytes));
+    }
+
+    public void clear() {
+        mExecutor.execute(() -> {
+            synchronized (this) {
+                mIndex.clear();
+                mLiveBytes = 0;
+                if (mBuffer != null) {
+                    writeHeader(mBuffer);
+                }
+            }
+        });
+    }
+
+    public synchronized int hitCount() {
+        return mHitCount;
+    }
+
+    public synchronized int missCount() {
+        return mMissCount;
+    }
+
+    public synchronized float hitRate() {
+        final int total = mHitCount + mMissCount;
+        return total == 0 ? 0 : mHitCount / (float) total;
+    }
+
+    public synchronized String dump() {
+        return "entries=" + mIndex.size()
+                + " bytes=" + mLiveBytes + "/" + mCapacity
+                + " hit=" + mHitCount
+                + " miss=" + mMissCount
+                + " put=" + mPutCount
+                + " eviction=" + mEvictionCount;
+    }
+
+    @Nullable
+    private static String key(MediaSource mediaSource) {
+        final String mediaId = mediaSource.getMediaId();
+        final String json = mediaSource.getModelJson();
+        if (TextUtils.isEmpty(mediaId) || TextUtils.isEmpty(json)) return null;
+        // String caches its hash code, so repeat lookups of the same json do not rehash it.
+        return mediaId + "#" + Integer.toHexString(json.hashCode()) + "#" + json.length();
+    }
+
+    private void load() {
+        final LinkedHashMap<String, Record> index = new LinkedHashMap<>(64, 0.75f, true);
+        int liveBytes = 0;
+        MappedByteBuffer buffer = null;
+        try {
+            buffer = map(mFile, mCapacity);
+            if (buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION) {
+                buffer.position(HEADER_SIZE);
+                while (buffer.remaining() >= 4) {
+                    final int length = buffer.getInt();
+                    if (length <= 2 || length > buffer.remaining()) {
+                        buffer.position(buffer.position() - 4);
+                        break;
+                    }
+                    final int position = buffer.position();
+                    final int keyLength = buffer.getShort(position) & 0xffff;
+                    if (keyLength + 2 > length) {
+                        buffer.position(position - 4);
+                        break;
+                    }
+                    final byte[] keyBytes = new byte[keyLength + 2];
+                    buffer.get(keyBytes);
+                    final String key = new DataInputStream(new ByteArrayInputStream(keyBytes)).readUTF();
+                    final Record old = index.put(key, new Record(position, length));
+                    if (old != null) {
+                        liveBytes -= old.length + 4;
+                    }
+                    liveBytes += length + 4;
+                    buffer.position(position + length);
+                }
+            } else {
+                writeHeader(buffer);
+            }
+        } catch (IOException | RuntimeException e) {
+            L.e(this, "load", e, mFile);
+            buffer = null;
+            index.clear();
+            liveBytes = 0;
+        }
+        synchronized (this) {
+            mBuffer = buffer;
+            mIndex.putAll(index);
+            mLiveBytes = liveBytes;
+            mLoaded = true;
+        }
+        L.d(this, "load", mFile, index.size(), liveBytes);
+    }
+
+    private synchronized void append(String key, byte[] bytes) {
+        if (mBuffer == null) return;
+
+        final int recordSize = 4 + bytes.length;
+        if (recordSize > (mCapacity - HEADER_SIZE) / 4) return;
+
+        if (mBuffer.remaining() < recordSize + 4) {
+            compactLocked(mCapacity / 2 - recordSize);
+            if (mBuffer == null || mBuffer.remaining() < recordSize + 4) return;
+        }
+        final int position = mBuffer.position() + 4;
+        mBuffer.putInt(bytes.length);
+        mBuffer.put(bytes);
+        endFile(mBuffer);
+        removeLocked(key);
+        mIndex.put(key, new Record(position, bytes.length));
+        mLiveBytes += recordSize;
+        mPutCount++;
+    }
+
+    private void removeLocked(String key) {
+        final Record record = mIndex.remove(key);
+        if (record != null) {
+            mLiveBytes -= record.length + 4;
+        }
+    }
+
+    /**
+     * Rewrites the file with the most recently used records fitting in {@code budget} bytes, then
+     * swaps it with the current one.
+     */
+    private void compactLocked(int budget) {
+        final List<Map.Entry<String, Record>> entries = new ArrayList<>(mIndex.entrySet());
+        final LinkedHashMap<String, Record> kept = new LinkedHashMap<>(64, 0.75f, true);
+        int keptBytes = 0;
+        int firstKept = entries.size();
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            final int recordSize = entries.get(i).getValue().length + 4;
+            if (keptBytes + recordSize > budget) break;
+            keptBytes += recordSize;
+            firstKept = i;
+        }
+
+        final File tmp = new File(mFile.getPath() + ".tmp");
+        try {
+            final MappedByteBuffer buffer = map(tmp, mCapacity);
+            writeHeader(buffer);
+            for (int i = firstKept; i < entries.size(); i++) {
+                final Record record = entries.get(i).getValue();
+                final int position = buffer.position() + 4;
+                buffer.putInt(record.length);
+                for (int j = 0; j < record.length; j++) {
+                    buffer.put(mBuffer.get(record.position + j));
+                }
+                kept.put(entries.get(i).getKey(), new Record(position, record.length));
+            }
+            endFile(buffer);
+            buffer.force();
+            if (!tmp.renameTo(mFile)) {
+                throw new IOException("rename " + tmp + " failed");
+            }
+            mEvictionCount += mIndex.size() - kept.size();
+            mBuffer = buffer;
+            mIndex.clear();
+            mIndex.putAll(kept);
+            mLiveBytes = keptBytes;
+            L.d(this, "compact", mFile, kept.size(), keptBytes);
+        } catch (IOException | RuntimeException e) {
+            L.e(this, "compact", e, mFile);
+            tmp.delete();
+        }
+    }
+
+    private static void encode(DataOutputStream out, MediaSource mediaSource, IVideoModel videoModel) throws IOException {
+        out.writeInt(mediaSource.getMediaProtocol());
+        out.writeInt(mediaSource.getSegmentType());
+        out.writeBoolean(mediaSource.isSupportABR());
+        out.writeInt(mediaSource.getMediaType());
+        out.writeLong(videoModel.getVideoRefInt(VideoRef.VALUE_VIDEO_REF_VIDEO_DURATION) * 1000L);
+        writeString(out, videoModel.getVideoRefStr(VideoRef.VALUE_VIDEO_REF_POSTER_URL));
+
+        final List<Track> tracks = mediaSource.getTracks();
+        out.writeShort(tracks.size());
+        for (Track track : tracks) {
+            writeString(out, track.getMediaId());
+            out.writeInt(track.getTrackType());
+            writeString(out, track.getUrl());
+            final List<String> backupUrls = track.getBackupUrls();
+            out.writeShort(backupUrls == null ? -1 : backupUrls.size());
+            if (backupUrls != null) {
+                for (String url : backupUrls) {
+                    writeString(out, url);
+                }
+            }
+            writeString(out, track.getFileId());
+            writeString(out, track.getFileHash());
+            out.writeLong(track.getFileSize());
+            out.writeInt(track.getBitrate());
+            writeString(out, track.getEncryptedKey());
+            writeString(out, track.getEncryptedKeyId());
+            out.writeInt(track.getFormat());
+            out.writeInt(track.getEncoderType());
+            out.writeInt(track.getVideoWidth());
+            out.writeInt(track.getVideoHeight());
+            final Quality quality = track.getQuality();
+            final Object resolution = quality == null ? null : quality.getQualityTag();
+            writeString(out, resolution instanceof Resolution ? ((Resolution) resolution).name() : null);
+        }
+    }
+
+    private static void decode(DataInputStream in, MediaSource mediaSource) throws IOException {
+        final int mediaProtocol = in.readInt();
+        final int segmentType = in.readInt();
+        final boolean supportABR = in.readBoolean();
+        final int mediaType = in.readInt();
+        final long duration = in.readLong();
+        final String coverUrl = readString(in);
+
+        final int trackCount = in.readShort();
+        final List<Track> tracks = new ArrayList<>(Math.max(trackCount, 0));
+        for (int i = 0; i < trackCount; i++) {
+            final Track track = new Track();
+            track.setMediaId(readString(in));
+            track.setTrackType(in.readInt());
+            track.setUrl(readString(in));
+            final int backupUrlCount = in.readShort();
+            if (backupUrlCount >= 0) {
+                final List<String> backupUrls = new ArrayList<>(backupUrlCount);
+                for (int j = 0; j < backupUrlCount; j++) {
+                    backupUrls.add(readString(in));
+                }
+                track.setBackupUrls(backupUrls);
+            }
+            track.setFileId(readString(in));
+            track.setFileHash(readString(in));
+            track.setFileSize(in.readLong());
+            track.setBitrate(in.readInt());
+            track.setEncryptedKey(readString(in));
+            track.setEncryptedKeyId(readString(in));
+            track.setFormat(in.readInt());
+            track.setEncoderType(in.readInt());
+            track.setVideoWidth(in.readInt());
+            track.setVideoHeight(in.readInt());
+            final String resolution = readString(in);
+            track.setQuality(resolution == null ? null : Mapper.resolution2Quality(Resolution.valueOf(resolution)));
+            tracks.add(track);
+        }
+
+        // Same as Mapper#updateMediaSource(MediaSource, IVideoModel)
+        mediaSource.setMediaProtocol(mediaProtocol);
+        mediaSource.setSegmentType(segmentType);
+        mediaSource.setSupportABR(supportABR);
+        mediaSource.setMediaType(mediaType);
+        if (mediaSource.getTracks() == null) {
+            mediaSource.setTracks(tracks);
+        }
+        if (mediaSource.getDuration() <= 0) {
+            mediaSource.setDuration(duration);
+        }
+        if (TextUtils.isEmpty(mediaSource.getCoverUrl())) {
+            mediaSource.setCoverUrl(coverUrl);
+        }
+        final Track videoTrack = mediaSource.getFirstTrack(Track.TRACK_TYPE_VIDEO);
+        if (videoTrack != null) {
+            mediaSource.setDisplayAspectRatio(Mapper.calTrackDisplayAspectRatio(videoTrack));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        out.writeBoolean(s != null);
+        if (s != null) {
+            out.writeUTF(s);
+        }
+    }
+
+    @Nullable
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static MappedByteBuffer map(File file, int capacity) throws IOException {
+        final File dir = file.getParentFile();
+        if (dir != null && !dir.exists()) {
+            dir.mkdirs();
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            if (raf.length() != capacity) {
+                raf.setLength(capacity);
+            }
+            return raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+    }
+
+    private static void writeHeader(MappedByteBuffer buffer) {
+        buffer.clear();
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        endFile(buffer);
+    }
+
+    private static void endFile(MappedByteBuffer buffer) {
+        if (buffer.remaining() >= 4) {
+            buffer.putInt(buffer.position(), 0);
+        }
+    }
+}
@@ -77,6 +77,7 @@ import com.bytedance.playerkit.player.source.MediaSource;
 import com.bytedance.playerkit.player.source.Subtitle;
 import com.bytedance.playerkit.player.source.SubtitleText;
 import com.bytedance.playerkit.player.source.Track;
+import com.bytedance.playerkit.player.utils.BandwidthMeter;
 import com.bytedance.playerkit.player.utils.ProgressRecorder;
 import com.bytedance.playerkit.utils.Asserts;
 import com.bytedance.playerkit.utils.ExtraObject;
@@ -99,6 +100,16 @@ import java.util.Objects;
  * </ul>
  */
 public class AVPlayer extends ExtraObject implements Player {
+
+    /**
+     * Info event codes coalesced by player {@link Dispatcher} when engine reports them off the
+     * event looper thread. Coalesced events keep at most one pending instance per code, holding
+     * latest values and queued behind events dispatched before it. Empty by default.
+     *
+     * @see Dispatcher#setCoalescingEventCodes(int...)
+     */
+    public static int[] COALESCING_EVENT_CODES = {};
+
     private final Dispatcher mDispatcher;
     private final String mPlayerType;
 
@@ -127,6 +138,7 @@ public class AVPlayer extends ExtraObject implements Player {
         L.d(this, "constructor", playerFactory.type());
         final Listener listener = new Listener(this);
         this.mDispatcher = new Dispatcher(eventLooper);
+        this.mDispatcher.setCoalescingEventCodes(COALESCING_EVENT_CODES);
         this.mPlayerType = playerFactory.type();
         this.mPlayer = playerFactory.create(eventLooper);
         this.mPlayer.setListener(listener);
@@ -283,6 +295,13 @@ public class AVPlayer extends ExtraObject implements Player {
                     player.mDispatcher.obtain(InfoBufferingEnd.class, player).init(player.mBufferIndex).dispatch();
                     break;
                 }
+                case PlayerAdapter.Info.MEDIA_INFO_NETWORK_BANDWIDTH: {
+                    if (extra instanceof Number) {
+                        L.v(player, "onInfo", "network bandwidth", extra);
+                        BandwidthMeter.addSample(((Number) extra).longValue());
+                    }
+                    break;
+                }
                 case PlayerAdapter.Info.MEDIA_INFO_NOT_SEEKABLE: {
                     player.mSeekable = false;
                     L.d(player, "onInfo", "not seekable");
@@ -25,13 +25,85 @@ import androidx.annotation.NonNull;
 import com.bytedance.playerkit.player.source.MediaSource;
 import com.bytedance.playerkit.player.source.Subtitle;
 import com.bytedance.playerkit.player.source.Track;
+import com.bytedance.playerkit.utils.L;
 import com.bytedance.playerkit.utils.MD5;
+import com.bytedance.playerkit.utils.Murmur3;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class DefaultCacheKeyFactory implements CacheKeyFactory {
 
+    /**
+     * md5 of url path rendered without leading zeros. Compatible with existing disk cache entries.
+     */
+    public static final int KEY_MODE_LEGACY = 0;
+    /**
+     * md5 of url path rendered as 32 chars hex. Same as {@link #KEY_MODE_LEGACY} for 15/16 of keys.
+     */
+    public static final int KEY_MODE_MD5 = 1;
+    /**
+     * MurmurHash3 x64 128-bit of url path rendered as 32 chars hex.
+     */
+    public static final int KEY_MODE_HASH128 = 2;
+
+    public static int MEMO_CACHE_SIZE = 512;
+
+    private static final int KEY_MODE_UNPINNED = -1;
+    private static final String VALUE_UNPINNED = "unpinned";
+
+    private final File mCacheDir;
+    private final int mRequestedKeyMode;
+    private volatile int mKeyMode;
+    private final Map<String, String> mMemo = new LinkedHashMap<String, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MEMO_CACHE_SIZE;
+        }
+    };
+
+    public DefaultCacheKeyFactory() {
+        this(KEY_MODE_LEGACY);
+    }
+
+    public DefaultCacheKeyFactory(int keyMode) {
+        this.mCacheDir = null;
+        this.mRequestedKeyMode = keyMode;
+        this.mKeyMode = keyMode;
+    }
+
+    /**
+     * Key mode is resolved against {@code cacheDir} by {@link #resolveKeyMode(File, int)} on first
+     * use of {@link #getKeyMode()}, which does disk io. Call it from a worker thread before the
+     * disk cache is opened.
+     */
+    public DefaultCacheKeyFactory(@NonNull File cacheDir, int keyMode) {
+        this.mCacheDir = cacheDir;
+        this.mRequestedKeyMode = keyMode;
+        this.mKeyMode = KEY_MODE_UNPINNED;
+    }
+
+    public int getKeyMode() {
+        int keyMode = mKeyMode;
+        if (keyMode == KEY_MODE_UNPINNED) {
+            synchronized (this) {
+                keyMode = mKeyMode;
+                if (keyMode == KEY_MODE_UNPINNED) {
+                    keyMode = resolveKeyMode(mCacheDir, mRequestedKeyMode);
+                    mKeyMode = keyMode;
+                }
+            }
+        }
+        return keyMode;
+    }
+
     @Override
     public String generateCacheKey(@NonNull MediaSource source, @NonNull Track track) {
         if (!TextUtils.isEmpty(track.getFileHash())) {
@@ -57,13 +129,168 @@ public class DefaultCacheKeyFactory implements CacheKeyFactory {
 
     @Override
     public String generateCacheKey(@NonNull String url) {
-        String path;
+        final String path = path(url);
+        synchronized (mMemo) {
+            final String key = mMemo.get(path);
+            if (key != null) return key;
+        }
+        final String key = hash(path);
+        synchronized (mMemo) {
+            mMemo.put(path, key);
+        }
+        return key;
+    }
+
+    private String hash(String path) {
+        switch (getKeyMode()) {
+            case KEY_MODE_MD5:
+                return MD5.getMD5Hex(path);
+            case KEY_MODE_HASH128:
+                return Murmur3.hash128Hex(path);
+            case KEY_MODE_LEGACY:
+            default:
+                return MD5.getMD5(path);
+        }
+    }
+
+    /**
+     * Same as {@link URL#getPath()} for http(s) urls without parsing the whole url.
+     */
+    static String path(String url) {
+        final int schemeEnd = url.indexOf("://");
+        if (schemeEnd == 4 && url.regionMatches(true, 0, "http", 0, 4)
+                || schemeEnd == 5 && url.regionMatches(true, 0, "https", 0, 5)) {
+            final int authorityStart = schemeEnd + 3;
+            int end = url.length();
+            for (int i = authorityStart; i < url.length(); i++) {
+                final char c = url.charAt(i);
+                if (c == '?' || c == '#') {
+                    end = i;
+                    break;
+                }
+            }
+            final int pathStart = url.indexOf('/', authorityStart);
+            if (pathStart < 0 || pathStart >= end) return "";
+            return url.substring(pathStart, end);
+        }
         try {
-            URL u = new URL(url);
-            path = u.getPath();
+            return new URL(url).getPath();
         } catch (MalformedURLException e) {
-            path = url;
+            return url;
+        }
+    }
+
+    /**
+     * Disk cache entries are looked up by key, switching key mode would orphan all of them. The key
+     * mode used to fill {@code cacheDir} is recorded next to it: a cache created before the record
+     * existed is pinned to {@link #KEY_MODE_LEGACY}, {@code keyMode} is only adopted by a new or
+     * cleared cache.
+     * <p>
+     * Does disk io and may delete files in {@code cacheDir}, call it off the main thread before the
+     * disk cache is opened.
+     *
+     * @return key mode to create {@link DefaultCacheKeyFactory} with.
+     * @see #unpinKeyMode(File)
+     */
+    public static int resolveKeyMode(@NonNull File cacheDir, int keyMode) {
+        final File modeFile = keyModeFile(cacheDir);
+        int pinned;
+        if (!modeFile.exists()) {
+            pinned = isEmptyDir(cacheDir) ? keyMode : KEY_MODE_LEGACY;
+            writeKeyMode(modeFile, pinned);
+        } else {
+            pinned = readKeyMode(modeFile);
+            if (pinned == KEY_MODE_UNPINNED) {
+                // unpinned by clear. Entries written after the clear used the old mode, drop them.
+                deleteContents(cacheDir);
+                pinned = keyMode;
+                writeKeyMode(modeFile, pinned);
+            }
+        }
+        L.d(DefaultCacheKeyFactory.class, "resolveKeyMode", cacheDir, keyMode, pinned);
+        return pinned;
+    }
+
+    /**
+     * Call after {@code cacheDir} has been cleared, so next {@link #resolveKeyMode(File, int)} adopts
+     * the requested key mode. Factories already created keep their mode until process restart, the
+     * entries they write meanwhile are deleted by next {@link #resolveKeyMode(File, int)}.
+     */
+    public static void unpinKeyMode(@NonNull File cacheDir) {
+        writeKeyMode(keyModeFile(cacheDir), KEY_MODE_UNPINNED);
+    }
+
+    private static File keyModeFile(File cacheDir) {
+        return new File(cacheDir.getParentFile(), cacheDir.getName() + ".key_mode");
+    }
+
+    private static boolean isEmptyDir(File dir) {
+        final String[] files = dir.list();
+        return files == null || files.length == 0;
+    }
+
+    private static void deleteContents(File dir) {
+        final File[] files = dir.listFiles();
+        if (files == null) return;
+        for (File file : files) {
+            if (file.isDirectory()) {
+                deleteContents(file);
+            }
+            if (!file.delete()) {
+                L.w(DefaultCacheKeyFactory.class, "deleteContents", "failed", file);
+            }
+        }
+    }
+
+    /**
+     * @return recorded key mode, {@link #KEY_MODE_UNPINNED} if unpinned by clear. A damaged or
+     * unknown record falls back to {@link #KEY_MODE_LEGACY}, which keeps existing entries matching.
+     */
+    private static int readKeyMode(File modeFile) {
+        String value = null;
+        try (FileInputStream in = new FileInputStream(modeFile)) {
+            final byte[] bytes = new byte[16];
+            final int length = in.read(bytes);
+            if (length > 0) {
+                value = new String(bytes, 0, length, StandardCharsets.UTF_8).trim();
+            }
+        } catch (IOException e) {
+            L.e(DefaultCacheKeyFactory.class, "readKeyMode", e, modeFile);
+        }
+        if (VALUE_UNPINNED.equals(value)) return KEY_MODE_UNPINNED;
+        if (value != null) {
+            try {
+                final int keyMode = Integer.parseInt(value);
+                if (keyMode == KEY_MODE_LEGACY || keyMode == KEY_MODE_MD5 || keyMode == KEY_MODE_HASH128) {
+                    return keyMode;
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        L.w(DefaultCacheKeyFactory.class, "readKeyMode", "damaged", modeFile, value);
+        return KEY_MODE_LEGACY;
+    }
+
+    /**
+     * Writes a temp file and renames it over {@code modeFile}, so a crash or full disk never
+     * leaves a partial record.
+     */
+    private static void writeKeyMode(File modeFile, int keyMode) {
+        final File parent = modeFile.getParentFile();
+        if (parent != null && !parent.exists()) parent.mkdirs();
+        final String value = keyMode == KEY_MODE_UNPINNED ? VALUE_UNPINNED : String.valueOf(keyMode);
+        final File tmpFile = new File(parent, modeFile.getName() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmpFile)) {
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+            out.getFD().sync();
+        } catch (IOException e) {
+            L.e(DefaultCacheKeyFactory.class, "writeKeyMode", e, modeFile);
+            tmpFile.delete();
+            return;
+        }
+        if (!tmpFile.renameTo(modeFile)) {
+            L.e(DefaultCacheKeyFactory.class, "writeKeyMode", "rename failed", modeFile);
+            tmpFile.delete();
         }
-        return MD5.getMD5(path);
     }
 }
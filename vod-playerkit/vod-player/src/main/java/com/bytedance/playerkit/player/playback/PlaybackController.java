@@ -38,6 +38,7 @@ import com.bytedance.playerkit.player.playback.event.StateBindPlayer;
 import com.bytedance.playerkit.player.playback.event.StateBindVideoView;
 import com.bytedance.playerkit.player.playback.event.StateUnbindPlayer;
 import com.bytedance.playerkit.player.playback.event.StateUnbindVideoView;
+import com.bytedance.playerkit.player.qos.PlaybackQoS;
 import com.bytedance.playerkit.player.source.MediaSource;
 import com.bytedance.playerkit.player.source.Track;
 import com.bytedance.playerkit.utils.Asserts;
@@ -174,6 +175,7 @@ public class PlaybackController {
     private final SurfaceListener mSurfaceListener;
     private final PlayerListener mPlayerListener;
     private final Dispatcher mDispatcher;
+    private final PlaybackQoS.SessionTracker mQoSTracker;
 
     private Runnable mStartOnReadyCommand;
 
@@ -190,6 +192,8 @@ public class PlaybackController {
         mSurfaceListener = new SurfaceListener(this);
         mPlayerListener = new PlayerListener(this);
         mDispatcher = new Dispatcher(Looper.getMainLooper());
+        mQoSTracker = new PlaybackQoS.SessionTracker();
+        mDispatcher.addEventListener(mQoSTracker, PlaybackQoS.SessionTracker.EVENT_CODES);
     }
 
     @MainThread
@@ -198,6 +202,16 @@ public class PlaybackController {
         mDispatcher.addEventListener(listener);
     }
 
+    /**
+     * Same as {@link #addPlaybackListener(EventListener)}, but only events with one of
+     * {@code codes} will be delivered to {@code listener}.
+     */
+    @MainThread
+    public final void addPlaybackListener(EventListener listener, int... codes) {
+        Asserts.checkMainThread();
+        mDispatcher.addEventListener(listener, codes);
+    }
+
     @MainThread
     public final void removePlaybackListener(EventListener listener) {
         Asserts.checkMainThread();
@@ -208,6 +222,15 @@ public class PlaybackController {
     public final void removeAllPlaybackListeners() {
         Asserts.checkMainThread();
         mDispatcher.removeAllEventListener();
+        mDispatcher.addEventListener(mQoSTracker, PlaybackQoS.SessionTracker.EVENT_CODES);
+    }
+
+    /**
+     * @return QoS session of current playback, null if playback is not started.
+     */
+    @Nullable
+    public PlaybackQoS.Session qosSession() {
+        return mQoSTracker.session();
     }
 
     @AnyThread
@@ -38,6 +38,7 @@ import com.bytedance.playerkit.player.Player;
 import com.bytedance.playerkit.player.PlayerEvent;
 import com.bytedance.playerkit.player.event.InfoTrackInfoReady;
 import com.bytedance.playerkit.player.playback.widgets.RatioFrameLayout;
+import com.bytedance.playerkit.player.source.DisplayAwareTrackSelector;
 import com.bytedance.playerkit.player.source.MediaSource;
 import com.bytedance.playerkit.player.source.Track;
 import com.bytedance.playerkit.utils.Asserts;
@@ -183,6 +184,9 @@ public class VideoView extends RatioFrameLayout implements Dispatcher.EventListe
     protected void onSizeChanged(int w, int h, int oldw, int oldh) {
         super.onSizeChanged(w, h, oldw, oldh);
         mDisplayModeHelper.apply();
+        if (mSource != null) {
+            DisplayAwareTrackSelector.setDisplaySize(mSource, w, h);
+        }
     }
 
     @Override
@@ -661,6 +665,7 @@ public class VideoView extends RatioFrameLayout implements Dispatcher.EventListe
     public void bindDataSource(@NonNull MediaSource source) {
         L.d(this, "bindDataSource", MediaSource.dump(mSource), MediaSource.dump(source));
         mSource = source;
+        DisplayAwareTrackSelector.setDisplaySize(source, getWidth(), getHeight());
         if (mListeners != null) {
             for (VideoViewListener listener : mListeners) {
                 listener.onVideoViewBindDataSource(source);
@@ -0,0 +1,358 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.playback;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.playerkit.player.Player;
+import com.bytedance.playerkit.player.PlayerEvent;
+import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.playerkit.utils.L;
+import com.bytedance.playerkit.utils.event.Dispatcher;
+import com.bytedance.playerkit.utils.event.Event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link PlayerPool} keeping recycled players warm instead of releasing them.
+ * <p>
+ * A recycled player which is preparing or prepared is paused and kept by media id. Acquiring the
+ * same media again returns the warm player, so {@link PlaybackController#startPlayback()} resumes
+ * it without preparing again.
+ * <p>
+ * Warm players are evicted when any of the budget is exceeded:
+ * <ul>
+ *     <li>{@code maxWarmPlayers}: count of warm players</li>
+ *     <li>{@code maxWarmBytes}: estimated decoder output buffer memory of warm players</li>
+ *     <li>{@code maxPlayers}: count of acquired and warm players, ie. alive decoders</li>
+ * </ul>
+ * Players farthest from the cursor set by {@link #setCursor(List, int)} are evicted first, least
+ * recently recycled ones for ties. Register the pool by
+ * {@link android.content.Context#registerComponentCallbacks} to trim warm players on memory
+ * pressure.
+ */
+public class WarmPlayerPool implements PlayerPool, ComponentCallbacks2 {
+
+    public static final int DEFAULT_MAX_WARM_PLAYERS = 2;
+    public static final long DEFAULT_MAX_WARM_BYTES = 64 * 1024 * 1024;
+    public static final int DEFAULT_MAX_PLAYERS = 4;
+
+    /**
+     * Decoder output buffers held by a paused player, used to estimate memory of warm players.
+     */
+    private static final int DECODER_BUFFER_COUNT = 6;
+    private static final int DEFAULT_VIDEO_PIXELS = 1280 * 720;
+    private static final int UNKNOWN_DISTANCE = Integer.MAX_VALUE;
+
+    private final int mMaxWarmPlayers;
+    private final long mMaxWarmBytes;
+    private final int mMaxPlayers;
+
+    private final Map<String, Player> mAcquiredPlayers = new LinkedHashMap<>();
+    /**
+     * Warm players, from least to most recently recycled.
+     */
+    private final LinkedHashMap<String, Player> mWarmPlayers = new LinkedHashMap<>();
+    private final Map<String, Integer> mCursorDistances = new HashMap<>();
+
+    private int mHitCount;
+    private int mMissCount;
+    private int mEvictionCount;
+
+    public WarmPlayerPool() {
+        this(DEFAULT_MAX_WARM_PLAYERS, DEFAULT_MAX_WARM_BYTES, DEFAULT_MAX_PLAYERS);
+    }
+
+    public WarmPlayerPool(int maxWarmPlayers, long maxWarmBytes, int maxPlayers) {
+        this.mMaxWarmPlayers = maxWarmPlayers;
+        this.mMaxWarmBytes = maxWarmBytes;
+        this.mMaxPlayers = maxPlayers;
+    }
+
+    @NonNull
+    @Override
+    public Player acquire(@NonNull MediaSource source, Player.Factory factory) {
+        final String key = key(source);
+        Player player;
+        boolean hit = false;
+        synchronized (this) {
+            player = mAcquiredPlayers.get(key);
+            if (player == null) {
+                player = mWarmPlayers.remove(key);
+                if (player != null) {
+                    mAcquiredPlayers.put(key, player);
+                }
+            }
+            if (player != null) {
+                if (player.isError() || player.isReleased()) {
+                    mAcquiredPlayers.remove(key);
+                } else {
+                    hit = true;
+                    mHitCount++;
+                }
+            }
+            if (!hit) {
+                mMissCount++;
+            }
+        }
+        if (player != null && !hit) {
+            player.release();
+            player = null;
+        }
+        if (player == null) {
+            player = create(source, factory);
+        }
+        L.d(this, "acquire", MediaSource.dump(source), player, hit);
+        return player;
+    }
+
+    @NonNull
+    private Player create(@NonNull MediaSource source, @NonNull Player.Factory factory) {
+        final Player player = factory.create(source);
+        player.addPlayerListener(new Dispatcher.EventListener() {
+            @Override
+            public void onEvent(Event event) {
+                if (event.code() == PlayerEvent.Action.RELEASE) {
+                    Player p = event.owner(Player.class);
+                    p.removePlayerListener(this);
+                    remove(source, p);
+                }
+            }
+        });
+        final List<Player> evicted;
+        synchronized (this) {
+            mAcquiredPlayers.put(key(source), player);
+            evicted = trim(mMaxWarmPlayers);
+        }
+        release(evicted);
+        return player;
+    }
+
+    @Override
+    public synchronized Player get(@NonNull MediaSource source) {
+        return mAcquiredPlayers.get(key(source));
+    }
+
+    @Override
+    public void recycle(@NonNull Player player) {
+        final MediaSource source = player.getDataSource();
+        final boolean warm = source != null && mMaxWarmPlayers > 0 && isWarmable(player);
+        L.d(this, "recycle", MediaSource.dump(source), player, warm);
+
+        final List<Player> evicted = new ArrayList<>();
+        synchronized (this) {
+            removeLocked(player);
+            if (warm) {
+                final Player old = mWarmPlayers.put(key(source), player);
+                if (old != null) {
+                    mEvictionCount++;
+                    evicted.add(old);
+                }
+            }
+            evicted.addAll(trim(mMaxWarmPlayers));
+        }
+        if (warm) {
+            if (player.isPreparing()) {
+                player.setStartWhenPrepared(false);
+            } else if (player.isPlaying()) {
+                player.pause();
+            }
+        } else {
+            player.release();
+        }
+        release(evicted);
+    }
+
+    /**
+     * Updates the current feed position. Warm players of media near the cursor are kept in
+     * preference to others.
+     *
+     * @param mediaIds media ids of feed items around the cursor, in feed order
+     * @param cursor   index of current item in {@code mediaIds}
+     */
+    public void setCursor(@NonNull List<String> mediaIds, int cursor) {
+        final List<Player> evicted;
+        synchronized (this) {
+            mCursorDistances.clear();
+            for (int i = 0; i < mediaIds.size(); i++) {
+                final String mediaId = mediaIds.get(i);
+                if (mediaId != null) {
+                    mCursorDistances.put(mediaId, Math.abs(i - cursor));
+                }
+            }
+            evicted = trim(mMaxWarmPlayers);
+        }
+        release(evicted);
+    }
+
+    /**
+     * Releases all warm players.
+     */
+    public void evictAll() {
+        final List<Player> evicted;
+        synchronized (this) {
+            evicted = trim(0);
+        }
+        release(evicted);
+    }
+
+    public synchronized int getWarmCount() {
+        return mWarmPlayers.size();
+    }
+
+    public synchronized int getHitCount() {
+        return mHitCount;
+    }
+
+    public synchronized int getMissCount() {
+        return mMissCount;
+    }
+
+    public synchronized int getEvictionCount() {
+        return mEvictionCount;
+    }
+
+    public synchronized String dump() {
+        return L.obj2String(this) +
+                " acquired=" + mAcquiredPlayers.size() +
+                " warm=" + mWarmPlayers.size() +
+                " hit=" + mHitCount +
+                " miss=" + mMissCount +
+                " eviction=" + mEvictionCount;
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        L.d(this, "onTrimMemory", level, dump());
+        if (level >= TRIM_MEMORY_RUNNING_CRITICAL) {
+            evictAll();
+        } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            final List<Player> evicted;
+            synchronized (this) {
+                evicted = trim(mMaxWarmPlayers / 2);
+            }
+            release(evicted);
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        L.d(this, "onLowMemory", dump());
+        evictAll();
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+    }
+
+    private void remove(@NonNull MediaSource source, @NonNull Player player) {
+        final String key = key(source);
+        synchronized (this) {
+            if (mAcquiredPlayers.get(key) == player) {
+                mAcquiredPlayers.remove(key);
+                L.d(this, "recycle by player", source, player);
+            }
+            if (mWarmPlayers.get(key) == player) {
+                mWarmPlayers.remove(key);
+                L.d(this, "evict by player", source, player);
+            }
+        }
+    }
+
+    private void removeLocked(@NonNull Player player) {
+        mAcquiredPlayers.values().remove(player);
+        mWarmPlayers.values().remove(player);
+    }
+
+    /**
+     * Must be called with lock held. Returned players should be released without lock.
+     */
+    @NonNull
+    private List<Player> trim(int maxWarmPlayers) {
+        List<Player> evicted = null;
+        while (!mWarmPlayers.isEmpty() && (mWarmPlayers.size() > maxWarmPlayers
+                || warmBytes() > mMaxWarmBytes
+                || mWarmPlayers.size() + mAcquiredPlayers.size() > mMaxPlayers)) {
+            final String victim = victim();
+            final Player player = mWarmPlayers.remove(victim);
+            if (evicted == null) {
+                evicted = new ArrayList<>();
+            }
+            evicted.add(player);
+            mEvictionCount++;
+            L.d(this, "evict", victim, player);
+        }
+        return evicted == null ? Collections.emptyList() : evicted;
+    }
+
+    private String victim() {
+        String victim = null;
+        int victimDistance = -1;
+        for (String key : mWarmPlayers.keySet()) {
+            final Integer distance = mCursorDistances.get(key);
+            final int d = distance == null ? UNKNOWN_DISTANCE : distance;
+            // strictly greater, so the least recently recycled one wins ties
+            if (d > victimDistance) {
+                victim = key;
+                victimDistance = d;
+            }
+        }
+        return victim;
+    }
+
+    private long warmBytes() {
+        long bytes = 0;
+        for (Player player : mWarmPlayers.values()) {
+            bytes += estimateBytes(player);
+        }
+        return bytes;
+    }
+
+    private static long estimateBytes(@NonNull Player player) {
+        final long pixels = (long) player.getVideoWidth() * player.getVideoHeight();
+        return (pixels > 0 ? pixels : DEFAULT_VIDEO_PIXELS) * 3 / 2 * DECODER_BUFFER_COUNT;
+    }
+
+    private static boolean isWarmable(@NonNull Player player) {
+        return player.isPreparing()
+                || player.isPrepared()
+                || player.isPlaying()
+                || player.isPaused();
+    }
+
+    private static void release(@Nullable List<Player> players) {
+        if (players == null) return;
+        for (Player player : players) {
+            player.release();
+        }
+    }
+
+    private static String key(@NonNull MediaSource mediaSource) {
+        return mediaSource.getMediaId();
+    }
+}
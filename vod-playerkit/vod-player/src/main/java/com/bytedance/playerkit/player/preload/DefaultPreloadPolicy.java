@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.preload;
+
+import androidx.annotation.NonNull;
+
+/**
+ * <ul>
+ *     <li>Flinging: preload {@code flingAheadCount} positions in swipe direction only.</li>
+ *     <li>Dwelling longer than {@code dwellBackoffMs}: back off to {@code dwellAheadCount}.</li>
+ *     <li>Otherwise: {@code aheadCount} positions in swipe direction and {@code behindCount}
+ *     positions in the opposite one.</li>
+ * </ul>
+ */
+public class DefaultPreloadPolicy implements PreloadPolicy {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final int mAheadCount;
+    private final int mBehindCount;
+    private final int mFlingAheadCount;
+    private final float mFlingVelocity;
+    private final int mDwellAheadCount;
+    private final long mDwellBackoffMs;
+
+    public DefaultPreloadPolicy() {
+        this(2, 1, 4, 2.5f, 1, 5000);
+    }
+
+    public DefaultPreloadPolicy(int aheadCount,
+                                int behindCount,
+                                int flingAheadCount,
+                                float flingVelocity,
+                                int dwellAheadCount,
+                                long dwellBackoffMs) {
+        this.mAheadCount = aheadCount;
+        this.mBehindCount = behindCount;
+        this.mFlingAheadCount = flingAheadCount;
+        this.mFlingVelocity = flingVelocity;
+        this.mDwellAheadCount = dwellAheadCount;
+        this.mDwellBackoffMs = dwellBackoffMs;
+    }
+
+    @NonNull
+    @Override
+    public int[] plan(int position, int itemCount, int direction, float velocity, long dwellMs) {
+        if (position < 0 || itemCount <= 1) return EMPTY;
+
+        final int ahead;
+        final int behind;
+        if (Math.abs(velocity) >= mFlingVelocity) {
+            ahead = mFlingAheadCount;
+            behind = 0;
+        } else if (dwellMs >= mDwellBackoffMs) {
+            ahead = mDwellAheadCount;
+            behind = 0;
+        } else {
+            ahead = mAheadCount;
+            behind = mBehindCount;
+        }
+
+        final int step = direction < 0 ? -1 : 1;
+        final int[] plan = new int[ahead + behind];
+        int count = 0;
+        for (int i = 1; i <= ahead; i++) {
+            final int p = position + step * i;
+            if (p < 0 || p >= itemCount) break;
+            plan[count++] = p;
+        }
+        for (int i = 1; i <= behind; i++) {
+            final int p = position - step * i;
+            if (p < 0 || p >= itemCount) break;
+            plan[count++] = p;
+        }
+        if (count == plan.length) return plan;
+        final int[] result = new int[count];
+        System.arraycopy(plan, 0, result, 0, count);
+        return result;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.preload;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Decides which feed positions to preload. Implementations should be pure functions of the
+ * arguments, so they can be replayed offline against recorded scroll traces.
+ *
+ * @see PreloadScheduler
+ */
+public interface PreloadPolicy {
+
+    PreloadPolicy DEFAULT = new DefaultPreloadPolicy();
+
+    /**
+     * @param position  current position
+     * @param itemCount count of feed items
+     * @param direction last swipe direction. 1 towards larger positions, -1 otherwise.
+     * @param velocity  estimated swipe velocity in pages per second. Positive towards larger
+     *                  positions, 0 when the pager is idle.
+     * @param dwellMs   time since the pager settled at {@code position}, 0 while scrolling.
+     * @return positions to preload in priority order, excluding {@code position}.
+     */
+    @NonNull
+    int[] plan(int position, int itemCount, int direction, float velocity, long dwellMs);
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.preload;
+
+import androidx.annotation.NonNull;
+
+import com.bytedance.playerkit.utils.L;
+
+import java.util.Arrays;
+
+/**
+ * Turns pager scroll callbacks into preload/cancel requests.
+ * <p>
+ * Swipe velocity and direction are estimated from {@link #onPageScrolled(long, int, float)}, then
+ * {@link PreloadPolicy} is asked for the positions to preload. Positions newly planned are passed
+ * to {@link Preloader#preload(int)}, positions dropped from the plan to
+ * {@link Preloader#cancel(int)}.
+ * <p>
+ * All callbacks take the event time explicitly and must be called on the same thread. Feeding a
+ * recorded scroll trace replays the exact preload decisions.
+ */
+public class PreloadScheduler {
+
+    public interface Preloader {
+        void preload(int position);
+
+        void cancel(int position);
+    }
+
+    /**
+     * Weight of the latest sample in the exponential moving average of velocity.
+     */
+    private static final float VELOCITY_SMOOTHING = 0.4f;
+    /**
+     * Velocity change in pages per second which triggers a re-plan while scrolling.
+     */
+    private static final float VELOCITY_REPLAN_DELTA = 0.5f;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final PreloadPolicy mPolicy;
+    private final Preloader mPreloader;
+
+    private int mItemCount;
+    private int mPosition = -1;
+    private int mDirection = 1;
+    private float mVelocity;
+
+    private long mLastScrollTime = -1;
+    private float mLastScrollOffset;
+    private long mSettledTime = -1;
+
+    private int[] mPlan = EMPTY;
+    private float mPlanVelocity;
+
+    public PreloadScheduler(@NonNull PreloadPolicy policy, @NonNull Preloader preloader) {
+        this.mPolicy = policy;
+        this.mPreloader = preloader;
+    }
+
+    public void setItemCount(int itemCount) {
+        mItemCount = itemCount;
+    }
+
+    public void onPageScrolled(long timeMs, int position, float positionOffset) {
+        final float offset = position + positionOffset;
+        if (mLastScrollTime >= 0 && timeMs > mLastScrollTime) {
+            final float velocity = (offset - mLastScrollOffset) * 1000 / (timeMs - mLastScrollTime);
+            mVelocity = VELOCITY_SMOOTHING * velocity + (1 - VELOCITY_SMOOTHING) * mVelocity;
+            if (velocity != 0) {
+                mDirection = velocity > 0 ? 1 : -1;
+            }
+        }
+        mLastScrollTime = timeMs;
+        mLastScrollOffset = offset;
+        mSettledTime = -1;
+
+        if (Math.abs(mVelocity - mPlanVelocity) >= VELOCITY_REPLAN_DELTA) {
+            replan(timeMs);
+        }
+    }
+
+    public void onPagePeekStart(long timeMs, int position, int peekPosition) {
+        if (peekPosition != position) {
+            mDirection = peekPosition > position ? 1 : -1;
+        }
+        replan(timeMs);
+    }
+
+    public void onPageSelected(long timeMs, int position) {
+        if (mPosition >= 0 && position != mPosition) {
+            mDirection = position > mPosition ? 1 : -1;
+        }
+        mPosition = position;
+        replan(timeMs);
+    }
+
+    public void onScrollIdle(long timeMs) {
+        mVelocity = 0;
+        mLastScrollTime = -1;
+        mSettledTime = timeMs;
+        replan(timeMs);
+    }
+
+    /**
+     * Re-plans with dwell time. Call it when the pager stayed idle for a while.
+     */
+    public void onDwell(long timeMs) {
+        if (mSettledTime >= 0) {
+            replan(timeMs);
+        }
+    }
+
+    public void reset() {
+        for (int p : mPlan) {
+            mPreloader.cancel(p);
+        }
+        mPlan = EMPTY;
+        mPosition = -1;
+        mVelocity = 0;
+        mPlanVelocity = 0;
+        mLastScrollTime = -1;
+        mSettledTime = -1;
+    }
+
+    public float velocity() {
+        return mVelocity;
+    }
+
+    public int direction() {
+        return mDirection;
+    }
+
+    private void replan(long timeMs) {
+        if (mPosition < 0) return;
+
+        final long dwellMs = mSettledTime >= 0 ? timeMs - mSettledTime : 0;
+        final int[] plan = mPolicy.plan(mPosition, mItemCount, mDirection, mVelocity, dwellMs);
+        final int[] oldPlan = mPlan;
+        mPlan = plan;
+        mPlanVelocity = mVelocity;
+
+        for (int p : oldPlan) {
+            if (p != mPosition && !contains(plan, p)) {
+                mPreloader.cancel(p);
+            }
+        }
+        for (int p : plan) {
+            if (!contains(oldPlan, p)) {
+                mPreloader.preload(p);
+            }
+        }
+        if (L.ENABLE_LOG) {
+            L.v(this, "replan", mPosition, mDirection, mVelocity, dwellMs, Arrays.toString(plan));
+        }
+    }
+
+    private static boolean contains(int[] array, int value) {
+        for (int v : array) {
+            if (v == value) return true;
+        }
+        return false;
+    }
+}
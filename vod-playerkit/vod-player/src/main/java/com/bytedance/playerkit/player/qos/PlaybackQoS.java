@@ -0,0 +1,436 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.qos;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.playerkit.player.PlayerEvent;
+import com.bytedance.playerkit.player.playback.PlaybackController;
+import com.bytedance.playerkit.player.playback.PlaybackEvent;
+import com.bytedance.playerkit.utils.event.Dispatcher;
+import com.bytedance.playerkit.utils.event.Event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Playback QoS metrics aggregated from the {@link Dispatcher} event stream of every
+ * {@link PlaybackController}.
+ * <ul>
+ *   <li>startup: {@link PlaybackEvent.Action#START_PLAYBACK} to
+ *   {@link PlayerEvent.Info#VIDEO_RENDERING_START}</li>
+ *   <li>rebuffer: {@link PlayerEvent.Info#BUFFERING_START} to {@link PlayerEvent.Info#BUFFERING_END}
+ *   after the first frame and outside of seeking</li>
+ *   <li>seek latency: {@link PlayerEvent.Action#SEEK_TO} to {@link PlayerEvent.Info#SEEK_COMPLETE}</li>
+ *   <li>pre-render hit: the first frame was ready before playback started, reported by
+ *   {@link PlayerEvent.Info#VIDEO_RENDERING_START_BEFORE_START}</li>
+ *   <li>init wait: time blocked in player SDK init, see {@link #recordInitWait(long)}</li>
+ *   <li>pre-render replay: events recorded while pre-rendering and replayed when the player is
+ *   promoted, see {@link #recordPreRenderReplay(int, int, long)}</li>
+ * </ul>
+ * A session starts with the first {@code startPlayback()} and ends with {@code stopPlayback()} or
+ * player unbinding. Recording allocates nothing per event.
+ */
+public class PlaybackQoS {
+
+    public static boolean ENABLE = true;
+
+    public interface Listener {
+        /**
+         * Called on main thread when a session ends.
+         */
+        void onSessionEnd(@NonNull Session session);
+    }
+
+    private static final QoSHistogram sStartup = new QoSHistogram();
+    private static final QoSHistogram sRebufferDuration = new QoSHistogram();
+    private static final QoSHistogram sRebufferCount = new QoSHistogram();
+    private static final QoSHistogram sSeekLatency = new QoSHistogram();
+    private static final QoSHistogram sInitWait = new QoSHistogram();
+    private static final QoSHistogram sPreRenderReplayEvents = new QoSHistogram();
+    private static final QoSHistogram sPreRenderReplay = new QoSHistogram();
+
+    private static final Object sLock = new Object();
+    private static long sSessionCount;
+    private static long sPlayedSessionCount;
+    private static long sPreRenderHitCount;
+    private static long sErrorSessionCount;
+    private static long sPreRenderRecordedEventCount;
+
+    private static final List<Listener> sListeners = new CopyOnWriteArrayList<>();
+
+    public static void addListener(@NonNull Listener listener) {
+        sListeners.add(listener);
+    }
+
+    public static void removeListener(@NonNull Listener listener) {
+        sListeners.remove(listener);
+    }
+
+    public static void recordInitWait(long durationMs) {
+        if (!ENABLE) return;
+        sInitWait.record(durationMs);
+    }
+
+    /**
+     * @param recordedCount events recorded by the pre-rendering player, including coalesced ones.
+     * @param replayedCount events replayed to the promoted player.
+     * @param durationMs    time spent replaying.
+     */
+    public static void recordPreRenderReplay(int recordedCount, int replayedCount, long durationMs) {
+        if (!ENABLE) return;
+        synchronized (sLock) {
+            sPreRenderRecordedEventCount += recordedCount;
+        }
+        sPreRenderReplayEvents.record(replayedCount);
+        sPreRenderReplay.record(durationMs);
+    }
+
+    @NonNull
+    public static Snapshot snapshot() {
+        synchronized (sLock) {
+            return new Snapshot(sSessionCount,
+                    sPlayedSessionCount,
+                    sPreRenderHitCount,
+                    sErrorSessionCount,
+                    sPreRenderRecordedEventCount,
+                    sStartup.snapshot(),
+                    sRebufferCount.snapshot(),
+                    sRebufferDuration.snapshot(),
+                    sSeekLatency.snapshot(),
+                    sInitWait.snapshot(),
+                    sPreRenderReplayEvents.snapshot(),
+                    sPreRenderReplay.snapshot());
+        }
+    }
+
+    public static void reset() {
+        synchronized (sLock) {
+            sSessionCount = 0;
+            sPlayedSessionCount = 0;
+            sPreRenderHitCount = 0;
+            sErrorSessionCount = 0;
+            sPreRenderRecordedEventCount = 0;
+            sStartup.reset();
+            sRebufferCount.reset();
+            sRebufferDuration.reset();
+            sSeekLatency.reset();
+            sInitWait.reset();
+            sPreRenderReplayEvents.reset();
+            sPreRenderReplay.reset();
+        }
+    }
+
+    @NonNull
+    public static String dump() {
+        return snapshot().toString();
+    }
+
+    private static void onSessionEnd(Session session) {
+        synchronized (sLock) {
+            sSessionCount++;
+            if (session.error) {
+                sErrorSessionCount++;
+            }
+            if (session.firstFrameTime > 0) {
+                sPlayedSessionCount++;
+                if (session.preRendered) {
+                    sPreRenderHitCount++;
+                }
+                sRebufferCount.record(session.rebufferCount);
+            }
+        }
+        for (Listener listener : sListeners) {
+            listener.onSessionEnd(session);
+        }
+    }
+
+    public static class Session {
+        /**
+         * {@link android.os.SystemClock#uptimeMillis()} of {@code startPlayback()}.
+         */
+        public final long startTime;
+        private long firstFrameTime;
+        private boolean preRendered;
+        private int rebufferCount;
+        private long rebufferDurationMs;
+        private int seekCount;
+        private long seekLatencyMs;
+        private boolean error;
+        private long endTime;
+
+        private long bufferingStartTime;
+        private long seekStartTime;
+
+        Session(long startTime) {
+            this.startTime = startTime;
+        }
+
+        /**
+         * @return startup time in ms, -1 if first frame is not rendered.
+         */
+        public long startupMs() {
+            return firstFrameTime > 0 ? firstFrameTime - startTime : -1;
+        }
+
+        public boolean isPreRendered() {
+            return preRendered;
+        }
+
+        public int rebufferCount() {
+            return rebufferCount;
+        }
+
+        public long rebufferDurationMs() {
+            return rebufferDurationMs;
+        }
+
+        public int seekCount() {
+            return seekCount;
+        }
+
+        public long seekLatencyMs() {
+            return seekLatencyMs;
+        }
+
+        public boolean isError() {
+            return error;
+        }
+
+        public long durationMs() {
+            return endTime > 0 ? endTime - startTime : -1;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "startup=" + startupMs() +
+                    " preRendered=" + preRendered +
+                    " rebuffer=" + rebufferCount + "/" + rebufferDurationMs + "ms" +
+                    " seek=" + seekCount + "/" + seekLatencyMs + "ms" +
+                    " error=" + error +
+                    " duration=" + durationMs();
+        }
+    }
+
+    /**
+     * Tracks the session of one {@link PlaybackController}. Events are dispatched on main thread.
+     */
+    public static class SessionTracker implements Dispatcher.EventListener {
+
+        public static final int[] EVENT_CODES = new int[]{
+                PlaybackEvent.Action.START_PLAYBACK,
+                PlaybackEvent.Action.STOP_PLAYBACK,
+                PlaybackEvent.State.UNBIND_PLAYER,
+                PlayerEvent.Action.SEEK_TO,
+                PlayerEvent.Info.SEEK_COMPLETE,
+                PlayerEvent.Info.VIDEO_RENDERING_START,
+                PlayerEvent.Info.VIDEO_RENDERING_START_BEFORE_START,
+                PlayerEvent.Info.BUFFERING_START,
+                PlayerEvent.Info.BUFFERING_END,
+                PlayerEvent.State.ERROR,
+        };
+
+        @Nullable
+        private Session mSession;
+
+        @Nullable
+        public Session session() {
+            return mSession;
+        }
+
+        @MainThread
+        @Override
+        public void onEvent(Event event) {
+            if (!ENABLE) return;
+            final long time = event.dispatchTime();
+            if (event.code() == PlaybackEvent.Action.START_PLAYBACK) {
+                if (mSession == null) {
+                    mSession = new Session(time);
+                }
+                return;
+            }
+            final Session session = mSession;
+            if (session == null) return;
+
+            switch (event.code()) {
+                case PlayerEvent.Info.VIDEO_RENDERING_START_BEFORE_START:
+                    if (session.firstFrameTime == 0) {
+                        session.preRendered = true;
+                    }
+                    break;
+                case PlayerEvent.Info.VIDEO_RENDERING_START:
+                    if (session.firstFrameTime == 0) {
+                        session.firstFrameTime = Math.max(time, session.startTime + 1);
+                        sStartup.record(session.firstFrameTime - session.startTime);
+                    }
+                    break;
+                case PlayerEvent.Info.BUFFERING_START:
+                    if (session.firstFrameTime > 0
+                            && session.seekStartTime == 0
+                            && session.bufferingStartTime == 0) {
+                        session.bufferingStartTime = time;
+                        session.rebufferCount++;
+                    }
+                    break;
+                case PlayerEvent.Info.BUFFERING_END:
+                    endBuffering(session, time);
+                    break;
+                case PlayerEvent.Action.SEEK_TO:
+                    session.seekStartTime = time;
+                    break;
+                case PlayerEvent.Info.SEEK_COMPLETE:
+                    if (session.seekStartTime > 0) {
+                        final long latency = time - session.seekStartTime;
+                        session.seekStartTime = 0;
+                        session.seekCount++;
+                        session.seekLatencyMs += latency;
+                        sSeekLatency.record(latency);
+                    }
+                    break;
+                case PlayerEvent.State.ERROR:
+                    session.error = true;
+                    break;
+                case PlaybackEvent.Action.STOP_PLAYBACK:
+                case PlaybackEvent.State.UNBIND_PLAYER:
+                    endBuffering(session, time);
+                    session.endTime = Math.max(time, session.startTime + 1);
+                    mSession = null;
+                    onSessionEnd(session);
+                    break;
+            }
+        }
+
+        private static void endBuffering(Session session, long time) {
+            if (session.bufferingStartTime > 0) {
+                final long duration = time - session.bufferingStartTime;
+                session.bufferingStartTime = 0;
+                session.rebufferDurationMs += duration;
+                sRebufferDuration.record(duration);
+            }
+        }
+    }
+
+    public static class Snapshot {
+        public final long sessionCount;
+        /**
+         * Sessions rendered the first frame.
+         */
+        public final long playedSessionCount;
+        public final long preRenderHitCount;
+        public final long errorSessionCount;
+        public final long preRenderRecordedEventCount;
+        public final QoSHistogram.Stat startupMs;
+        /**
+         * Rebuffer count per played session.
+         */
+        public final QoSHistogram.Stat rebufferCount;
+        public final QoSHistogram.Stat rebufferMs;
+        public final QoSHistogram.Stat seekLatencyMs;
+        public final QoSHistogram.Stat initWaitMs;
+        /**
+         * Replayed events per pre-rendered player promotion.
+         */
+        public final QoSHistogram.Stat preRenderReplayEvents;
+        public final QoSHistogram.Stat preRenderReplayMs;
+
+        Snapshot(long sessionCount,
+                 long playedSessionCount,
+                 long preRenderHitCount,
+                 long errorSessionCount,
+                 long preRenderRecordedEventCount,
+                 QoSHistogram.Stat startupMs,
+                 QoSHistogram.Stat rebufferCount,
+                 QoSHistogram.Stat rebufferMs,
+                 QoSHistogram.Stat seekLatencyMs,
+                 QoSHistogram.Stat initWaitMs,
+                 QoSHistogram.Stat preRenderReplayEvents,
+                 QoSHistogram.Stat preRenderReplayMs) {
+            this.sessionCount = sessionCount;
+            this.playedSessionCount = playedSessionCount;
+            this.preRenderHitCount = preRenderHitCount;
+            this.errorSessionCount = errorSessionCount;
+            this.preRenderRecordedEventCount = preRenderRecordedEventCount;
+            this.startupMs = startupMs;
+            this.rebufferCount = rebufferCount;
+            this.rebufferMs = rebufferMs;
+            this.seekLatencyMs = seekLatencyMs;
+            this.initWaitMs = initWaitMs;
+            this.preRenderReplayEvents = preRenderReplayEvents;
+            this.preRenderReplayMs = preRenderReplayMs;
+        }
+
+        public float preRenderHitRate() {
+            return playedSessionCount == 0 ? 0 : (float) preRenderHitCount / playedSessionCount;
+        }
+
+        @NonNull
+        public String toJson() {
+            final StringBuilder sb = new StringBuilder(1024);
+            sb.append("{\"sessionCount\":").append(sessionCount)
+                    .append(",\"playedSessionCount\":").append(playedSessionCount)
+                    .append(",\"preRenderHitCount\":").append(preRenderHitCount)
+                    .append(",\"preRenderHitRate\":").append(preRenderHitRate())
+                    .append(",\"errorSessionCount\":").append(errorSessionCount)
+                    .append(",\"preRenderRecordedEventCount\":").append(preRenderRecordedEventCount);
+            appendStat(sb, "startupMs", startupMs);
+            appendStat(sb, "rebufferCount", rebufferCount);
+            appendStat(sb, "rebufferMs", rebufferMs);
+            appendStat(sb, "seekLatencyMs", seekLatencyMs);
+            appendStat(sb, "initWaitMs", initWaitMs);
+            appendStat(sb, "preRenderReplayEvents", preRenderReplayEvents);
+            appendStat(sb, "preRenderReplayMs", preRenderReplayMs);
+            sb.append('}');
+            return sb.toString();
+        }
+
+        private static void appendStat(StringBuilder sb, String name, QoSHistogram.Stat stat) {
+            sb.append(",\"").append(name).append("\":{")
+                    .append("\"count\":").append(stat.count)
+                    .append(",\"mean\":").append(stat.mean)
+                    .append(",\"max\":").append(stat.max)
+                    .append(",\"p50\":").append(stat.p50)
+                    .append(",\"p90\":").append(stat.p90)
+                    .append(",\"p99\":").append(stat.p99)
+                    .append(",\"rollingP50\":").append(stat.rollingP50)
+                    .append(",\"rollingP90\":").append(stat.rollingP90)
+                    .append(",\"rollingP99\":").append(stat.rollingP99)
+                    .append('}');
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "sessions=" + sessionCount +
+                    " played=" + playedSessionCount +
+                    " preRenderHit=" + preRenderHitCount + "(" + preRenderHitRate() + ")" +
+                    " error=" + errorSessionCount +
+                    "\nstartupMs " + startupMs +
+                    "\nrebufferCount " + rebufferCount +
+                    "\nrebufferMs " + rebufferMs +
+                    "\nseekLatencyMs " + seekLatencyMs +
+                    "\ninitWaitMs " + initWaitMs +
+                    "\npreRenderRecordedEvents " + preRenderRecordedEventCount +
+                    "\npreRenderReplayEvents " + preRenderReplayEvents +
+                    "\npreRenderReplayMs " + preRenderReplayMs;
+        }
+    }
+}
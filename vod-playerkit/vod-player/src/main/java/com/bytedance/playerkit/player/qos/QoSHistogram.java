@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.qos;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Latency histogram in milliseconds backed by fixed size primitive arrays, recording a value
+ * allocates nothing.
+ * <p>
+ * Lifetime percentiles come from log-linear buckets: exact below 16ms, 8 sub-buckets per power of
+ * two above, so the error is under 12.5%. Rolling percentiles are exact over the latest
+ * {@link #ROLLING_SIZE} values.
+ */
+public class QoSHistogram {
+
+    public static final int ROLLING_SIZE = 128;
+
+    private static final int LINEAR_COUNT = 16;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 30;
+    private static final int BUCKET_COUNT = LINEAR_COUNT + (MAX_EXPONENT - 4 + 1) * SUB_BUCKET_COUNT;
+
+    private final long[] mBuckets = new long[BUCKET_COUNT];
+    private final long[] mRolling = new long[ROLLING_SIZE];
+    private long mCount;
+    private long mSum;
+    private long mMax;
+
+    public synchronized void record(long valueMs) {
+        final long value = Math.max(valueMs, 0);
+        mBuckets[bucketIndex(value)]++;
+        mRolling[(int) (mCount % ROLLING_SIZE)] = value;
+        mCount++;
+        mSum += value;
+        if (value > mMax) mMax = value;
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(mBuckets, 0);
+        Arrays.fill(mRolling, 0);
+        mCount = 0;
+        mSum = 0;
+        mMax = 0;
+    }
+
+    @NonNull
+    public synchronized Stat snapshot() {
+        final int rollingCount = (int) Math.min(mCount, ROLLING_SIZE);
+        final long[] rolling = Arrays.copyOf(mRolling, rollingCount);
+        Arrays.sort(rolling);
+        return new Stat(mCount,
+                mCount == 0 ? 0 : mSum / mCount,
+                mMax,
+                percentile(0.5),
+                percentile(0.9),
+                percentile(0.99),
+                rollingPercentile(rolling, 0.5),
+                rollingPercentile(rolling, 0.9),
+                rollingPercentile(rolling, 0.99));
+    }
+
+    private long percentile(double p) {
+        if (mCount == 0) return 0;
+        final long rank = Math.max(1, (long) Math.ceil(mCount * p));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += mBuckets[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), mMax);
+            }
+        }
+        return mMax;
+    }
+
+    private static long rollingPercentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        final int rank = Math.max(1, (int) Math.ceil(sorted.length * p));
+        return sorted[rank - 1];
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_COUNT) return (int) value;
+        final int exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+        if (exponent == MAX_EXPONENT && value >= (1L << (MAX_EXPONENT + 1))) {
+            return BUCKET_COUNT - 1;
+        }
+        final int sub = (int) (value >> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return LINEAR_COUNT + (exponent - 4) * SUB_BUCKET_COUNT + sub;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_COUNT) return index;
+        final int exponent = (index - LINEAR_COUNT) / SUB_BUCKET_COUNT + 4;
+        final int sub = (index - LINEAR_COUNT) % SUB_BUCKET_COUNT;
+        final long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (sub + 1) * width - 1;
+    }
+
+    public static class Stat {
+        public final long count;
+        public final long mean;
+        public final long max;
+        public final long p50;
+        public final long p90;
+        public final long p99;
+        public final long rollingP50;
+        public final long rollingP90;
+        public final long rollingP99;
+
+        Stat(long count, long mean, long max,
+             long p50, long p90, long p99,
+             long rollingP50, long rollingP90, long rollingP99) {
+            this.count = count;
+            this.mean = mean;
+            this.max = max;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+            this.rollingP50 = rollingP50;
+            this.rollingP90 = rollingP90;
+            this.rollingP99 = rollingP99;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "count=" + count +
+                    " mean=" + mean +
+                    " max=" + max +
+                    " p50=" + p50 +
+                    " p90=" + p90 +
+                    " p99=" + p99 +
+                    " rolling[p50=" + rollingP50 +
+                    " p90=" + rollingP90 +
+                    " p99=" + rollingP99 + "]";
+        }
+    }
+}
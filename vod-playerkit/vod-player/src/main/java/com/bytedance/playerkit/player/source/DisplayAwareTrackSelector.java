@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.source;
+
+import android.content.res.Resources;
+import android.media.MediaCodecInfo;
+import android.media.MediaCodecList;
+import android.util.DisplayMetrics;
+import android.util.SparseBooleanArray;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.playerkit.player.utils.BandwidthMeter;
+import com.bytedance.playerkit.utils.ExtraKey;
+import com.bytedance.playerkit.utils.L;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@link TrackSelector} scoring video tracks by display size, device screen size, hardware codec
+ * support and {@link BandwidthMeter} estimate. Preload targets a smaller resolution and a smaller
+ * share of bandwidth than play, so preload picks a cheaper track where possible.
+ * <p>
+ * Display size of a source is reported by {@link #setDisplaySize(MediaSource, int, int)}. Sources
+ * not bound to a view yet, typically preloads, use the latest reported display size.
+ * <p>
+ * Scoring is pluggable by {@link Scorer}. Non video tracks are selected by the fallback selector.
+ */
+public class DisplayAwareTrackSelector implements TrackSelector {
+
+    public static final String EXTRA_DISPLAY_SIZE = "extra_display_size";
+    public static final ExtraKey<int[]> KEY_DISPLAY_SIZE = ExtraKey.of(EXTRA_DISPLAY_SIZE, int[].class);
+
+    public interface Scorer {
+        /**
+         * @return score of {@code track}, higher is better. {@link Float#NEGATIVE_INFINITY}
+         * excludes the track.
+         */
+        float score(@NonNull Track track, @NonNull Conditions conditions);
+    }
+
+    public static class Conditions {
+        @Type
+        public final int type;
+        /**
+         * Display size in px, never larger than screen size.
+         */
+        public final int displayWidth;
+        public final int displayHeight;
+        /**
+         * Estimated bandwidth in kbps, 0 if unknown.
+         */
+        public final long bandwidthKbps;
+
+        public Conditions(@Type int type, int displayWidth, int displayHeight, long bandwidthKbps) {
+            this.type = type;
+            this.displayWidth = displayWidth;
+            this.displayHeight = displayHeight;
+            this.bandwidthKbps = bandwidthKbps;
+        }
+
+        @Override
+        public String toString() {
+            return (type == TYPE_PRELOAD ? "preload " : "play ") + displayWidth + "x" + displayHeight + " " + bandwidthKbps + "kbps";
+        }
+    }
+
+    public static class DefaultScorer implements Scorer {
+        /**
+         * Preload targets this fraction of display resolution.
+         */
+        public static float PRELOAD_RESOLUTION_SCALE = 0.75f;
+        /**
+         * Share of estimated bandwidth a track bitrate may use.
+         */
+        public static float PLAY_BANDWIDTH_SHARE = 0.75f;
+        public static float PRELOAD_BANDWIDTH_SHARE = 0.5f;
+
+        public static float OVERSIZE_PENALTY = 1f;
+        public static float UNDERSIZE_PENALTY = 2f;
+        public static float OVER_BANDWIDTH_PENALTY = 2f;
+        public static float SOFTWARE_DECODE_PENALTY = 0.5f;
+
+        @Override
+        public float score(@NonNull Track track, @NonNull Conditions conditions) {
+            float score = 0;
+
+            final int trackSize = Math.min(track.getVideoWidth(), track.getVideoHeight());
+            int targetSize = Math.min(conditions.displayWidth, conditions.displayHeight);
+            if (conditions.type == TYPE_PRELOAD) {
+                targetSize = (int) (targetSize * PRELOAD_RESOLUTION_SCALE);
+            }
+            if (trackSize > 0 && targetSize > 0) {
+                final float ratio = trackSize / (float) targetSize;
+                score -= ratio >= 1 ? (ratio - 1) * OVERSIZE_PENALTY : (1 - ratio) * UNDERSIZE_PENALTY;
+            }
+
+            final long bitrateKbps = track.getBitrate() / 1000;
+            if (conditions.bandwidthKbps > 0 && bitrateKbps > 0) {
+                final float budget = conditions.bandwidthKbps *
+                        (conditions.type == TYPE_PRELOAD ? PRELOAD_BANDWIDTH_SHARE : PLAY_BANDWIDTH_SHARE);
+                if (bitrateKbps > budget) {
+                    score -= (bitrateKbps / budget - 1) * OVER_BANDWIDTH_PENALTY;
+                }
+            }
+
+            if (!isHardwareDecodable(track.getEncoderType())) {
+                score -= SOFTWARE_DECODE_PENALTY;
+            }
+
+            // cheaper track wins ties
+            score -= bitrateKbps / 1_000_000f;
+            return score;
+        }
+
+        protected boolean isHardwareDecodable(@Track.EncoderType int encoderType) {
+            return DisplayAwareTrackSelector.isHardwareDecodable(encoderType);
+        }
+    }
+
+    private static volatile int sLastDisplayWidth;
+    private static volatile int sLastDisplayHeight;
+
+    private final Scorer mScorer;
+    private final TrackSelector mFallback;
+
+    public DisplayAwareTrackSelector() {
+        this(new DefaultScorer(), TrackSelector.DEFAULT);
+    }
+
+    public DisplayAwareTrackSelector(@NonNull Scorer scorer, @NonNull TrackSelector fallback) {
+        this.mScorer = scorer;
+        this.mFallback = fallback;
+    }
+
+    /**
+     * Reports the size of view displaying {@code source}.
+     */
+    public static void setDisplaySize(@NonNull MediaSource source, int width, int height) {
+        if (width <= 0 || height <= 0) return;
+        source.putExtra(KEY_DISPLAY_SIZE, new int[]{width, height});
+        sLastDisplayWidth = width;
+        sLastDisplayHeight = height;
+    }
+
+    @NonNull
+    @Override
+    public Track selectTrack(@Type int type, @Track.TrackType int trackType, @NonNull List<Track> tracks, @NonNull MediaSource source) {
+        if (trackType != Track.TRACK_TYPE_VIDEO || tracks.size() == 1) {
+            return mFallback.selectTrack(type, trackType, tracks, source);
+        }
+        final Conditions conditions = conditions(type, source);
+        final Track selected = select(tracks, conditions);
+        if (selected == null) {
+            return mFallback.selectTrack(type, trackType, tracks, source);
+        }
+        L.d(this, "selectTrack", conditions, Track.dump(selected));
+        return selected;
+    }
+
+    /**
+     * @return track with the highest score, null if all are excluded.
+     */
+    @Nullable
+    public Track select(@NonNull List<Track> tracks, @NonNull Conditions conditions) {
+        Track best = null;
+        float bestScore = Float.NEGATIVE_INFINITY;
+        for (Track track : tracks) {
+            final float score = mScorer.score(track, conditions);
+            if (score > bestScore) {
+                best = track;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    @NonNull
+    private static Conditions conditions(@Type int type, @NonNull MediaSource source) {
+        final DisplayMetrics metrics = Resources.getSystem().getDisplayMetrics();
+        final int screenWidth = metrics.widthPixels;
+        final int screenHeight = metrics.heightPixels;
+
+        int width = sLastDisplayWidth;
+        int height = sLastDisplayHeight;
+        final int[] size = source.getExtra(KEY_DISPLAY_SIZE);
+        if (size != null) {
+            width = size[0];
+            height = size[1];
+        }
+        if (width <= 0 || height <= 0) {
+            width = screenWidth;
+            height = screenHeight;
+        }
+        if (screenWidth > 0 && screenHeight > 0) {
+            // compare in the same orientation
+            final int screenShort = Math.min(screenWidth, screenHeight);
+            final int screenLong = Math.max(screenWidth, screenHeight);
+            if (width <= height) {
+                width = Math.min(width, screenShort);
+                height = Math.min(height, screenLong);
+            } else {
+                width = Math.min(width, screenLong);
+                height = Math.min(height, screenShort);
+            }
+        }
+        return new Conditions(type, width, height, BandwidthMeter.estimateKbps());
+    }
+
+    /**
+     * @return whether a hardware decoder of {@code encoderType} is available. Unknown types are
+     * treated as decodable.
+     */
+    public static boolean isHardwareDecodable(@Track.EncoderType int encoderType) {
+        final String mimeType;
+        switch (encoderType) {
+            case Track.ENCODER_TYPE_H264:
+                mimeType = "video/avc";
+                break;
+            case Track.ENCODER_TYPE_H265:
+                mimeType = "video/hevc";
+                break;
+            case Track.ENCODER_TYPE_H266:
+                mimeType = "video/vvc";
+                break;
+            default:
+                return true;
+        }
+        final SparseBooleanArray cache = HardwareDecoders.CACHE;
+        synchronized (cache) {
+            final int index = cache.indexOfKey(encoderType);
+            if (index >= 0) {
+                return cache.valueAt(index);
+            }
+            final boolean decodable = findHardwareDecoder(mimeType);
+            cache.put(encoderType, decodable);
+            return decodable;
+        }
+    }
+
+    private static class HardwareDecoders {
+        static final SparseBooleanArray CACHE = new SparseBooleanArray();
+    }
+
+    private static boolean findHardwareDecoder(String mimeType) {
+        try {
+            final MediaCodecInfo[] infos = new MediaCodecList(MediaCodecList.REGULAR_CODECS).getCodecInfos();
+            for (MediaCodecInfo info : infos) {
+                if (info.isEncoder()) continue;
+                final String name = info.getName().toLowerCase(Locale.US);
+                // software codecs of AOSP
+                if (name.startsWith("omx.google.") || name.startsWith("c2.android.")) continue;
+                for (String type : info.getSupportedTypes()) {
+                    if (type.equalsIgnoreCase(mimeType)) return true;
+                }
+            }
+        } catch (RuntimeException e) {
+            L.e(DisplayAwareTrackSelector.class, "findHardwareDecoder", e, mimeType);
+        }
+        return false;
+    }
+}
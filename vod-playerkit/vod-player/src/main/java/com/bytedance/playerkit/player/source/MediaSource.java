@@ -327,6 +327,11 @@ public class MediaSource extends ExtraObject implements Serializable {
      */
     private List<Subtitle> subtitles;
 
+    /**
+     * Sprite sheets for seek preview.
+     */
+    private SpriteThumb spriteThumb;
+
     /**
      * Utility method for quick create single url source.
      *
@@ -765,6 +770,15 @@ public class MediaSource extends ExtraObject implements Serializable {
         return null;
     }
 
+    public void setSpriteThumb(SpriteThumb spriteThumb) {
+        this.spriteThumb = spriteThumb;
+    }
+
+    @Nullable
+    public SpriteThumb getSpriteThumb() {
+        return spriteThumb;
+    }
+
     public static String dump(MediaSource source) {
         if (!L.ENABLE_LOG) return null;
 
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.source;
+
+import androidx.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Sprite sheets of video frames captured every {@link #getInterval()} ms. Each sheet is a grid of
+ * {@link #getImgXLen()} x {@link #getImgYLen()} tiles of {@link #getCellWidth()} x
+ * {@link #getCellHeight()} px, in capture order row by row.
+ */
+public class SpriteThumb implements Serializable {
+    private List<String> urls;
+    private int captureNum;
+    private int cellWidth;
+    private int cellHeight;
+    private int imgXLen;
+    private int imgYLen;
+    private long interval;
+    private String format;
+
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    public int getCaptureNum() {
+        return captureNum;
+    }
+
+    public void setCaptureNum(int captureNum) {
+        this.captureNum = captureNum;
+    }
+
+    public int getCellWidth() {
+        return cellWidth;
+    }
+
+    public void setCellWidth(int cellWidth) {
+        this.cellWidth = cellWidth;
+    }
+
+    public int getCellHeight() {
+        return cellHeight;
+    }
+
+    public void setCellHeight(int cellHeight) {
+        this.cellHeight = cellHeight;
+    }
+
+    public int getImgXLen() {
+        return imgXLen;
+    }
+
+    public void setImgXLen(int imgXLen) {
+        this.imgXLen = imgXLen;
+    }
+
+    public int getImgYLen() {
+        return imgYLen;
+    }
+
+    public void setImgYLen(int imgYLen) {
+        this.imgYLen = imgYLen;
+    }
+
+    /**
+     * @return capture interval in ms.
+     */
+    public long getInterval() {
+        return interval;
+    }
+
+    public void setInterval(long interval) {
+        this.interval = interval;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public boolean isValid() {
+        return urls != null && !urls.isEmpty()
+                && captureNum > 0 && interval > 0
+                && cellWidth > 0 && cellHeight > 0
+                && imgXLen > 0 && imgYLen > 0;
+    }
+
+    public int tilesPerSheet() {
+        return imgXLen * imgYLen;
+    }
+
+    /**
+     * @return index of the tile captured at {@code positionMs}, -1 if invalid.
+     */
+    public int tileIndex(long positionMs) {
+        if (!isValid()) return -1;
+        final long index = Math.max(positionMs, 0) / interval;
+        final int last = Math.min(captureNum, urls.size() * tilesPerSheet()) - 1;
+        return (int) Math.min(index, last);
+    }
+
+    public int sheetIndex(int tileIndex) {
+        return tileIndex / tilesPerSheet();
+    }
+
+    @Nullable
+    public String sheetUrl(int tileIndex) {
+        final int sheetIndex = sheetIndex(tileIndex);
+        return sheetIndex >= 0 && sheetIndex < urls.size() ? urls.get(sheetIndex) : null;
+    }
+
+    public int tileLeft(int tileIndex) {
+        return (tileIndex % tilesPerSheet()) % imgXLen * cellWidth;
+    }
+
+    public int tileTop(int tileIndex) {
+        return (tileIndex % tilesPerSheet()) / imgXLen * cellHeight;
+    }
+}
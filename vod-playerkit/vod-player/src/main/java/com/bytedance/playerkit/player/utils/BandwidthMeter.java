@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.utils;
+
+import android.os.SystemClock;
+
+import com.bytedance.playerkit.player.adapter.PlayerAdapter;
+
+import java.util.Arrays;
+
+/**
+ * Process wide rolling network bandwidth estimate.
+ * <p>
+ * Samples come from {@link PlayerAdapter.Info#MEDIA_INFO_NETWORK_BANDWIDTH} info events and from
+ * timed downloads reported by {@link #addTransfer(long, long)}. The estimate is a low percentile
+ * of the latest {@link #WINDOW_SIZE} samples, so a single fast burst does not overrate the
+ * network. Samples older than {@link #SAMPLE_TTL_MS} are ignored.
+ */
+public class BandwidthMeter {
+
+    public static int WINDOW_SIZE = 16;
+    public static long SAMPLE_TTL_MS = 5 * 60 * 1000;
+    public static float ESTIMATE_PERCENTILE = 0.3f;
+    /**
+     * Transfers smaller than this are dominated by latency rather than bandwidth.
+     */
+    public static long MIN_TRANSFER_BYTES = 64 * 1024;
+
+    private static final Object sLock = new Object();
+    private static long[] sKbps = new long[0];
+    private static long[] sTimes = new long[0];
+    private static int sNext;
+    private static int sCount;
+
+    /**
+     * @param kbps estimated bandwidth in kbps
+     */
+    public static void addSample(long kbps) {
+        addSample(kbps, SystemClock.uptimeMillis());
+    }
+
+    public static void addTransfer(long bytes, long durationMs) {
+        if (bytes < MIN_TRANSFER_BYTES || durationMs <= 0) return;
+        addSample(bytes * 8 / durationMs, SystemClock.uptimeMillis());
+    }
+
+    static void addSample(long kbps, long timeMs) {
+        if (kbps <= 0) return;
+        synchronized (sLock) {
+            if (sKbps.length != WINDOW_SIZE) {
+                sKbps = new long[Math.max(WINDOW_SIZE, 1)];
+                sTimes = new long[sKbps.length];
+                sNext = 0;
+                sCount = 0;
+            }
+            sKbps[sNext] = kbps;
+            sTimes[sNext] = timeMs;
+            sNext = (sNext + 1) % sKbps.length;
+            sCount = Math.min(sCount + 1, sKbps.length);
+        }
+    }
+
+    /**
+     * @return estimated bandwidth in kbps, 0 if unknown.
+     */
+    public static long estimateKbps() {
+        return estimateKbps(SystemClock.uptimeMillis());
+    }
+
+    static long estimateKbps(long timeMs) {
+        final long[] values;
+        int size = 0;
+        synchronized (sLock) {
+            values = new long[sCount];
+            for (int i = 0; i < sCount; i++) {
+                if (timeMs - sTimes[i] <= SAMPLE_TTL_MS) {
+                    values[size++] = sKbps[i];
+                }
+            }
+        }
+        if (size == 0) return 0;
+        Arrays.sort(values, 0, size);
+        return values[Math.min((int) (size * ESTIMATE_PERCENTILE), size - 1)];
+    }
+
+    public static void reset() {
+        synchronized (sLock) {
+            sNext = 0;
+            sCount = 0;
+        }
+    }
+}
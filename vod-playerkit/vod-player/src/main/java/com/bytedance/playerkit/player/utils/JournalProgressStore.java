@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.utils;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+
+import com.bytedance.playerkit.utils.L;
+import com.bytedance.playerkit.utils.concurrent.ExecutorFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProgressStore} persisting records to an append-only memory-mapped journal file.
+ * <p>
+ * Reads and writes are served by a {@link MemoryProgressStore}. Journal loading, appending and
+ * compaction all run on a single background thread, so callers never touch the disk. A record is
+ * appended only when the position moved at least {@link #WRITE_THRESHOLD_MS} since the last
+ * appended one, so at most that much progress is lost on process death.
+ * <p>
+ * Journal layout: {@code [int magic][int version]} followed by records of
+ * {@code [short keyLength][UTF-8 key][long progress]}. Progress {@code -1} removes the key, key
+ * length {@code 0} ends the journal.
+ */
+public class JournalProgressStore implements ProgressStore {
+
+    public static long WRITE_THRESHOLD_MS = 5000;
+    public static int JOURNAL_CAPACITY = 256 * 1024;
+
+    private static final int MAGIC = 0x50524f47; // PROG
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int MAX_KEY_LENGTH = 1024;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final Context mContext;
+    private final String mFileName;
+    private final int mMaxEntries;
+    private final MemoryProgressStore mMemory;
+    /**
+     * Last progress appended to journal of each key. Used to throttle writes.
+     */
+    private final MemoryProgressStore mPersisted;
+    private final Executor mExecutor;
+
+    private final Object mLoadLock = new Object();
+    private boolean mLoaded;
+    private final Set<String> mRemovedBeforeLoad = new HashSet<>();
+
+    // Accessed on executor thread only.
+    private File mFile;
+    private MappedByteBuffer mJournal;
+    private int mRecordCount;
+
+    public JournalProgressStore(@NonNull File file) {
+        this(file, DEFAULT_MAX_ENTRIES);
+    }
+
+    public JournalProgressStore(@NonNull File file, int maxEntries) {
+        this(null, file.getPath(), maxEntries);
+    }
+
+    /**
+     * Journal file is resolved against {@link Context#getFilesDir()} on the background thread, so
+     * the store can be created on main thread without touching the disk.
+     */
+    public JournalProgressStore(@NonNull Context context, @NonNull String fileName) {
+        this(context.getApplicationContext(), fileName, DEFAULT_MAX_ENTRIES);
+    }
+
+    private JournalProgressStore(Context context, String fileName, int maxEntries) {
+        this.mContext = context;
+        this.mFileName = fileName;
+        this.mMaxEntries = maxEntries;
+        this.mMemory = new MemoryProgressStore(maxEntries);
+        this.mPersisted = new MemoryProgressStore(maxEntries);
+        final ThreadPoolExecutor executor = ExecutorFactory.DEFAULT.create(1);
+        executor.setKeepAliveTime(10, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        this.mExecutor = executor;
+        this.mExecutor.execute(this::load);
+    }
+
+    @Override
+    public long get(@NonNull String key) {
+        return mMemory.get(key);
+    }
+
+    @Override
+    public void put(@NonNull String key, long progress) {
+        if (progress < 0) return;
+        mMemory.put(key, progress);
+        final long persisted = mPersisted.get(key);
+        if (persisted < 0 || Math.abs(progress - persisted) >= WRITE_THRESHOLD_MS) {
+            mPersisted.put(key, progress);
+            mExecutor.execute(() -> append(key, progress));
+        }
+    }
+
+    @Override
+    public void remove(@NonNull String key) {
+        mMemory.remove(key);
+        mPersisted.remove(key);
+        synchronized (mLoadLock) {
+            if (!mLoaded) {
+                mRemovedBeforeLoad.add(key);
+            }
+        }
+        mExecutor.execute(() -> append(key, -1));
+    }
+
+    @Override
+    public void clear() {
+        mMemory.clear();
+        mPersisted.clear();
+        mExecutor.execute(this::compact);
+    }
+
+    private void load() {
+        final Map<String, Long> records = new LinkedHashMap<>();
+        int recordCount = 0;
+        mFile = mContext == null ? new File(mFileName) : new File(mContext.getFilesDir(), mFileName);
+        try {
+            mJournal = map(mFile);
+            if (mJournal.getInt(0) == MAGIC && mJournal.getInt(4) == VERSION) {
+                mJournal.position(HEADER_SIZE);
+                while (mJournal.remaining() >= 2) {
+                    final int keyLength = mJournal.getShort();
+                    if (keyLength <= 0 || keyLength > MAX_KEY_LENGTH
+                            || mJournal.remaining() < keyLength + 8) {
+                        mJournal.position(mJournal.position() - 2);
+                        break;
+                    }
+                    final byte[] keyBytes = new byte[keyLength];
+                    mJournal.get(keyBytes);
+                    final String key = new String(keyBytes, UTF_8);
+                    final long progress = mJournal.getLong();
+                    records.remove(key);
+                    if (progress >= 0) {
+                        records.put(key, progress);
+                    }
+                    recordCount++;
+                }
+            } else {
+                writeHeader(mJournal);
+            }
+        } catch (IOException | RuntimeException e) {
+            L.e(this, "load", e, mFile);
+            mJournal = null;
+        }
+        mRecordCount = recordCount;
+
+        synchronized (mLoadLock) {
+            for (Map.Entry<String, Long> entry : records.entrySet()) {
+                final String key = entry.getKey();
+                if (mRemovedBeforeLoad.contains(key)) continue;
+                mMemory.putIfAbsent(key, entry.getValue());
+                mPersisted.putIfAbsent(key, entry.getValue());
+            }
+            mRemovedBeforeLoad.clear();
+            mLoaded = true;
+        }
+        L.d(this, "load", mFile, records.size(), recordCount);
+
+        if (mJournal != null && recordCount > 2 * Math.min(records.size(), mMaxEntries) + 64) {
+            compact();
+        }
+    }
+
+    private void append(String key, long progress) {
+        if (mJournal == null) return;
+
+        final byte[] keyBytes = key.getBytes(UTF_8);
+        if (keyBytes.length > MAX_KEY_LENGTH) return;
+
+        final int recordSize = 2 + keyBytes.length + 8;
+        if (mJournal.remaining() < recordSize) {
+            compact();
+            // Snapshot already contains latest progress of key.
+            return;
+        }
+        mJournal.putShort((short) keyBytes.length);
+        mJournal.put(keyBytes);
+        mJournal.putLong(progress);
+        endJournal(mJournal);
+        mRecordCount++;
+    }
+
+    /**
+     * Rewrites journal with a snapshot of memory records, then swaps it with the current one.
+     */
+    private void compact() {
+        final Map<String, Long> snapshot = mMemory.snapshot();
+        final File tmp = new File(mFile.getPath() + ".tmp");
+        try {
+            final MappedByteBuffer buffer = map(tmp);
+            writeHeader(buffer);
+            int recordCount = 0;
+            for (Map.Entry<String, Long> entry : snapshot.entrySet()) {
+                final byte[] keyBytes = entry.getKey().getBytes(UTF_8);
+                if (keyBytes.length > MAX_KEY_LENGTH) continue;
+                if (buffer.remaining() < 2 + keyBytes.length + 8) break;
+                buffer.putShort((short) keyBytes.length);
+                buffer.put(keyBytes);
+                buffer.putLong(entry.getValue());
+                recordCount++;
+            }
+            endJournal(buffer);
+            buffer.force();
+            if (!tmp.renameTo(mFile)) {
+                throw new IOException("rename " + tmp + " failed");
+            }
+            mJournal = buffer;
+            mRecordCount = recordCount;
+            L.d(this, "compact", mFile, recordCount);
+        } catch (IOException | RuntimeException e) {
+            L.e(this, "compact", e, mFile);
+            tmp.delete();
+        }
+    }
+
+    private static MappedByteBuffer map(File file) throws IOException {
+        final File dir = file.getParentFile();
+        if (dir != null && !dir.exists()) {
+            dir.mkdirs();
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            if (raf.length() != JOURNAL_CAPACITY) {
+                raf.setLength(JOURNAL_CAPACITY);
+            }
+            return raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, JOURNAL_CAPACITY);
+        }
+    }
+
+    private static void writeHeader(MappedByteBuffer buffer) {
+        buffer.clear();
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        endJournal(buffer);
+    }
+
+    /**
+     * Marks the end of journal after current position, so stale bytes of a previous journal are
+     * never read as records.
+     */
+    private static void endJournal(MappedByteBuffer buffer) {
+        if (buffer.remaining() >= 2) {
+            buffer.putShort(buffer.position(), (short) 0);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.utils;
+
+import androidx.annotation.NonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-memory {@link ProgressStore} holding at most {@code maxEntries} records. Least recently used
+ * records are evicted first.
+ */
+public class MemoryProgressStore implements ProgressStore {
+
+    private final Map<String, Long> mMap;
+
+    public MemoryProgressStore(int maxEntries) {
+        this.mMap = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public long get(@NonNull String key) {
+        final Long value;
+        synchronized (mMap) {
+            value = mMap.get(key);
+        }
+        return value == null ? -1 : value;
+    }
+
+    @Override
+    public void put(@NonNull String key, long progress) {
+        synchronized (mMap) {
+            mMap.put(key, progress);
+        }
+    }
+
+    @Override
+    public void remove(@NonNull String key) {
+        synchronized (mMap) {
+            mMap.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (mMap) {
+            mMap.clear();
+        }
+    }
+
+    /**
+     * Records if absent. Used to restore persisted records without overriding newer ones.
+     */
+    void putIfAbsent(@NonNull String key, long progress) {
+        synchronized (mMap) {
+            if (!mMap.containsKey(key)) {
+                mMap.put(key, progress);
+            }
+        }
+    }
+
+    /**
+     * @return copy of all records, from least to most recently used.
+     */
+    Map<String, Long> snapshot() {
+        synchronized (mMap) {
+            return new LinkedHashMap<>(mMap);
+        }
+    }
+}
@@ -18,29 +18,43 @@
 
 package com.bytedance.playerkit.player.utils;
 
-import java.util.HashMap;
-import java.util.Map;
+import androidx.annotation.NonNull;
+
+import com.bytedance.playerkit.utils.Asserts;
 
 
 public class ProgressRecorder {
 
-    private static final Map<String, Long> map = new HashMap<>();
+    private static volatile ProgressStore sStore = ProgressStore.DEFAULT;
+
+    /**
+     * Replaces the store of progress records. Records of previous store are not migrated.
+     *
+     * @see JournalProgressStore
+     */
+    public static void setStore(@NonNull ProgressStore store) {
+        sStore = Asserts.checkNotNull(store);
+    }
+
+    @NonNull
+    public static ProgressStore getStore() {
+        return sStore;
+    }
 
     public static void recordProgress(String key, long progress) {
+        if (key == null) return;
         if (progress >= 0) {
-            map.put(key, progress);
+            sStore.put(key, progress);
         }
     }
 
     public static void removeProgress(String key) {
         if (key == null) return;
-        map.remove(key);
+        sStore.remove(key);
     }
 
     public static long getProgress(String key) {
         if (key == null) return -1;
-        final Long value = map.get(key);
-        if (value == null) return -1;
-        return value;
+        return sStore.get(key);
     }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.utils;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Storage of playback progress used by {@link ProgressRecorder}.
+ * <p>
+ * {@link #put(String, long)} is called on every progress update tick of the playing player, and
+ * {@link #get(String)} may be called from any thread. Implementations must be thread safe and must
+ * not do blocking I/O in these methods.
+ */
+public interface ProgressStore {
+
+    int DEFAULT_MAX_ENTRIES = 1000;
+
+    ProgressStore DEFAULT = new MemoryProgressStore(DEFAULT_MAX_ENTRIES);
+
+    /**
+     * @return recorded progress in ms, -1 if not exists.
+     */
+    long get(@NonNull String key);
+
+    void put(@NonNull String key, long progress);
+
+    void remove(@NonNull String key);
+
+    void clear();
+}
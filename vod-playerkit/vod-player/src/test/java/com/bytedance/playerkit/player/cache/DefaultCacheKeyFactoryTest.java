@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class DefaultCacheKeyFactoryTest {
+
+    private File mRoot;
+    private File mCacheDir;
+
+    @Before
+    public void setUp() throws IOException {
+        mRoot = File.createTempFile("cache_key", "");
+        assertTrue(mRoot.delete());
+        mCacheDir = new File(mRoot, "player_cache");
+    }
+
+    @After
+    public void tearDown() {
+        delete(mRoot);
+    }
+
+    @Test
+    public void newCacheAdoptsKeyMode() {
+        assertEquals(DefaultCacheKeyFactory.KEY_MODE_MD5,
+                DefaultCacheKeyFactory.resolveKeyMode(mCacheDir, DefaultCacheKeyFactory.KEY_MODE_MD5));
+        assertEquals(DefaultCacheKeyFactory.KEY_MODE_MD5,
+                DefaultCacheKeyFactory.resolveKeyMode(mCacheDir, DefaultCacheKeyFactory.KEY_MODE_HASH128));
+    }
+
+    @Test
+    public void existingCacheIsPinnedToLegacy() throws IOException {
+        touch(new File(mCacheDir, "entry"));
+        assertEquals(DefaultCacheKeyFactory.KEY_MODE_LEGACY,
+                DefaultCacheKeyFactory.resolveKeyMode(mCacheDir, DefaultCacheKeyFactory.KEY_MODE_MD5));
+        assertTrue(new File(mCacheDir, "entry").exists());
+    }
+
+    @Test
+    public void unpinDropsEntriesWrittenAfterClear() throws IOException {
+        touch(new File(mCacheDir, "entry"));
+        DefaultCacheKeyFactory.resolveKeyMode(mCacheDir, DefaultCacheKeyFactory.KEY_MODE_MD5);
+        DefaultCacheKeyFactory.unpinKeyMode(mCacheDir);
+        // written with the legacy mode before restart
+        touch(new File(mCacheDir, "orphan"));
+        touch(new File(mCacheDir, "dir/orphan"));
+
+        assertEquals(DefaultCacheKeyFactory.KEY_MODE_MD5,
+                DefaultCacheKeyFactory.resolveKeyMode(mCacheDir, DefaultCacheKeyFactory.KEY_MODE_MD5));
+        assertFalse(new File(mCacheDir, "orphan").exists());
+        assertFalse(new File(mCacheDir, "dir").exists());
+        assertTrue(mCacheDir.exists());
+    }
+
+    @Test
+    public void damagedRecordKeepsEntries() throws IOException {
+        touch(new File(mCacheDir, "entry"));
+        for (String record : new String[]{"", "1x", "7", "unpin"}) {
+            write(new File(mRoot, "player_cache.key_mode"), record);
+            assertEquals(record, DefaultCacheKeyFactory.KEY_MODE_LEGACY,
+                    DefaultCacheKeyFactory.resolveKeyMode(mCacheDir, DefaultCacheKeyFactory.KEY_MODE_MD5));
+            assertTrue(record, new File(mCacheDir, "entry").exists());
+        }
+    }
+
+    @Test
+    public void recordIsReplacedWithoutTempFile() throws IOException {
+        DefaultCacheKeyFactory.resolveKeyMode(mCacheDir, DefaultCacheKeyFactory.KEY_MODE_HASH128);
+        DefaultCacheKeyFactory.unpinKeyMode(mCacheDir);
+        touch(new File(mCacheDir, "orphan"));
+
+        assertEquals(DefaultCacheKeyFactory.KEY_MODE_MD5,
+                DefaultCacheKeyFactory.resolveKeyMode(mCacheDir, DefaultCacheKeyFactory.KEY_MODE_MD5));
+        assertFalse(new File(mCacheDir, "orphan").exists());
+        assertFalse(new File(mRoot, "player_cache.key_mode.tmp").exists());
+    }
+
+    @Test
+    public void factoryResolvesKeyModeLazily() throws IOException {
+        touch(new File(mCacheDir, "entry"));
+        final DefaultCacheKeyFactory factory = new DefaultCacheKeyFactory(mCacheDir, DefaultCacheKeyFactory.KEY_MODE_MD5);
+        assertFalse(new File(mRoot, "player_cache.key_mode").exists());
+
+        assertEquals(DefaultCacheKeyFactory.KEY_MODE_LEGACY, factory.getKeyMode());
+        assertTrue(new File(mRoot, "player_cache.key_mode").exists());
+        assertEquals(new DefaultCacheKeyFactory(DefaultCacheKeyFactory.KEY_MODE_LEGACY).generateCacheKey("https://a.com/b.mp4"),
+                factory.generateCacheKey("https://a.com/b.mp4?c=d"));
+    }
+
+    private static void touch(File file) throws IOException {
+        file.getParentFile().mkdirs();
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(1);
+        }
+    }
+
+    private static void write(File file, String content) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void delete(File file) {
+        final File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.preload;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.TreeSet;
+
+/**
+ * Replays recorded pager callback traces through {@link PreloadScheduler} with
+ * {@link DefaultPreloadPolicy} and checks the outstanding preloads after every callback. The page
+ * becoming current keeps its preload, it is never canceled.
+ * <p>
+ * Trace line: {@code <timeMs> <event> [args...] | <expected outstanding preloads>}, events are
+ * {@code count n}, {@code select position}, {@code peek position peekPosition},
+ * {@code scroll position offset}, {@code idle} and {@code dwell}.
+ */
+public class PreloadSchedulerTraceTest {
+
+    private static final String[] SLOW_SWIPE = {
+            "0 count 20 |",
+            "0 select 0 | 1 2",
+            "16 idle | 1 2",
+            "5016 dwell | 1",
+            "6000 scroll 0 0.0 | 1",
+            "6100 scroll 0 0.2 | 1 2",
+            "6200 scroll 0 0.5 | 1 2",
+            "6210 peek 0 1 | 1 2",
+            "6250 select 1 | 0 1 2 3",
+            "6450 scroll 1 0.0 | 0 1 2 3",
+            "6466 idle | 0 1 2 3",
+    };
+
+    private static final String[] FLING_DOWN_THEN_BACK = {
+            "0 count 10 |",
+            "0 select 3 | 2 4 5",
+            "100 scroll 3 0.3 | 2 4 5",
+            "150 scroll 3 0.7 | 4 5 6 7",
+            "160 select 4 | 4 5 6 7 8",
+            "200 scroll 4 0.2 | 4 5 6 7 8",
+            "250 select 5 | 4 5 6 7 8 9",
+            "260 idle | 4 5 6 7",
+            "1000 peek 5 4 | 3 4 5 6",
+            "1100 scroll 4 0.6 | 3 4 5 6",
+            "1150 scroll 4 0.1 | 1 2 3 4 5",
+            "1160 select 4 | 0 1 2 3 4 5",
+            "1200 idle | 2 3 4 5",
+    };
+
+    @Test
+    public void slowSwipe() {
+        replay(SLOW_SWIPE);
+    }
+
+    @Test
+    public void flingDownThenBack() {
+        replay(FLING_DOWN_THEN_BACK);
+    }
+
+    @Test
+    public void resetCancelsPlan() {
+        final RecordingPreloader preloader = new RecordingPreloader();
+        final PreloadScheduler scheduler = new PreloadScheduler(new DefaultPreloadPolicy(), preloader);
+        scheduler.setItemCount(5);
+        scheduler.onPageSelected(0, 2);
+        assertEquals("[1, 3, 4]", preloader.planned.toString());
+        scheduler.reset();
+        assertEquals("[]", preloader.planned.toString());
+    }
+
+    private static void replay(String[] trace) {
+        final RecordingPreloader preloader = new RecordingPreloader();
+        final PreloadScheduler scheduler = new PreloadScheduler(new DefaultPreloadPolicy(), preloader);
+        for (String line : trace) {
+            final String[] parts = line.split("\\|", -1);
+            final String[] event = parts[0].trim().split("\\s+");
+            final long time = Long.parseLong(event[0]);
+            switch (event[1]) {
+                case "count":
+                    scheduler.setItemCount(Integer.parseInt(event[2]));
+                    break;
+                case "select":
+                    scheduler.onPageSelected(time, Integer.parseInt(event[2]));
+                    break;
+                case "peek":
+                    scheduler.onPagePeekStart(time, Integer.parseInt(event[2]), Integer.parseInt(event[3]));
+                    break;
+                case "scroll":
+                    scheduler.onPageScrolled(time, Integer.parseInt(event[2]), Float.parseFloat(event[3]));
+                    break;
+                case "idle":
+                    scheduler.onScrollIdle(time);
+                    break;
+                case "dwell":
+                    scheduler.onDwell(time);
+                    break;
+                default:
+                    throw new IllegalArgumentException(line);
+            }
+            assertEquals(line, expected(parts[1]), preloader.planned.toString());
+        }
+    }
+
+    private static String expected(String positions) {
+        final TreeSet<Integer> set = new TreeSet<>();
+        for (String p : positions.trim().split("\\s+")) {
+            if (!p.isEmpty()) set.add(Integer.parseInt(p));
+        }
+        return set.toString();
+    }
+
+    private static class RecordingPreloader implements PreloadScheduler.Preloader {
+        final TreeSet<Integer> planned = new TreeSet<>();
+
+        @Override
+        public void preload(int position) {
+            planned.add(position);
+        }
+
+        @Override
+        public void cancel(int position) {
+            planned.remove(position);
+        }
+    }
+}
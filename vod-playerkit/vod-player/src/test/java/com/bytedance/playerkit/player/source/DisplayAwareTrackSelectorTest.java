@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.source;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class DisplayAwareTrackSelectorTest {
+
+    private static class Scorer extends DisplayAwareTrackSelector.DefaultScorer {
+        @Override
+        protected boolean isHardwareDecodable(int encoderType) {
+            return encoderType != Track.ENCODER_TYPE_H266;
+        }
+    }
+
+    private static Track track(int width, int height, int bitrateKbps) {
+        return track(width, height, bitrateKbps, Track.ENCODER_TYPE_H264);
+    }
+
+    private static Track track(int width, int height, int bitrateKbps, int encoderType) {
+        final Track track = new Track();
+        track.setTrackType(Track.TRACK_TYPE_VIDEO);
+        track.setVideoWidth(width);
+        track.setVideoHeight(height);
+        track.setBitrate(bitrateKbps * 1000);
+        track.setEncoderType(encoderType);
+        return track;
+    }
+
+    /**
+     * 16:9 ladder from 360p to 1080p.
+     */
+    private static final List<Track> LADDER = Arrays.asList(
+            track(640, 360, 600),
+            track(854, 480, 1000),
+            track(1280, 720, 2000),
+            track(1920, 1080, 4000));
+
+    private static Track select(List<Track> tracks, int type, int width, int height, long bandwidthKbps) {
+        return new DisplayAwareTrackSelector(new Scorer(), TrackSelector.DEFAULT)
+                .select(tracks, new DisplayAwareTrackSelector.Conditions(type, width, height, bandwidthKbps));
+    }
+
+    private static int shortSide(@NonNull Track track) {
+        return Math.min(track.getVideoWidth(), track.getVideoHeight());
+    }
+
+    @Test
+    public void matchesDisplaySize() {
+        assertEquals(1080, shortSide(select(LADDER, TrackSelector.TYPE_PLAY, 1920, 1080, 0)));
+        assertEquals(720, shortSide(select(LADDER, TrackSelector.TYPE_PLAY, 1280, 720, 0)));
+        // feed card a bit smaller than 480p still picks 480p instead of undersized 360p
+        assertEquals(480, shortSide(select(LADDER, TrackSelector.TYPE_PLAY, 800, 450, 0)));
+        // portrait display compares short sides
+        assertEquals(720, shortSide(select(LADDER, TrackSelector.TYPE_PLAY, 720, 1280, 0)));
+    }
+
+    @Test
+    public void limitedByBandwidthShare() {
+        // 2000kbps track fits 75% of 3000kbps, 4000kbps does not
+        assertEquals(720, shortSide(select(LADDER, TrackSelector.TYPE_PLAY, 1920, 1080, 3000)));
+        assertEquals(1080, shortSide(select(LADDER, TrackSelector.TYPE_PLAY, 1920, 1080, 6000)));
+        // far below every bitrate, the cheapest track wins
+        assertEquals(360, shortSide(select(LADDER, TrackSelector.TYPE_PLAY, 1920, 1080, 500)));
+    }
+
+    @Test
+    public void preloadPicksCheaperTrackThanPlay() {
+        assertEquals(1080, shortSide(select(LADDER, TrackSelector.TYPE_PLAY, 1920, 1080, 6000)));
+        // 75% of display resolution and 50% of bandwidth
+        assertEquals(720, shortSide(select(LADDER, TrackSelector.TYPE_PRELOAD, 1920, 1080, 6000)));
+
+        assertEquals(720, shortSide(select(LADDER, TrackSelector.TYPE_PLAY, 1280, 720, 0)));
+        assertEquals(480, shortSide(select(LADDER, TrackSelector.TYPE_PRELOAD, 1280, 720, 0)));
+    }
+
+    @Test
+    public void prefersHardwareDecodableCodec() {
+        final Track h264 = track(1280, 720, 2000, Track.ENCODER_TYPE_H264);
+        final Track h266 = track(1280, 720, 1200, Track.ENCODER_TYPE_H266);
+        assertEquals(h264, select(Arrays.asList(h266, h264), TrackSelector.TYPE_PLAY, 1280, 720, 0));
+    }
+
+    @Test
+    public void cheaperTrackWinsTie() {
+        final Track h265 = track(1280, 720, 1200, Track.ENCODER_TYPE_H265);
+        final Track h264 = track(1280, 720, 2000, Track.ENCODER_TYPE_H264);
+        assertEquals(h265, select(Arrays.asList(h264, h265), TrackSelector.TYPE_PLAY, 1280, 720, 0));
+    }
+
+    @Test
+    public void allExcluded() {
+        final DisplayAwareTrackSelector selector = new DisplayAwareTrackSelector(
+                (track, conditions) -> Float.NEGATIVE_INFINITY, TrackSelector.DEFAULT);
+        assertNull(selector.select(LADDER, new DisplayAwareTrackSelector.Conditions(
+                TrackSelector.TYPE_PLAY, 1920, 1080, 0)));
+    }
+}
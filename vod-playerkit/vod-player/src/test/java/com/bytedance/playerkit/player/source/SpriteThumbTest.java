@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.playerkit.player.source;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class SpriteThumbTest {
+
+    /**
+     * 2 sheets of 5 x 4 tiles of 160 x 90 px, 30 captures every 2s.
+     */
+    private static SpriteThumb thumb() {
+        final SpriteThumb thumb = new SpriteThumb();
+        thumb.setUrls(Arrays.asList("https://p.example.com/0.jpg", "https://p.example.com/1.jpg"));
+        thumb.setCaptureNum(30);
+        thumb.setCellWidth(160);
+        thumb.setCellHeight(90);
+        thumb.setImgXLen(5);
+        thumb.setImgYLen(4);
+        thumb.setInterval(2000);
+        return thumb;
+    }
+
+    @Test
+    public void tileIndex() {
+        final SpriteThumb thumb = thumb();
+        assertEquals(0, thumb.tileIndex(-1));
+        assertEquals(0, thumb.tileIndex(1999));
+        assertEquals(1, thumb.tileIndex(2000));
+        assertEquals(29, thumb.tileIndex(58000));
+        // clamped to the last capture
+        assertEquals(29, thumb.tileIndex(10 * 60 * 1000));
+    }
+
+    @Test
+    public void tileIndexClampedToSheets() {
+        final SpriteThumb thumb = thumb();
+        thumb.setUrls(Arrays.asList("https://p.example.com/0.jpg"));
+        assertEquals(19, thumb.tileIndex(58000));
+    }
+
+    @Test
+    public void tileGeometry() {
+        final SpriteThumb thumb = thumb();
+        assertEquals(20, thumb.tilesPerSheet());
+
+        assertEquals(0, thumb.sheetIndex(19));
+        assertEquals("https://p.example.com/0.jpg", thumb.sheetUrl(19));
+        assertEquals(4 * 160, thumb.tileLeft(19));
+        assertEquals(3 * 90, thumb.tileTop(19));
+
+        assertEquals(1, thumb.sheetIndex(27));
+        assertEquals("https://p.example.com/1.jpg", thumb.sheetUrl(27));
+        assertEquals(2 * 160, thumb.tileLeft(27));
+        assertEquals(90, thumb.tileTop(27));
+
+        assertNull(thumb.sheetUrl(40));
+    }
+
+    @Test
+    public void invalid() {
+        final SpriteThumb thumb = thumb();
+        thumb.setInterval(0);
+        assertFalse(thumb.isValid());
+        assertEquals(-1, thumb.tileIndex(1000));
+        assertFalse(new SpriteThumb().isValid());
+    }
+}
@@ -71,6 +71,7 @@ public class VideoSettings {
 
     public static final String FEED_VIDEO_SCENE_ACCOUNT_ID = "feed_video_scene_account_id";
     public static final String FEED_VIDEO_ENABLE_PRELOAD = "feed_video_enable_preload";
+    public static final String FEED_VIDEO_ENABLE_AUTOPLAY = "feed_video_enable_autoplay";
 
     public static final String LONG_VIDEO_SCENE_ACCOUNT_ID = "long_video_scene_account_id";
 
@@ -181,24 +182,31 @@ public class VideoSettings {
     }
 
     public static int intValue(String key) {
-        return option(key).intValue();
+        return sOptions.snapshot().intValue(option(key));
     }
 
     public static boolean booleanValue(String key) {
-        return option(key).booleanValue();
+        return sOptions.snapshot().booleanValue(option(key));
     }
 
     public static long longValue(String key) {
-        return option(key).longValue();
+        return sOptions.snapshot().longValue(option(key));
     }
 
     public static float floatValue(String key) {
-        return option(key).floatValue();
+        return sOptions.snapshot().floatValue(option(key));
     }
 
     @Nullable
     public static String stringValue(String key) {
-        return option(key).stringValue();
+        return sOptions.snapshot().stringValue(option(key));
+    }
+
+    /**
+     * @return version of current settings values. Changes whenever any value changes.
+     */
+    public static int version() {
+        return sOptions.snapshot().version();
     }
 
     private static List<SettingItem> createSettings() {
@@ -402,6 +410,17 @@ public class VideoSettings {
                         Boolean.class,
                         Boolean.TRUE,
                         null)));
+
+        settings.add(SettingItem.createOptionItem(CATEGORY_FEED_VIDEO,
+                new Option(
+                        Option.TYPE_RATIO_BUTTON,
+                        CATEGORY_FEED_VIDEO,
+                        FEED_VIDEO_ENABLE_AUTOPLAY,
+                        "中视频滑动自动播放",
+                        Option.STRATEGY_IMMEDIATELY,
+                        Boolean.class,
+                        Boolean.TRUE,
+                        null)));
     }
 
     private static void createLongVideoSettings(List<SettingItem> settings) {
@@ -874,6 +893,7 @@ public class VideoSettings {
             if (mIsGetting) return;
             mIsGetting = true;
             new Thread(() -> {
+                // disk cache stats only track url source keys, vid source files are counted by size on disk
                 long videoFileSize = FileUtils.getFileSize(VolcPlayerInit.config().playerCacheDir);
                 long imageFileSize = FileUtils.getFileSize(Glide.getPhotoCacheDir(sContext));
                 long size = imageFileSize + videoFileSize;
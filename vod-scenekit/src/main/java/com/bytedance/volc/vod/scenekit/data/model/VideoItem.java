@@ -29,6 +29,7 @@ import com.bytedance.playerkit.player.source.Track;
 import com.bytedance.playerkit.player.volcengine.Mapper;
 import com.bytedance.playerkit.player.volcengine.VolcConfig;
 import com.bytedance.playerkit.utils.CollectionUtils;
+import com.bytedance.playerkit.utils.ExtraKey;
 import com.bytedance.playerkit.utils.ExtraObject;
 import com.bytedance.playerkit.utils.L;
 import com.bytedance.playerkit.utils.MD5;
@@ -41,10 +42,16 @@ import com.bytedance.volc.vod.scenekit.ui.widgets.adatper.Item;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 public class VideoItem extends ExtraObject implements Item, Serializable {
     public static final String EXTRA_VIDEO_ITEM = "extra_video_item";
+    public static final ExtraKey<VideoItem> KEY_VIDEO_ITEM = ExtraKey.of(EXTRA_VIDEO_ITEM, VideoItem.class);
+
+    private static final Map<String, VolcConfig> sSharedVolcConfigs = new ConcurrentHashMap<>();
+    private static int sSharedVolcConfigsVersion;
 
     public static final int SOURCE_TYPE_EMPTY = -1;
     public static final int SOURCE_TYPE_URL = MediaSource.SOURCE_TYPE_URL;
@@ -273,7 +280,7 @@ public class VideoItem extends ExtraObject implements Item, Serializable {
         }
         VideoItem.set(videoItem.mediaSource, videoItem);
         final MediaSource mediaSource = videoItem.mediaSource;
-        VolcConfig.set(mediaSource, createVolcConfig(videoItem));
+        VolcConfig.set(mediaSource, sharedVolcConfig(videoItem));
         if (videoItem.syncProgress) {
             mediaSource.setSyncProgressId(videoItem.vid); // continues play
         }
@@ -300,6 +307,14 @@ public class VideoItem extends ExtraObject implements Item, Serializable {
         return mediaSource;
     }
 
+    /**
+     * @return MediaSource already created by {@link #toMediaSource(VideoItem)}, or a new one.
+     */
+    public static MediaSource findMediaSource(VideoItem videoItem) {
+        final MediaSource mediaSource = videoItem.mediaSource;
+        return mediaSource != null ? mediaSource : toMediaSource(videoItem);
+    }
+
     public static List<MediaSource> toMediaSources(List<VideoItem> videoItems) {
         List<MediaSource> sources = new ArrayList<>();
         if (videoItems != null) {
@@ -312,6 +327,31 @@ public class VideoItem extends ExtraObject implements Item, Serializable {
         return sources;
     }
 
+    /**
+     * @return VolcConfig shared by all items of the same play scene and tags. Configs are rebuilt
+     * after {@link VideoSettings} changed, so callers must treat the returned instance as read-only.
+     */
+    @NonNull
+    public static VolcConfig sharedVolcConfig(VideoItem videoItem) {
+        final int version = VideoSettings.version();
+        synchronized (sSharedVolcConfigs) {
+            if (sSharedVolcConfigsVersion != version) {
+                sSharedVolcConfigsVersion = version;
+                sSharedVolcConfigs.clear();
+            }
+        }
+        final String key = version + "|" + videoItem.playScene + "|" + videoItem.tag + "|" + videoItem.subTag;
+        VolcConfig volcConfig = sSharedVolcConfigs.get(key);
+        if (volcConfig == null) {
+            final VolcConfig created = createVolcConfig(videoItem);
+            volcConfig = sSharedVolcConfigs.putIfAbsent(key, created);
+            if (volcConfig == null) {
+                volcConfig = created;
+            }
+        }
+        return volcConfig;
+    }
+
     @NonNull
     public static VolcConfig createVolcConfig(VideoItem videoItem) {
         VolcConfig volcConfig = new VolcConfig();
@@ -335,13 +375,13 @@ public class VideoItem extends ExtraObject implements Item, Serializable {
     public static void set(MediaSource mediaSource, VideoItem videoItem) {
         if (mediaSource == null) return;
 
-        mediaSource.putExtra(EXTRA_VIDEO_ITEM, videoItem);
+        mediaSource.putExtra(KEY_VIDEO_ITEM, videoItem);
     }
 
     @Nullable
     public static VideoItem get(MediaSource mediaSource) {
         if (mediaSource == null) return null;
-        return mediaSource.getExtra(VideoItem.EXTRA_VIDEO_ITEM, VideoItem.class);
+        return mediaSource.getExtra(KEY_VIDEO_ITEM);
     }
 
     public static void tag(VideoItem videoItem, String tag, String subTag) {
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.vod.scenekit.data.utils;
+
+import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.playerkit.player.volcengine.VolcEngineStrategy;
+import com.bytedance.playerkit.utils.L;
+import com.bytedance.playerkit.utils.concurrent.ExecutorFactory;
+import com.bytedance.volc.vod.scenekit.data.model.VideoItem;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts feed pages of {@link VideoItem} to {@link MediaSource} off the strategy worker thread.
+ * <p>
+ * Items are split into chunks of {@link #CHUNK_SIZE} and converted in parallel. Converted chunks are
+ * handed to {@link VolcEngineStrategy} strictly in call order, so the preload strategy can start
+ * with the first items of a page while the rest are still converting. Calling
+ * {@link #setMediaSources(List)} discards every pending chunk of earlier calls.
+ */
+public class MediaSourceConverter {
+
+    public static int CHUNK_SIZE = 8;
+    public static int THREAD_COUNT = 2;
+
+    private static final Object sLock = new Object();
+    private static final ArrayDeque<Batch> sBatches = new ArrayDeque<>();
+    private static ThreadPoolExecutor sExecutor;
+    private static int sGeneration;
+    private static String sLastTimings;
+
+    public static void setMediaSources(List<VideoItem> videoItems) {
+        submit(videoItems, true);
+    }
+
+    public static void addMediaSources(List<VideoItem> videoItems) {
+        submit(videoItems, false);
+    }
+
+    /**
+     * @return stage timings of the last fully delivered call.
+     */
+    public static String dump() {
+        synchronized (sLock) {
+            return sLastTimings;
+        }
+    }
+
+    private static void submit(List<VideoItem> videoItems, boolean set) {
+        final List<VideoItem> items = videoItems == null ? Collections.emptyList() : new ArrayList<>(videoItems);
+        final int chunkSize = Math.max(CHUNK_SIZE, 1);
+        final Batch batch;
+        synchronized (sLock) {
+            if (set) {
+                sGeneration++;
+                sBatches.clear();
+            }
+            batch = new Batch(sGeneration, set, (items.size() + chunkSize - 1) / chunkSize);
+            sBatches.add(batch);
+        }
+        if (batch.chunkCount == 0) {
+            deliver();
+            return;
+        }
+        final ThreadPoolExecutor executor = executor();
+        for (int i = 0; i < batch.chunkCount; i++) {
+            final int chunkIndex = i;
+            final List<VideoItem> chunk = items.subList(i * chunkSize, Math.min(items.size(), (i + 1) * chunkSize));
+            final long submitTime = System.nanoTime();
+            executor.execute(() -> {
+                if (!batch.isActive()) return;
+                final long startTime = System.nanoTime();
+                final List<MediaSource> mediaSources = VideoItem.toMediaSources(chunk);
+                final long endTime = System.nanoTime();
+                synchronized (sLock) {
+                    batch.waitNanos += startTime - submitTime;
+                    batch.convertNanos += endTime - startTime;
+                    batch.results[chunkIndex] = mediaSources;
+                }
+                deliver();
+            });
+        }
+    }
+
+    private static void deliver() {
+        synchronized (sLock) {
+            Batch batch;
+            while ((batch = sBatches.peek()) != null) {
+                if (batch.chunkCount == 0) {
+                    if (batch.set) {
+                        VolcEngineStrategy.setMediaSourcesAsync(Collections::emptyList);
+                    }
+                    sBatches.poll();
+                    continue;
+                }
+                while (batch.delivered < batch.chunkCount && batch.results[batch.delivered] != null) {
+                    final List<MediaSource> mediaSources = batch.results[batch.delivered];
+                    batch.results[batch.delivered] = null;
+                    if (batch.set && batch.delivered == 0) {
+                        VolcEngineStrategy.setMediaSourcesAsync(() -> mediaSources);
+                    } else {
+                        VolcEngineStrategy.addMediaSourcesAsync(() -> mediaSources);
+                    }
+                    batch.delivered++;
+                }
+                if (batch.delivered < batch.chunkCount) return;
+                sBatches.poll();
+                sLastTimings = batch.timings();
+                L.d(MediaSourceConverter.class, "deliver", sLastTimings);
+            }
+        }
+    }
+
+    private static ThreadPoolExecutor executor() {
+        synchronized (sLock) {
+            if (sExecutor == null) {
+                sExecutor = ExecutorFactory.DEFAULT.create(Math.max(THREAD_COUNT, 1));
+                sExecutor.setKeepAliveTime(10, TimeUnit.SECONDS);
+                sExecutor.allowCoreThreadTimeOut(true);
+            }
+            return sExecutor;
+        }
+    }
+
+    private static class Batch {
+        final int generation;
+        final boolean set;
+        final int chunkCount;
+        final List<MediaSource>[] results;
+        final long createTime = System.nanoTime();
+        int delivered;
+        long waitNanos;
+        long convertNanos;
+
+        @SuppressWarnings("unchecked")
+        Batch(int generation, boolean set, int chunkCount) {
+            this.generation = generation;
+            this.set = set;
+            this.chunkCount = chunkCount;
+            this.results = new List[chunkCount];
+        }
+
+        boolean isActive() {
+            synchronized (sLock) {
+                return generation == sGeneration;
+            }
+        }
+
+        String timings() {
+            return (set ? "set" : "add")
+                    + " chunks=" + chunkCount
+                    + " wait=" + TimeUnit.NANOSECONDS.toMillis(waitNanos) + "ms"
+                    + " convert=" + TimeUnit.NANOSECONDS.toMillis(convertNanos) + "ms"
+                    + " total=" + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - createTime) + "ms";
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.vod.scenekit.subtitle;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Immutable cue index of one subtitle file.
+ * <p>
+ * Cues are kept in primitive arrays sorted by start time, texts are concatenated into one string
+ * and addressed by offsets. {@link #indexOf(long)} is a binary search without allocation.
+ * Overlapping cues are not merged, the cue started last wins while it lasts, then the one started
+ * before it shows again if it still covers the position.
+ */
+public class SubtitleCues {
+
+    public static final SubtitleCues EMPTY = new SubtitleCues(new int[0], new int[0], new int[]{0}, "");
+
+    private final int[] mStarts;
+    private final int[] mEnds;
+    /**
+     * Max end of cues [0, i], bounds the backward scan of overlapping cues.
+     */
+    private final int[] mMaxEnds;
+    private final int[] mTextOffsets;
+    private final String mTexts;
+
+    private SubtitleCues(int[] starts, int[] ends, int[] textOffsets, String texts) {
+        this.mStarts = starts;
+        this.mEnds = ends;
+        this.mMaxEnds = new int[ends.length];
+        for (int i = 0; i < ends.length; i++) {
+            mMaxEnds[i] = i == 0 ? ends[i] : Math.max(mMaxEnds[i - 1], ends[i]);
+        }
+        this.mTextOffsets = textOffsets;
+        this.mTexts = texts;
+    }
+
+    public int size() {
+        return mStarts.length;
+    }
+
+    public long start(int index) {
+        return mStarts[index];
+    }
+
+    public long end(int index) {
+        return mEnds[index];
+    }
+
+    @NonNull
+    public String text(int index) {
+        return mTexts.substring(mTextOffsets[index], mTextOffsets[index + 1]);
+    }
+
+    /**
+     * @return index of the cue showing at {@code positionMs}, -1 if none.
+     */
+    public int indexOf(long positionMs) {
+        for (int i = floor(positionMs); i >= 0 && positionMs < mMaxEnds[i]; i--) {
+            if (positionMs < mEnds[i]) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the first time after {@code positionMs} when {@link #indexOf(long)} may change, -1 if
+     * never.
+     */
+    public long nextBoundary(long positionMs) {
+        final int next = floor(positionMs) + 1;
+        long boundary = next < mStarts.length ? mStarts[next] : -1;
+        final int i = indexOf(positionMs);
+        if (i >= 0 && (boundary < 0 || mEnds[i] < boundary)) {
+            boundary = mEnds[i];
+        }
+        return boundary;
+    }
+
+    /**
+     * @return approximate retained size in bytes.
+     */
+    public int sizeInBytes() {
+        return mStarts.length * 16 + mTexts.length() * 2 + 64;
+    }
+
+    /**
+     * @return index of the last cue started at or before {@code positionMs}, -1 if none.
+     */
+    private int floor(long positionMs) {
+        int low = 0;
+        int high = mStarts.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (mStarts[mid] <= positionMs) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    public static class Builder {
+        private int[] mStarts = new int[64];
+        private int[] mEnds = new int[64];
+        private int[] mTextEnds = new int[64];
+        private final StringBuilder mTexts = new StringBuilder();
+        private int mSize;
+        private boolean mSorted = true;
+
+        public Builder add(long startMs, long endMs, @NonNull CharSequence text) {
+            if (endMs <= startMs || text.length() == 0) return this;
+            if (mSize == mStarts.length) {
+                mStarts = Arrays.copyOf(mStarts, mSize * 2);
+                mEnds = Arrays.copyOf(mEnds, mSize * 2);
+                mTextEnds = Arrays.copyOf(mTextEnds, mSize * 2);
+            }
+            if (mSize > 0 && startMs < mStarts[mSize - 1]) {
+                mSorted = false;
+            }
+            mTexts.append(text);
+            mStarts[mSize] = (int) startMs;
+            mEnds[mSize] = (int) endMs;
+            mTextEnds[mSize] = mTexts.length();
+            mSize++;
+            return this;
+        }
+
+        public SubtitleCues build() {
+            if (mSize == 0) return EMPTY;
+            final int[] starts = new int[mSize];
+            final int[] ends = new int[mSize];
+            final int[] offsets = new int[mSize + 1];
+            if (mSorted) {
+                System.arraycopy(mStarts, 0, starts, 0, mSize);
+                System.arraycopy(mEnds, 0, ends, 0, mSize);
+                System.arraycopy(mTextEnds, 0, offsets, 1, mSize);
+                return new SubtitleCues(starts, ends, offsets, mTexts.toString());
+            }
+            // Rare, cues out of order. Sort by start, keeping file order of equal starts.
+            final long[] keys = new long[mSize];
+            for (int i = 0; i < mSize; i++) {
+                keys[i] = ((long) mStarts[i] << 32) | i;
+            }
+            Arrays.sort(keys);
+            final StringBuilder texts = new StringBuilder(mTexts.length());
+            for (int i = 0; i < mSize; i++) {
+                final int from = (int) keys[i];
+                starts[i] = mStarts[from];
+                ends[i] = mEnds[from];
+                texts.append(mTexts, from == 0 ? 0 : mTextEnds[from - 1], mTextEnds[from]);
+                offsets[i + 1] = texts.length();
+            }
+            return new SubtitleCues(starts, ends, offsets, texts.toString());
+        }
+    }
+}
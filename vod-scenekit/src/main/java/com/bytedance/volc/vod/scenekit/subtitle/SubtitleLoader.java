@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.vod.scenekit.subtitle;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.text.TextUtils;
+import android.util.LruCache;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.playerkit.player.source.Subtitle;
+import com.bytedance.playerkit.player.utils.BandwidthMeter;
+import com.bytedance.playerkit.player.volcengine.VolcConfig;
+import com.bytedance.playerkit.player.volcengine.VolcPlayerInit;
+import com.bytedance.playerkit.player.volcengine.VolcPlayerInitConfig;
+import com.bytedance.playerkit.utils.L;
+import com.bytedance.playerkit.utils.concurrent.ExecutorFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Downloads and parses {@link Subtitle#getUrl()} into {@link SubtitleCues} off main thread.
+ * <p>
+ * Parsed files are kept in a LRU cache limited to {@link #MAX_CACHE_BYTES}, so switching language
+ * or replaying a video never fetches the same file twice. Concurrent requests of the same file
+ * share one download. Only url subtitles are supported, vid subtitles are fetched by the engine.
+ *
+ * @see com.bytedance.volc.vod.scenekit.ui.video.layer.SubtitleLayer
+ */
+public class SubtitleLoader {
+
+    public static int MAX_CACHE_BYTES = 2 * 1024 * 1024;
+    /**
+     * Max count of preferred languages prefetched for one {@link MediaSource}.
+     */
+    public static int MAX_PREFETCH_LANGUAGES = 2;
+
+    private static final int TIMEOUT_MS = 10000;
+
+    public interface Callback {
+        /**
+         * Called on main thread.
+         *
+         * @param cues parsed cues, null if failed.
+         */
+        void onCuesLoaded(@NonNull Subtitle subtitle, @Nullable SubtitleCues cues);
+    }
+
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+    // Accessed on main thread only
+    private static final HashMap<String, List<Callback>> sPending = new HashMap<>();
+    private static final Object sLock = new Object();
+    private static LruCache<String, SubtitleCues> sCache;
+    private static ThreadPoolExecutor sExecutor;
+
+    /**
+     * Prefetches subtitles of preferred languages, see {@link VolcConfig#subtitleLanguageIds}.
+     * Falls back to the subtitle chosen by the configured subtitle selector.
+     */
+    @MainThread
+    public static void prefetch(@Nullable MediaSource source) {
+        final List<Subtitle> subtitles = source == null ? null : source.getSubtitles();
+        if (subtitles == null || subtitles.isEmpty()) return;
+        if (!VolcConfig.get(source).enableSubtitle) return;
+
+        final List<Integer> languageIds = VolcConfig.get(source).subtitleLanguageIds;
+        int count = 0;
+        if (languageIds != null) {
+            for (int languageId : languageIds) {
+                if (count >= MAX_PREFETCH_LANGUAGES) break;
+                for (Subtitle subtitle : subtitles) {
+                    if (subtitle.getLanguageId() == languageId) {
+                        load(subtitle, null);
+                        count++;
+                        break;
+                    }
+                }
+            }
+        }
+        final VolcPlayerInitConfig config = VolcPlayerInit.config();
+        if (count == 0 && config != null) {
+            load(config.subtitleSelector.selectSubtitle(source, subtitles), null);
+        }
+    }
+
+    @Nullable
+    public static SubtitleCues getCached(@NonNull Subtitle subtitle) {
+        final String key = key(subtitle);
+        return key == null ? null : cache().get(key);
+    }
+
+    @MainThread
+    public static void load(@NonNull Subtitle subtitle, @Nullable Callback callback) {
+        final String key = key(subtitle);
+        if (key == null) {
+            if (callback != null) callback.onCuesLoaded(subtitle, null);
+            return;
+        }
+        final SubtitleCues cached = cache().get(key);
+        if (cached != null) {
+            if (callback != null) callback.onCuesLoaded(subtitle, cached);
+            return;
+        }
+        List<Callback> callbacks = sPending.get(key);
+        if (callbacks != null) {
+            if (callback != null) callbacks.add(callback);
+            return;
+        }
+        callbacks = new ArrayList<>(2);
+        if (callback != null) callbacks.add(callback);
+        sPending.put(key, callbacks);
+
+        final String url = subtitle.getUrl();
+        executor().execute(() -> {
+            final SubtitleCues cues = fetch(url);
+            sMainHandler.post(() -> {
+                if (cues != null) {
+                    cache().put(key, cues);
+                }
+                final List<Callback> pending = sPending.remove(key);
+                if (pending == null) return;
+                for (Callback c : pending) {
+                    c.onCuesLoaded(subtitle, cues);
+                }
+            });
+        });
+    }
+
+    public static void clear() {
+        cache().evictAll();
+    }
+
+    public static String dump() {
+        final LruCache<String, SubtitleCues> cache = cache();
+        return "cache=" + cache.size() + "/" + cache.maxSize() +
+                " hit=" + cache.hitCount() +
+                " miss=" + cache.missCount() +
+                " evict=" + cache.evictionCount();
+    }
+
+    @Nullable
+    private static String key(Subtitle subtitle) {
+        if (TextUtils.isEmpty(subtitle.getUrl())) return null;
+        return TextUtils.isEmpty(subtitle.getCacheKey()) ? subtitle.getUrl() : subtitle.getCacheKey();
+    }
+
+    @Nullable
+    private static SubtitleCues fetch(String url) {
+        final long startTime = System.currentTimeMillis();
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setConnectTimeout(TIMEOUT_MS);
+            connection.setReadTimeout(TIMEOUT_MS);
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                L.e(SubtitleLoader.class, "fetch", url, connection.getResponseCode());
+                return null;
+            }
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(
+                    Math.max(connection.getContentLength(), 16 * 1024));
+            try (InputStream in = connection.getInputStream()) {
+                final byte[] buffer = new byte[8 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+            BandwidthMeter.addTransfer(out.size(), System.currentTimeMillis() - startTime);
+            final SubtitleCues cues = SubtitleParser.parse(out.toString("UTF-8"));
+            L.d(SubtitleLoader.class, "fetch", url, out.size(), cues.size(),
+                    System.currentTimeMillis() - startTime);
+            return cues;
+        } catch (IOException e) {
+            L.e(SubtitleLoader.class, "fetch", e, url);
+            return null;
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    private static LruCache<String, SubtitleCues> cache() {
+        synchronized (sLock) {
+            if (sCache == null) {
+                sCache = new LruCache<String, SubtitleCues>(MAX_CACHE_BYTES) {
+                    @Override
+                    protected int sizeOf(String key, SubtitleCues value) {
+                        return value.sizeInBytes();
+                    }
+                };
+            }
+            return sCache;
+        }
+    }
+
+    private static ThreadPoolExecutor executor() {
+        synchronized (sLock) {
+            if (sExecutor == null) {
+                sExecutor = ExecutorFactory.DEFAULT.create(1);
+                sExecutor.setKeepAliveTime(10, TimeUnit.SECONDS);
+                sExecutor.allowCoreThreadTimeOut(true);
+            }
+            return sExecutor;
+        }
+    }
+}
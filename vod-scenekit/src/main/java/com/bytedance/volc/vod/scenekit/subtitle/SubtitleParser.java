@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.vod.scenekit.subtitle;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Parses WebVTT and SRT into {@link SubtitleCues}.
+ * <p>
+ * Both formats are blocks separated by blank lines. Blocks with a {@code -->} timing line are cues,
+ * others (WEBVTT header, NOTE, STYLE, REGION) are skipped. Cue settings, markup tags and common
+ * entities are dropped from texts.
+ */
+public class SubtitleParser {
+
+    private static final String ARROW = "-->";
+
+    @NonNull
+    public static SubtitleCues parse(@NonNull String content) {
+        final SubtitleCues.Builder builder = new SubtitleCues.Builder();
+        final StringBuilder text = new StringBuilder();
+        final int length = content.length();
+        int pos = length > 0 && content.charAt(0) == '\uFEFF' ? 1 : 0;
+
+        long start = -1;
+        long end = -1;
+        while (pos < length) {
+            int lineEnd = content.indexOf('\n', pos);
+            if (lineEnd < 0) lineEnd = length;
+            int lineLast = lineEnd;
+            if (lineLast > pos && content.charAt(lineLast - 1) == '\r') lineLast--;
+
+            if (lineLast == pos) {
+                // blank line ends block
+                if (start >= 0) {
+                    builder.add(start, end, text);
+                }
+                start = -1;
+                text.setLength(0);
+            } else if (start < 0) {
+                final int arrow = content.indexOf(ARROW, pos);
+                if (arrow >= 0 && arrow < lineLast) {
+                    start = parseTime(content, pos, arrow);
+                    end = parseTime(content, arrow + ARROW.length(), lineLast);
+                    if (start < 0 || end < 0) {
+                        start = -1;
+                    }
+                }
+                // else: cue identifier or non cue block line
+            } else {
+                if (text.length() > 0) text.append('\n');
+                appendText(text, content, pos, lineLast);
+            }
+            pos = lineEnd + 1;
+        }
+        if (start >= 0) {
+            builder.add(start, end, text);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Parses {@code [hh:]mm:ss[.,]mmm} at the first digit in range, ignoring trailing cue settings.
+     *
+     * @return time in ms, -1 if malformed.
+     */
+    static long parseTime(String s, int from, int to) {
+        while (from < to && s.charAt(from) == ' ') from++;
+        long total = 0;
+        int fields = 0;
+        long value = -1;
+        int i = from;
+        for (; i < to; i++) {
+            final char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = (value < 0 ? 0 : value * 10) + (c - '0');
+            } else if (c == ':') {
+                if (value < 0) return -1;
+                total = total * 60 + value;
+                fields++;
+                value = -1;
+            } else {
+                break;
+            }
+        }
+        if (value < 0 || fields < 1 || fields > 2) return -1;
+        total = (total * 60 + value) * 1000;
+        if (i < to && (s.charAt(i) == '.' || s.charAt(i) == ',')) {
+            int ms = 0;
+            int digits = 0;
+            for (i++; i < to && digits < 3; i++, digits++) {
+                final char c = s.charAt(i);
+                if (c < '0' || c > '9') break;
+                ms = ms * 10 + (c - '0');
+            }
+            for (; digits < 3; digits++) ms *= 10;
+            total += ms;
+        }
+        return total;
+    }
+
+    private static void appendText(StringBuilder out, String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            final char c = s.charAt(i);
+            if (c == '<') {
+                final int close = s.indexOf('>', i);
+                if (close > 0 && close < to) {
+                    i = close;
+                    continue;
+                }
+            } else if (c == '{' && i + 1 < to && s.charAt(i + 1) == '\\') {
+                // SSA override tags often found in SRT, e.g. {\an8}
+                final int close = s.indexOf('}', i);
+                if (close > 0 && close < to) {
+                    i = close;
+                    continue;
+                }
+            } else if (c == '&') {
+                final int semicolon = s.indexOf(';', i);
+                if (semicolon > 0 && semicolon < to && semicolon - i <= 5) {
+                    final char entity = entity(s, i + 1, semicolon);
+                    if (entity != 0) {
+                        out.append(entity);
+                        i = semicolon;
+                        continue;
+                    }
+                }
+            }
+            out.append(c);
+        }
+    }
+
+    private static char entity(String s, int from, int to) {
+        if (s.regionMatches(from, "amp", 0, to - from) && to - from == 3) return '&';
+        if (s.regionMatches(from, "lt", 0, to - from) && to - from == 2) return '<';
+        if (s.regionMatches(from, "gt", 0, to - from) && to - from == 2) return '>';
+        if (s.regionMatches(from, "nbsp", 0, to - from) && to - from == 4) return ' ';
+        return 0;
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.vod.scenekit.thumb;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.BitmapRegionDecoder;
+import android.graphics.Rect;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.LruCache;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.playerkit.player.source.SpriteThumb;
+import com.bytedance.playerkit.player.utils.BandwidthMeter;
+import com.bytedance.playerkit.utils.L;
+import com.bytedance.playerkit.utils.MD5;
+import com.bytedance.playerkit.utils.concurrent.ExecutorFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads seek preview tiles of {@link SpriteThumb}.
+ * <p>
+ * Sprite sheets are downloaded to disk by {@link #prefetch(Context, MediaSource)} or on first use.
+ * Only the requested tile is decoded with {@link BitmapRegionDecoder}, decoded tiles are kept in a
+ * LRU pool limited to {@link #MAX_POOL_BYTES}. Sheets on disk are limited to {@link #MAX_DISK_SHEETS}
+ * in LRU order, last modified time is updated on every use. Downloading and decoding never run on
+ * main thread.
+ *
+ * @see SpriteThumbPreview
+ */
+public class SpriteThumbLoader {
+
+    public static int MAX_POOL_BYTES = 8 * 1024 * 1024;
+    public static int MAX_DISK_SHEETS = 64;
+    public static int MAX_DECODERS = 2;
+
+    private static final String CACHE_DIR = "sprite_thumbs";
+    private static final int TIMEOUT_MS = 10000;
+
+    public interface Callback {
+        /**
+         * Called on main thread.
+         *
+         * @param bitmap decoded tile, null if failed.
+         */
+        void onTileLoaded(@Nullable Bitmap bitmap);
+    }
+
+    private static final Object sLock = new Object();
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+    private static final ConcurrentHashMap<String, Object> sDownloadLocks = new ConcurrentHashMap<>();
+    // Accessed on decode thread only
+    private static final LinkedHashMap<String, BitmapRegionDecoder> sDecoders = new LinkedHashMap<>(4, 0.75f, true);
+    private static volatile File sCacheDir;
+    private static LruCache<String, Bitmap> sPool;
+    private static ThreadPoolExecutor sDownloadExecutor;
+    private static ThreadPoolExecutor sDecodeExecutor;
+
+    public static void prefetch(@Nullable Context context, @Nullable MediaSource source) {
+        final SpriteThumb thumb = source == null ? null : source.getSpriteThumb();
+        if (context == null || thumb == null || !thumb.isValid()) return;
+        final File cacheDir = cacheDir(context);
+        for (String url : thumb.getUrls()) {
+            downloadExecutor().execute(() -> sheet(cacheDir, url));
+        }
+    }
+
+    /**
+     * @return cached tile, null if it is not decoded yet.
+     */
+    @Nullable
+    public static Bitmap getCached(@NonNull SpriteThumb thumb, int tileIndex) {
+        final String url = thumb.sheetUrl(tileIndex);
+        if (url == null) return null;
+        return pool().get(key(url, thumb, tileIndex));
+    }
+
+    @MainThread
+    public static void load(@NonNull Context context, @NonNull SpriteThumb thumb, int tileIndex, @NonNull Callback callback) {
+        final String url = thumb.sheetUrl(tileIndex);
+        if (url == null) {
+            callback.onTileLoaded(null);
+            return;
+        }
+        final String key = key(url, thumb, tileIndex);
+        final Bitmap cached = pool().get(key);
+        if (cached != null) {
+            callback.onTileLoaded(cached);
+            return;
+        }
+        final File cacheDir = cacheDir(context);
+        decodeExecutor().execute(() -> {
+            Bitmap bitmap = pool().get(key);
+            if (bitmap == null) {
+                bitmap = decode(cacheDir, url, thumb, tileIndex);
+                if (bitmap != null) {
+                    pool().put(key, bitmap);
+                }
+            }
+            final Bitmap result = bitmap;
+            sMainHandler.post(() -> callback.onTileLoaded(result));
+        });
+    }
+
+    public static void clear() {
+        pool().evictAll();
+        final File cacheDir = sCacheDir;
+        final File[] files = cacheDir == null ? null : cacheDir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+    }
+
+    public static String dump() {
+        final LruCache<String, Bitmap> pool = pool();
+        return "pool=" + pool.size() + "/" + pool.maxSize() +
+                " hit=" + pool.hitCount() +
+                " miss=" + pool.missCount() +
+                " evict=" + pool.evictionCount();
+    }
+
+    private static String key(String url, SpriteThumb thumb, int tileIndex) {
+        return url + '#' + (tileIndex % thumb.tilesPerSheet());
+    }
+
+    @Nullable
+    private static Bitmap decode(File cacheDir, String url, SpriteThumb thumb, int tileIndex) {
+        final File file = sheet(cacheDir, url);
+        if (file == null) return null;
+        final BitmapRegionDecoder decoder = decoder(file);
+        if (decoder == null) return null;
+        final int left = thumb.tileLeft(tileIndex);
+        final int top = thumb.tileTop(tileIndex);
+        final Rect rect = new Rect(left, top,
+                Math.min(left + thumb.getCellWidth(), decoder.getWidth()),
+                Math.min(top + thumb.getCellHeight(), decoder.getHeight()));
+        if (rect.isEmpty()) return null;
+        final BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inPreferredConfig = Bitmap.Config.RGB_565;
+        try {
+            return decoder.decodeRegion(rect, options);
+        } catch (RuntimeException e) {
+            L.e(SpriteThumbLoader.class, "decode", e, url, tileIndex);
+            return null;
+        }
+    }
+
+    @Nullable
+    private static BitmapRegionDecoder decoder(File file) {
+        final String path = file.getAbsolutePath();
+        BitmapRegionDecoder decoder = sDecoders.get(path);
+        if (decoder != null && !decoder.isRecycled()) {
+            return decoder;
+        }
+        try {
+            decoder = BitmapRegionDecoder.newInstance(path, false);
+        } catch (IOException e) {
+            L.e(SpriteThumbLoader.class, "decoder", e, path);
+            file.delete();
+            return null;
+        }
+        sDecoders.put(path, decoder);
+        final Iterator<BitmapRegionDecoder> it = sDecoders.values().iterator();
+        while (sDecoders.size() > Math.max(MAX_DECODERS, 1) && it.hasNext()) {
+            it.next().recycle();
+            it.remove();
+        }
+        return decoder;
+    }
+
+    /**
+     * Downloads sheet if needed. Prefetch and decode of the same sheet share one download.
+     */
+    @Nullable
+    private static File sheet(File cacheDir, String url) {
+        final File file = sheetFile(cacheDir, url);
+        if (touch(file)) return file;
+        final Object lock = new Object();
+        final Object prev = sDownloadLocks.putIfAbsent(url, lock);
+        synchronized (prev == null ? lock : prev) {
+            try {
+                if (file.exists()) return file;
+                return download(cacheDir, url, file) ? file : null;
+            } finally {
+                sDownloadLocks.remove(url);
+            }
+        }
+    }
+
+    private static boolean download(File cacheDir, String url, File file) {
+        if (!cacheDir.exists() && !cacheDir.mkdirs()) return false;
+        final long startTime = System.currentTimeMillis();
+        final File tmp = new File(cacheDir, file.getName() + ".tmp");
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setConnectTimeout(TIMEOUT_MS);
+            connection.setReadTimeout(TIMEOUT_MS);
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                L.e(SpriteThumbLoader.class, "download", url, connection.getResponseCode());
+                return false;
+            }
+            try (InputStream in = connection.getInputStream();
+                 OutputStream out = new FileOutputStream(tmp)) {
+                final byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (!tmp.renameTo(file)) {
+                tmp.delete();
+                return false;
+            }
+            final long time = System.currentTimeMillis() - startTime;
+            L.d(SpriteThumbLoader.class, "download", url, file.length(), "time:" + time);
+            BandwidthMeter.addTransfer(file.length(), time);
+            trimDisk(cacheDir);
+            return true;
+        } catch (IOException e) {
+            L.e(SpriteThumbLoader.class, "download", e, url);
+            tmp.delete();
+            return false;
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    /**
+     * @return true if {@code file} exists, its last modified time is updated for {@link #trimDisk}.
+     */
+    private static boolean touch(File file) {
+        return file.setLastModified(System.currentTimeMillis()) || file.exists();
+    }
+
+    private static void trimDisk(File cacheDir) {
+        final File[] files = cacheDir.listFiles();
+        if (files == null || files.length <= MAX_DISK_SHEETS) return;
+        Arrays.sort(files, (o1, o2) -> Long.compare(o1.lastModified(), o2.lastModified()));
+        for (int i = 0; i < files.length - MAX_DISK_SHEETS; i++) {
+            files[i].delete();
+        }
+    }
+
+    private static File sheetFile(File cacheDir, String url) {
+        return new File(cacheDir, MD5.getMD5Hex(url));
+    }
+
+    private static File cacheDir(Context context) {
+        File cacheDir = sCacheDir;
+        if (cacheDir == null) {
+            cacheDir = new File(context.getApplicationContext().getCacheDir(), CACHE_DIR);
+            sCacheDir = cacheDir;
+        }
+        return cacheDir;
+    }
+
+    private static LruCache<String, Bitmap> pool() {
+        synchronized (sLock) {
+            if (sPool == null) {
+                sPool = new LruCache<String, Bitmap>(Math.max(MAX_POOL_BYTES, 1)) {
+                    @Override
+                    protected int sizeOf(@NonNull String key, @NonNull Bitmap value) {
+                        return value.getByteCount();
+                    }
+                };
+            }
+            return sPool;
+        }
+    }
+
+    private static ThreadPoolExecutor downloadExecutor() {
+        synchronized (sLock) {
+            if (sDownloadExecutor == null) {
+                sDownloadExecutor = createExecutor();
+            }
+            return sDownloadExecutor;
+        }
+    }
+
+    private static ThreadPoolExecutor decodeExecutor() {
+        synchronized (sLock) {
+            if (sDecodeExecutor == null) {
+                sDecodeExecutor = createExecutor();
+            }
+            return sDecodeExecutor;
+        }
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        final ThreadPoolExecutor executor = ExecutorFactory.DEFAULT.create(1);
+        executor.setKeepAliveTime(10, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
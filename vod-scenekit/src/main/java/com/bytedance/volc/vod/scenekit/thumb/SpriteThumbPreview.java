@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.vod.scenekit.thumb;
+
+import android.graphics.Bitmap;
+import android.view.View;
+import android.widget.ImageView;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.playerkit.player.source.SpriteThumb;
+
+/**
+ * Shows sprite thumb tile of a position in an {@link ImageView} while user is scrubbing.
+ * <p>
+ * Position to tile lookup is arithmetic, repeated positions in the same tile cost nothing. At most
+ * one tile is decoding at a time, tiles requested meanwhile are collapsed to the latest one, so fast
+ * scrubbing never queues up decode work.
+ */
+@MainThread
+public class SpriteThumbPreview {
+
+    private final ImageView mImageView;
+
+    private SpriteThumb mThumb;
+    private int mShownTile = -1;
+    private int mPendingTile = -1;
+    private boolean mLoading;
+
+    public SpriteThumbPreview(@NonNull ImageView imageView) {
+        this.mImageView = imageView;
+    }
+
+    /**
+     * @return false if {@code source} has no sprite thumb, the preview is hidden.
+     */
+    public boolean show(@Nullable MediaSource source, long positionMs) {
+        final SpriteThumb thumb = source == null ? null : source.getSpriteThumb();
+        if (thumb == null || !thumb.isValid()) {
+            hide();
+            return false;
+        }
+        if (thumb != mThumb) {
+            mThumb = thumb;
+            mShownTile = -1;
+            mImageView.setImageDrawable(null);
+        }
+        mImageView.setVisibility(View.VISIBLE);
+
+        final int tile = thumb.tileIndex(positionMs);
+        mPendingTile = tile;
+        if (tile == mShownTile) return true;
+
+        final Bitmap cached = SpriteThumbLoader.getCached(thumb, tile);
+        if (cached != null) {
+            setTile(tile, cached);
+            return true;
+        }
+        if (!mLoading) {
+            load();
+        }
+        return true;
+    }
+
+    public void hide() {
+        mPendingTile = -1;
+        mImageView.setVisibility(View.GONE);
+    }
+
+    public boolean isShowing() {
+        return mImageView.getVisibility() == View.VISIBLE;
+    }
+
+    private void load() {
+        final SpriteThumb thumb = mThumb;
+        final int tile = mPendingTile;
+        mLoading = true;
+        SpriteThumbLoader.load(mImageView.getContext(), thumb, tile, bitmap -> {
+            mLoading = false;
+            if (mPendingTile < 0) return;
+            if (thumb == mThumb && tile == mPendingTile) {
+                if (bitmap != null) {
+                    setTile(tile, bitmap);
+                }
+                return;
+            }
+            if (mPendingTile == mShownTile) return;
+            final Bitmap cached = SpriteThumbLoader.getCached(mThumb, mPendingTile);
+            if (cached != null) {
+                setTile(mPendingTile, cached);
+            } else {
+                load();
+            }
+        });
+    }
+
+    private void setTile(int tile, Bitmap bitmap) {
+        mShownTile = tile;
+        mImageView.setImageBitmap(bitmap);
+    }
+}
@@ -32,21 +32,37 @@ import androidx.annotation.Nullable;
 
 import com.bytedance.playerkit.player.Player;
 import com.bytedance.playerkit.player.PlayerEvent;
+import com.bytedance.playerkit.player.event.InfoSubtitleChanged;
 import com.bytedance.playerkit.player.event.InfoSubtitleTextUpdate;
+import com.bytedance.playerkit.player.event.InfoSubtitleWillChange;
 import com.bytedance.playerkit.player.playback.PlaybackController;
 import com.bytedance.playerkit.player.playback.PlaybackEvent;
+import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.playerkit.player.source.Subtitle;
 import com.bytedance.playerkit.player.source.SubtitleText;
 import com.bytedance.playerkit.utils.event.Dispatcher;
 import com.bytedance.playerkit.utils.event.Event;
 import com.bytedance.volc.vod.scenekit.R;
+import com.bytedance.volc.vod.scenekit.subtitle.SubtitleCues;
+import com.bytedance.volc.vod.scenekit.subtitle.SubtitleLoader;
 import com.bytedance.volc.vod.scenekit.ui.video.layer.base.AnimateLayer;
 import com.bytedance.volc.vod.scenekit.ui.video.scene.PlayScene;
 import com.bytedance.volc.vod.scenekit.utils.UIUtils;
 
+/**
+ * Shows subtitle text. Url subtitles are rendered from {@link SubtitleCues} loaded by
+ * {@link SubtitleLoader}: the cue is looked up by playback position and the view is only updated
+ * when the cue changes. Engine text updates are used until cues are ready, or for vid subtitles.
+ */
 public class SubtitleLayer extends AnimateLayer {
 
     private TextView mSubText;
 
+    private Subtitle mCueSubtitle;
+    private SubtitleCues mCues;
+    private int mCueIndex = -1;
+    private final Runnable mCueTick = this::syncCue;
+
     @Nullable
     @Override
     public String tag() {
@@ -63,12 +79,28 @@ public class SubtitleLayer extends AnimateLayer {
 
     @Override
     protected void onBindPlaybackController(@NonNull PlaybackController controller) {
-        controller.addPlaybackListener(mPlaybackListener);
+        controller.addPlaybackListener(mPlaybackListener,
+                PlaybackEvent.Action.STOP_PLAYBACK,
+                PlayerEvent.State.PREPARED,
+                PlayerEvent.State.STARTED,
+                PlayerEvent.State.PAUSED,
+                PlayerEvent.Info.SEEK_COMPLETE,
+                PlayerEvent.Info.PROGRESS_UPDATE,
+                PlayerEvent.Info.SUBTITLE_STATE_CHANGED,
+                PlayerEvent.Info.SUBTITLE_WILL_CHANGE,
+                PlayerEvent.Info.SUBTITLE_CHANGED,
+                PlayerEvent.Info.SUBTITLE_TEXT_UPDATE);
+    }
+
+    @Override
+    public void onVideoViewBindDataSource(MediaSource dataSource) {
+        SubtitleLoader.prefetch(dataSource);
     }
 
     @Override
     protected void onUnbindPlaybackController(@NonNull PlaybackController controller) {
         controller.removePlaybackListener(mPlaybackListener);
+        bindCues(null);
     }
 
     private final Dispatcher.EventListener mPlaybackListener = new Dispatcher.EventListener() {
@@ -78,13 +110,38 @@ public class SubtitleLayer extends AnimateLayer {
             switch (event.code()) {
                 case PlaybackEvent.Action.STOP_PLAYBACK:
                     dismiss();
+                    bindCues(null);
+                    break;
+                case PlayerEvent.State.PREPARED: {
+                    final Player player = player();
+                    if (player != null) {
+                        final Subtitle current = player.getCurrentSubtitle();
+                        bindCues(current != null ? current : player.getSelectedSubtitle());
+                    }
+                    break;
+                }
+                case PlayerEvent.State.STARTED:
+                case PlayerEvent.State.PAUSED:
+                case PlayerEvent.Info.SEEK_COMPLETE:
+                case PlayerEvent.Info.PROGRESS_UPDATE:
+                    syncCue();
                     break;
                 case PlayerEvent.Info.SUBTITLE_STATE_CHANGED: {
                     applyVisible();
                     break;
                 }
+                case PlayerEvent.Info.SUBTITLE_WILL_CHANGE: {
+                    // switch to cached cues of target language before engine loads it
+                    bindCues(event.cast(InfoSubtitleWillChange.class).target);
+                    break;
+                }
+                case PlayerEvent.Info.SUBTITLE_CHANGED: {
+                    bindCues(event.cast(InfoSubtitleChanged.class).current);
+                    break;
+                }
                 case PlayerEvent.Info.SUBTITLE_TEXT_UPDATE: {
                     applyVisible();
+                    if (mCues != null) break;
                     InfoSubtitleTextUpdate e = event.cast(InfoSubtitleTextUpdate.class);
                     SubtitleText subtitleText = e.subtitleText;
                     if (subtitleText != null && mSubText != null) {
@@ -96,6 +153,47 @@ public class SubtitleLayer extends AnimateLayer {
         }
     };
 
+    private void bindCues(@Nullable Subtitle subtitle) {
+        if (subtitle == mCueSubtitle) return;
+
+        mH.removeCallbacks(mCueTick);
+        mCueSubtitle = subtitle;
+        mCues = null;
+        mCueIndex = -1;
+        if (subtitle == null) return;
+
+        SubtitleLoader.load(subtitle, (loaded, cues) -> {
+            if (loaded != mCueSubtitle || cues == null) return;
+            mCues = cues;
+            if (mSubText != null) {
+                // drop text set by engine updates
+                mSubText.setText(null);
+            }
+            syncCue();
+        });
+    }
+
+    private void syncCue() {
+        mH.removeCallbacks(mCueTick);
+        final SubtitleCues cues = mCues;
+        final Player player = player();
+        if (cues == null || player == null || mSubText == null || !player.isInPlaybackState()) return;
+
+        final long position = player.getCurrentPosition();
+        final int index = cues.indexOf(position);
+        if (index != mCueIndex) {
+            mCueIndex = index;
+            mSubText.setText(index < 0 ? null : cues.text(index));
+        }
+        if (player.isPlaying()) {
+            final long next = cues.nextBoundary(position);
+            if (next > position) {
+                final float speed = Math.max(player.getSpeed(), 0.1f);
+                mH.postDelayed(mCueTick, (long) ((next - position) / speed) + 1);
+            }
+        }
+    }
+
     @Override
     public void show() {
         super.show();
@@ -37,6 +37,7 @@ import com.bytedance.playerkit.player.event.InfoProgressUpdate;
 import com.bytedance.playerkit.player.playback.PlaybackController;
 import com.bytedance.playerkit.player.playback.PlaybackEvent;
 import com.bytedance.playerkit.player.playback.VideoLayerHost;
+import com.bytedance.playerkit.player.source.MediaSource;
 import com.bytedance.playerkit.player.source.Quality;
 import com.bytedance.playerkit.player.source.Subtitle;
 import com.bytedance.playerkit.player.source.Track;
@@ -44,6 +45,8 @@ import com.bytedance.playerkit.utils.event.Dispatcher;
 import com.bytedance.playerkit.utils.event.Event;
 import com.bytedance.volc.vod.scenekit.R;
 import com.bytedance.volc.vod.scenekit.strategy.VideoSubtitle;
+import com.bytedance.volc.vod.scenekit.thumb.SpriteThumbLoader;
+import com.bytedance.volc.vod.scenekit.thumb.SpriteThumbPreview;
 import com.bytedance.volc.vod.scenekit.ui.video.layer.base.AnimateLayer;
 import com.bytedance.volc.vod.scenekit.ui.video.layer.dialog.QualitySelectDialogLayer;
 import com.bytedance.volc.vod.scenekit.ui.video.layer.dialog.SpeedSelectDialogLayer;
@@ -59,6 +62,8 @@ public class TimeProgressBarLayer extends AnimateLayer {
 
     private MediaSeekBar mSeekBar;
     private View mShadowView;
+    private ImageView mThumbPreviewView;
+    private SpriteThumbPreview mThumbPreview;
 
     private boolean mHalfScreenInit;
     private boolean mFullScreenInit;
@@ -79,21 +84,26 @@ public class TimeProgressBarLayer extends AnimateLayer {
         View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.vevod_time_progress_bar_layer, parent, false);
         mShadowView = view.findViewById(R.id.shadow);
 
+        mThumbPreviewView = view.findViewById(R.id.thumbPreview);
+        mThumbPreview = new SpriteThumbPreview(mThumbPreviewView);
         mSeekBar = view.findViewById(R.id.mediaSeekBar);
         mSeekBar.setOnSeekListener(new MediaSeekBar.OnUserSeekListener() {
 
             @Override
             public void onUserSeekStart(long startPosition) {
                 showControllerLayers();
+                showThumbPreview(startPosition);
             }
 
             @Override
             public void onUserSeekPeeking(long peekPosition) {
                 showControllerLayers();
+                showThumbPreview(peekPosition);
             }
 
             @Override
             public void onUserSeekStop(long startPosition, long seekToPosition) {
+                mThumbPreview.hide();
                 final Player player = player();
                 if (player == null) return;
 
@@ -113,6 +123,25 @@ public class TimeProgressBarLayer extends AnimateLayer {
         return view;
     }
 
+    private void showThumbPreview(long position) {
+        final Player player = player();
+        if (player == null) return;
+        final long duration = player.getDuration();
+        if (duration <= 0 || !mThumbPreview.show(dataSource(), position)) return;
+
+        final View parent = (View) mThumbPreviewView.getParent();
+        final int previewWidth = mThumbPreviewView.getLayoutParams().width;
+        final int trackLeft = mSeekBar.getLeft() + mSeekBar.seekBar.getLeft() + mSeekBar.seekBar.getPaddingLeft();
+        final int trackWidth = mSeekBar.seekBar.getWidth() - mSeekBar.seekBar.getPaddingLeft() - mSeekBar.seekBar.getPaddingRight();
+        final float x = trackLeft + trackWidth * Math.min(1f, position / (float) duration) - previewWidth / 2f;
+        mThumbPreviewView.setTranslationX(Math.max(0, Math.min(x, parent.getWidth() - previewWidth)));
+    }
+
+    @Override
+    public void onVideoViewBindDataSource(MediaSource dataSource) {
+        SpriteThumbLoader.prefetch(context(), dataSource);
+    }
+
     private void showControllerLayers() {
         VideoLayerHost layerHost = layerHost();
         if (layerHost != null) {
@@ -453,6 +482,9 @@ public class TimeProgressBarLayer extends AnimateLayer {
     @Override
     public void dismiss() {
         super.dismiss();
+        if (mThumbPreview != null) {
+            mThumbPreview.hide();
+        }
         syncSubtitleLayer();
     }
 
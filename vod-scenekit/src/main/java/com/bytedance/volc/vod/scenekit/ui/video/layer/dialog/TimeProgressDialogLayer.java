@@ -21,13 +21,14 @@ package com.bytedance.volc.vod.scenekit.ui.video.layer.dialog;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.ImageView;
 import android.widget.ProgressBar;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 
 import com.bytedance.playerkit.player.Player;
-
+import com.bytedance.volc.vod.scenekit.thumb.SpriteThumbPreview;
 import com.bytedance.volc.vod.scenekit.ui.video.layer.Layers;
 import com.bytedance.volc.vod.scenekit.ui.video.layer.base.DialogLayer;
 import com.bytedance.volc.vod.scenekit.ui.video.scene.PlayScene;
@@ -38,6 +39,7 @@ public class TimeProgressDialogLayer extends DialogLayer {
 
     private ProgressBar mProgressBar;
     private TextView mTime;
+    private SpriteThumbPreview mThumbPreview;
 
     private long mCurrentPosition;
 
@@ -52,6 +54,7 @@ public class TimeProgressDialogLayer extends DialogLayer {
 
         mProgressBar = view.findViewById(R.id.progressBar);
         mTime = view.findViewById(R.id.time);
+        mThumbPreview = new SpriteThumbPreview((ImageView) view.findViewById(R.id.thumbPreview));
 
         view.setOnClickListener(new View.OnClickListener() {
             @Override
@@ -80,6 +83,7 @@ public class TimeProgressDialogLayer extends DialogLayer {
             int progress = (int) (currentPosition / (float) duration * 100);
             mProgressBar.setProgress(progress);
             mTime.setText(String.format("%s / %s", TimeUtils.time2String(currentPosition), TimeUtils.time2String(duration)));
+            mThumbPreview.show(dataSource(), currentPosition);
         }
     }
 
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.vod.scenekit.ui.video.scene.feedvideo;
+
+import android.graphics.Rect;
+import android.os.SystemClock;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.bytedance.playerkit.player.playback.PlaybackController;
+import com.bytedance.playerkit.player.playback.VideoView;
+import com.bytedance.playerkit.utils.L;
+import com.bytedance.volc.vod.scenekit.VideoSettings;
+
+/**
+ * Starts playback of the most visible video in {@link FeedVideoPageView} when scrolling settles.
+ * <p>
+ * While dragging, the most visible candidate is prepared ahead with
+ * {@link PlaybackController#preparePlayback()}, so it only needs to be started when scrolling
+ * settles. Visibility is computed at most once every {@link #SCROLL_CHECK_INTERVAL_MS}, and not
+ * at all while flinging. Computing visibility allocates nothing.
+ */
+public class FeedVideoAutoPlayController extends RecyclerView.OnScrollListener {
+
+    public static float PLAY_VISIBLE_RATIO = 0.6f;
+    public static float PREPARE_VISIBLE_RATIO = 0.3f;
+    public static long SCROLL_CHECK_INTERVAL_MS = 50;
+
+    private final FeedVideoPageView mPageView;
+    private final RecyclerView mRecyclerView;
+    private final Rect mRect = new Rect();
+    private final Runnable mSettleRunnable = this::settle;
+
+    private int mScrollState = RecyclerView.SCROLL_STATE_IDLE;
+    private int mLastDy;
+    private long mLastCheckTime;
+    private boolean mPendingSettle;
+    private VideoView mPreparedVideoView;
+
+    // Result of last findMostVisible call.
+    private FeedVideoAdapter.ViewHolder mMostVisible;
+    private float mMostVisibleRatio;
+
+    public FeedVideoAutoPlayController(@NonNull FeedVideoPageView pageView, @NonNull RecyclerView recyclerView) {
+        this.mPageView = pageView;
+        this.mRecyclerView = recyclerView;
+    }
+
+    public static boolean isEnabled() {
+        return VideoSettings.booleanValue(VideoSettings.FEED_VIDEO_ENABLE_AUTOPLAY);
+    }
+
+    /**
+     * Autoplay after next layout, e.g. items changed or page resumed.
+     */
+    public void requestSettle() {
+        mPendingSettle = true;
+        mRecyclerView.requestLayout();
+    }
+
+    void onLayoutCompleted() {
+        if (mPendingSettle && mScrollState == RecyclerView.SCROLL_STATE_IDLE) {
+            mPendingSettle = false;
+            mRecyclerView.removeCallbacks(mSettleRunnable);
+            mRecyclerView.post(mSettleRunnable);
+        }
+    }
+
+    @Override
+    public void onScrollStateChanged(@NonNull RecyclerView recyclerView, int newState) {
+        mScrollState = newState;
+        if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+            settle();
+        }
+    }
+
+    @Override
+    public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+        if (dy != 0) {
+            mLastDy = dy;
+        }
+        if (mScrollState != RecyclerView.SCROLL_STATE_DRAGGING) return; // settling or flinging
+        if (!isEnabled() || !mPageView.isAutoPlayAllowed()) return;
+
+        final long now = SystemClock.uptimeMillis();
+        if (now - mLastCheckTime < SCROLL_CHECK_INTERVAL_MS) return;
+        mLastCheckTime = now;
+
+        findMostVisible();
+        if (mMostVisible != null && mMostVisibleRatio >= PREPARE_VISIBLE_RATIO) {
+            prepare(mMostVisible.sharedVideoView);
+        }
+    }
+
+    private void settle() {
+        if (!isEnabled() || !mPageView.isAutoPlayAllowed()) return;
+
+        findMostVisible();
+        final FeedVideoAdapter.ViewHolder holder = mMostVisible;
+        if (holder == null || mMostVisibleRatio < PLAY_VISIBLE_RATIO) return;
+
+        final VideoView videoView = holder.sharedVideoView;
+        if (videoView == null) return;
+        if (videoView != mPageView.getCurrentVideoView() || videoView.player() == null) {
+            L.d(this, "settle", "play", holder.getAbsoluteAdapterPosition(), mMostVisibleRatio);
+            videoView.startPlayback();
+        }
+
+        final int position = holder.getAbsoluteAdapterPosition();
+        if (position == RecyclerView.NO_POSITION) return;
+        final RecyclerView.ViewHolder next = mRecyclerView.findViewHolderForAdapterPosition(mLastDy >= 0 ? position + 1 : position - 1);
+        if (next instanceof FeedVideoAdapter.ViewHolder) {
+            prepare(((FeedVideoAdapter.ViewHolder) next).sharedVideoView);
+        }
+    }
+
+    private void prepare(VideoView videoView) {
+        if (videoView == null) return;
+        final VideoView currentVideoView = mPageView.getCurrentVideoView();
+        if (videoView == currentVideoView || videoView == mPreparedVideoView) return;
+
+        if (mPreparedVideoView != null
+                && mPreparedVideoView != currentVideoView
+                && mPreparedVideoView.player() != null
+                && !mPreparedVideoView.player().isPlaying()) {
+            mPreparedVideoView.stopPlayback();
+        }
+        mPreparedVideoView = videoView;
+
+        final PlaybackController controller = videoView.controller();
+        if (controller != null && videoView.player() == null) {
+            L.d(this, "prepare", videoView);
+            controller.preparePlayback();
+        }
+    }
+
+    private void findMostVisible() {
+        mMostVisible = null;
+        mMostVisibleRatio = 0;
+
+        final RecyclerView.LayoutManager layoutManager = mRecyclerView.getLayoutManager();
+        if (!(layoutManager instanceof LinearLayoutManager)) return;
+        final int first = ((LinearLayoutManager) layoutManager).findFirstVisibleItemPosition();
+        final int last = ((LinearLayoutManager) layoutManager).findLastVisibleItemPosition();
+        if (first == RecyclerView.NO_POSITION) return;
+
+        for (int i = first; i <= last; i++) {
+            final RecyclerView.ViewHolder holder = mRecyclerView.findViewHolderForAdapterPosition(i);
+            if (!(holder instanceof FeedVideoAdapter.ViewHolder)) continue;
+            final float ratio = visibleRatio(((FeedVideoAdapter.ViewHolder) holder).videoViewContainer);
+            if (ratio > mMostVisibleRatio) {
+                mMostVisibleRatio = ratio;
+                mMostVisible = (FeedVideoAdapter.ViewHolder) holder;
+            }
+        }
+    }
+
+    private float visibleRatio(View view) {
+        if (view == null || view.getHeight() <= 0) return 0;
+        mRect.set(0, 0, view.getWidth(), view.getHeight());
+        mRecyclerView.offsetDescendantRectToMyCoords(view, mRect);
+        final int top = Math.max(mRect.top, mRecyclerView.getPaddingTop());
+        final int bottom = Math.min(mRect.bottom, mRecyclerView.getHeight() - mRecyclerView.getPaddingBottom());
+        return Math.max(0, bottom - top) / (float) view.getHeight();
+    }
+}
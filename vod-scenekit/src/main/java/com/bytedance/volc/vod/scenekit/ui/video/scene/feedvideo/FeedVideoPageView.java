@@ -51,6 +51,7 @@ import java.util.List;
 public class FeedVideoPageView extends FrameLayout {
     private final RecyclerView mRecyclerView;
     private final FeedVideoAdapter mFeedVideoAdapter;
+    private final FeedVideoAutoPlayController mAutoPlayController;
     private Lifecycle mLifeCycle;
     private DetailPageNavigator mNavigator;
     private VideoView mCurrentVideoView;
@@ -97,6 +98,14 @@ public class FeedVideoPageView extends FrameLayout {
                 linearSmoothScroller.setTargetPosition(position);
                 startSmoothScroll(linearSmoothScroller);
             }
+
+            @Override
+            public void onLayoutCompleted(RecyclerView.State state) {
+                super.onLayoutCompleted(state);
+                if (mAutoPlayController != null) {
+                    mAutoPlayController.onLayoutCompleted();
+                }
+            }
         };
         mFeedVideoAdapter = new FeedVideoAdapter(mAdapterListener) {
             @Override
@@ -124,6 +133,9 @@ public class FeedVideoPageView extends FrameLayout {
         mRecyclerView.setLayoutManager(mLayoutManager);
         mRecyclerView.setAdapter(mFeedVideoAdapter);
         addView(mRecyclerView, new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT));
+
+        mAutoPlayController = new FeedVideoAutoPlayController(this, mRecyclerView);
+        mRecyclerView.addOnScrollListener(mAutoPlayController);
     }
 
     public RecyclerView recyclerView() {
@@ -222,6 +234,7 @@ public class FeedVideoPageView extends FrameLayout {
         VideoItem.playScene(videoItems, PlayScene.SCENE_FEED);
         mFeedVideoAdapter.setItems(videoItems);
         FeedVideoStrategy.setItems(videoItems);
+        mAutoPlayController.requestSettle();
     }
 
     public void prependItems(List<VideoItem> videoItems) {
@@ -270,7 +283,11 @@ public class FeedVideoPageView extends FrameLayout {
 
     public void resume() {
         if (!mInterceptStartPlaybackOnResume) {
-            play();
+            if (mCurrentVideoView != null) {
+                play();
+            } else {
+                mAutoPlayController.requestSettle();
+            }
         }
         mInterceptStartPlaybackOnResume = false;
     }
@@ -302,6 +319,11 @@ public class FeedVideoPageView extends FrameLayout {
         return mCurrentVideoView;
     }
 
+    boolean isAutoPlayAllowed() {
+        if (isFullScreen()) return false;
+        return mLifeCycle == null || mLifeCycle.getCurrentState().isAtLeast(Lifecycle.State.RESUMED);
+    }
+
     public boolean isFullScreen() {
         return mCurrentVideoView != null &&
                 mCurrentVideoView.getPlayScene() == PlayScene.SCENE_FULLSCREEN;
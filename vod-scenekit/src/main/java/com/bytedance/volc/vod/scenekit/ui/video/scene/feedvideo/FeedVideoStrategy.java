@@ -22,8 +22,8 @@ import com.bytedance.playerkit.player.volcengine.VolcEngineStrategy;
 import com.bytedance.playerkit.player.volcengine.VolcScene;
 import com.bytedance.volc.vod.scenekit.VideoSettings;
 import com.bytedance.volc.vod.scenekit.data.model.VideoItem;
+import com.bytedance.volc.vod.scenekit.data.utils.MediaSourceConverter;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class FeedVideoStrategy {
@@ -39,15 +39,13 @@ public class FeedVideoStrategy {
 
         if (videoItems == null) return;
 
-        final List<VideoItem> videoItemsCopy = new ArrayList<>(videoItems);
-        VolcEngineStrategy.setMediaSourcesAsync(() -> VideoItem.toMediaSources(videoItemsCopy));
+        MediaSourceConverter.setMediaSources(videoItems);
     }
 
     public static void appendItems(List<VideoItem> videoItems) {
         if (!VideoSettings.booleanValue(VideoSettings.FEED_VIDEO_ENABLE_PRELOAD)) return;
 
         if (videoItems == null) return;
-        final List<VideoItem> videoItemsCopy = new ArrayList<>(videoItems);
-        VolcEngineStrategy.addMediaSourcesAsync(() -> VideoItem.toMediaSources(videoItemsCopy));
+        MediaSourceConverter.addMediaSources(videoItems);
     }
 }
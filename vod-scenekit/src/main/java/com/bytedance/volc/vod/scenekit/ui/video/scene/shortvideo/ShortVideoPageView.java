@@ -33,6 +33,9 @@ import androidx.lifecycle.LifecycleEventObserver;
 import androidx.lifecycle.LifecycleOwner;
 import androidx.viewpager2.widget.ViewPager2;
 
+import com.bytedance.playerkit.player.PlayerKit;
+import com.bytedance.playerkit.player.playback.PlayerPool;
+import com.bytedance.playerkit.player.playback.WarmPlayerPool;
 import com.bytedance.playerkit.utils.CollectionUtils;
 import com.bytedance.playerkit.utils.L;
 import com.bytedance.playerkit.utils.event.Dispatcher;
@@ -49,14 +52,17 @@ import com.bytedance.volc.vod.scenekit.ui.widgets.adatper.ViewHolder;
 import com.bytedance.volc.vod.scenekit.ui.widgets.viewpager2.OnPageChangeCallbackCompat;
 import com.bytedance.volc.vod.scenekit.ui.widgets.viewpager2.ViewPager2Helper;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 public class ShortVideoPageView extends FrameLayout implements LifecycleEventObserver, Dispatcher.EventListener {
     public static final int ADAPTER_BINDING_DATA_DELAY_RETRY_MAX_COUNT = 3;
+    private static final int PLAYER_POOL_CURSOR_WINDOW = 3;
 
     private final ViewPager2 mViewPager;
     private final MultiTypeAdapter mShortVideoAdapter;
+    private final ShortVideoPreloadScheduler mPreloadScheduler;
     private Lifecycle mLifeCycle;
     private ViewHolder.Factory mViewHolderFactory;
     private boolean mInterceptStartPlaybackOnResume;
@@ -93,6 +99,7 @@ public class ShortVideoPageView extends FrameLayout implements LifecycleEventObs
             @Override
             public void onPageSelected(ViewPager2 pager, int position) {
                 super.onPageSelected(pager, position);
+                updatePlayerPoolCursor(position);
                 togglePlayback(position, ADAPTER_BINDING_DATA_DELAY_RETRY_MAX_COUNT);
             }
 
@@ -104,6 +111,8 @@ public class ShortVideoPageView extends FrameLayout implements LifecycleEventObs
                 holder.executeAction(ViewHolderAction.ACTION_VIEW_PAGER_ON_PAGE_INVISIBLE);
             }
         });
+        mPreloadScheduler = new ShortVideoPreloadScheduler(mViewPager, mShortVideoAdapter::getItems);
+        mViewPager.registerOnPageChangeCallback(mPreloadScheduler);
         addView(mViewPager, new LayoutParams(LayoutParams.MATCH_PARENT,
                 ViewGroup.LayoutParams.MATCH_PARENT));
     }
@@ -143,6 +152,7 @@ public class ShortVideoPageView extends FrameLayout implements LifecycleEventObs
         VideoItem.playScene(VideoItem.findVideoItems(items), PlayScene.SCENE_SHORT);
         mShortVideoAdapter.setItems(items, ItemHelper.comparator());
         ShortVideoStrategy.setItems(items);
+        mPreloadScheduler.reset();
         if (isPlay) {
             play();
         }
@@ -156,6 +166,7 @@ public class ShortVideoPageView extends FrameLayout implements LifecycleEventObs
         VideoItem.playScene(VideoItem.findVideoItems(items), PlayScene.SCENE_SHORT);
         mShortVideoAdapter.insertItems(0, items);
         ShortVideoStrategy.setItems(mShortVideoAdapter.getItems());
+        mPreloadScheduler.notifyItemsChanged();
     }
 
     public void appendItems(@Nullable List<Item> items) {
@@ -166,6 +177,7 @@ public class ShortVideoPageView extends FrameLayout implements LifecycleEventObs
         VideoItem.playScene(VideoItem.findVideoItems(items), PlayScene.SCENE_SHORT);
         mShortVideoAdapter.appendItems(items);
         ShortVideoStrategy.appendItems(items);
+        mPreloadScheduler.notifyItemsChanged();
     }
 
     public void deleteItem(int position) {
@@ -177,6 +189,7 @@ public class ShortVideoPageView extends FrameLayout implements LifecycleEventObs
 
         mShortVideoAdapter.deleteItem(position);
         ShortVideoStrategy.setItems(mShortVideoAdapter.getItems());
+        mPreloadScheduler.notifyItemsChanged();
         if (currentPosition == position) {
             play();
         }
@@ -189,6 +202,7 @@ public class ShortVideoPageView extends FrameLayout implements LifecycleEventObs
         L.d(this, "deleteItems", position, count);
         mShortVideoAdapter.deleteItems(position, count);
         ShortVideoStrategy.setItems(mShortVideoAdapter.getItems());
+        mPreloadScheduler.notifyItemsChanged();
         if (position <= currentPosition && currentPosition < position + count) {
             play();
         }
@@ -202,6 +216,7 @@ public class ShortVideoPageView extends FrameLayout implements LifecycleEventObs
         final int currentPosition = getCurrentItem();
         mShortVideoAdapter.replaceItem(position, item);
         ShortVideoStrategy.setItems(mShortVideoAdapter.getItems());
+        mPreloadScheduler.notifyItemsChanged();
         if (currentPosition == position) {
             play();
         }
@@ -215,6 +230,7 @@ public class ShortVideoPageView extends FrameLayout implements LifecycleEventObs
         final int currentPosition = getCurrentItem();
         mShortVideoAdapter.replaceItems(position, items);
         ShortVideoStrategy.setItems(mShortVideoAdapter.getItems());
+        mPreloadScheduler.notifyItemsChanged();
         if (position <= currentPosition && currentPosition < position + items.size()) {
             play();
         }
@@ -228,6 +244,7 @@ public class ShortVideoPageView extends FrameLayout implements LifecycleEventObs
         final int currentPosition = getCurrentItem();
         mShortVideoAdapter.insertItem(position, item);
         ShortVideoStrategy.setItems(mShortVideoAdapter.getItems());
+        mPreloadScheduler.notifyItemsChanged();
         if (currentPosition == position) {
             play();
         }
@@ -241,6 +258,7 @@ public class ShortVideoPageView extends FrameLayout implements LifecycleEventObs
         final int currentPosition = getCurrentItem();
         mShortVideoAdapter.insertItems(position, items);
         ShortVideoStrategy.setItems(mShortVideoAdapter.getItems());
+        mPreloadScheduler.notifyItemsChanged();
         if (position <= currentPosition && currentPosition < position + items.size()) {
             play();
         }
@@ -342,6 +360,21 @@ public class ShortVideoPageView extends FrameLayout implements LifecycleEventObs
         }
     }
 
+    private void updatePlayerPoolCursor(int position) {
+        final PlayerPool playerPool = PlayerKit.config().playerPool;
+        if (!(playerPool instanceof WarmPlayerPool)) return;
+
+        final List<Item> items = mShortVideoAdapter.getItems();
+        final int start = Math.max(0, position - PLAYER_POOL_CURSOR_WINDOW);
+        final int end = Math.min(items.size(), position + PLAYER_POOL_CURSOR_WINDOW + 1);
+        final List<String> mediaIds = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            final VideoItem videoItem = VideoItem.findVideoItem(items.get(i));
+            mediaIds.add(videoItem == null ? null : videoItem.getVid());
+        }
+        ((WarmPlayerPool) playerPool).setCursor(mediaIds, position - start);
+    }
+
     public void play() {
         L.d(this, "play");
 
@@ -418,7 +451,13 @@ public class ShortVideoPageView extends FrameLayout implements LifecycleEventObs
             mLifeCycle.removeObserver(this);
             mLifeCycle = null;
         }
+        mPreloadScheduler.reset();
         stop();
+        // stop() parks paused players in the pool, nothing would release them after the page is gone
+        final PlayerPool playerPool = PlayerKit.config().playerPool;
+        if (playerPool instanceof WarmPlayerPool) {
+            ((WarmPlayerPool) playerPool).evictAll();
+        }
     }
 
     public boolean onBackPressed() {
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.vod.scenekit.ui.video.scene.shortvideo;
+
+import android.os.SystemClock;
+import android.util.SparseArray;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.viewpager2.widget.ViewPager2;
+
+import com.bytedance.playerkit.player.preload.PreloadPolicy;
+import com.bytedance.playerkit.player.preload.PreloadScheduler;
+import com.bytedance.playerkit.player.source.MediaSource;
+import com.bytedance.playerkit.player.volcengine.VolcEngineStrategy;
+import com.bytedance.playerkit.utils.Getter;
+import com.bytedance.volc.vod.scenekit.VideoSettings;
+import com.bytedance.volc.vod.scenekit.data.model.VideoItem;
+import com.bytedance.volc.vod.scenekit.subtitle.SubtitleLoader;
+import com.bytedance.volc.vod.scenekit.ui.widgets.adatper.Item;
+import com.bytedance.volc.vod.scenekit.ui.widgets.viewpager2.OnPageChangeCallbackCompat;
+
+import java.util.List;
+
+/**
+ * Drives {@link PreloadScheduler} with {@link ViewPager2} scroll callbacks and issues preload of
+ * planned positions by {@link VolcEngineStrategy#preloadAsync(int)}. Subtitles of preferred
+ * languages are prefetched along by {@link SubtitleLoader#prefetch(MediaSource)}.
+ * <p>
+ * Preloads are issued after {@link #PRELOAD_DELAY_MS}, so positions overtaken during a fling are
+ * canceled before reaching the engine.
+ */
+public class ShortVideoPreloadScheduler extends OnPageChangeCallbackCompat implements PreloadScheduler.Preloader {
+
+    public static final long PRELOAD_DELAY_MS = 100;
+    public static final long DWELL_CHECK_DELAY_MS = 5000;
+
+    private final ViewPager2 mViewPager;
+    private final Getter<List<Item>> mItems;
+    private final PreloadScheduler mScheduler;
+    private final SparseArray<Runnable> mPendingPreloads = new SparseArray<>();
+    private final Runnable mDwellRunnable;
+
+    private List<Item> mIndexedItems;
+    /**
+     * Strategy source index of each adapter position, -1 for positions not in strategy sources.
+     */
+    private int[] mVideoIndexes;
+
+    public ShortVideoPreloadScheduler(@NonNull ViewPager2 viewPager, @NonNull Getter<List<Item>> items) {
+        this(viewPager, items, PreloadPolicy.DEFAULT);
+    }
+
+    public ShortVideoPreloadScheduler(@NonNull ViewPager2 viewPager, @NonNull Getter<List<Item>> items, @NonNull PreloadPolicy policy) {
+        super(viewPager);
+        this.mViewPager = viewPager;
+        this.mItems = items;
+        this.mScheduler = new PreloadScheduler(policy, this);
+        this.mDwellRunnable = () -> mScheduler.onDwell(SystemClock.uptimeMillis());
+    }
+
+    @Override
+    public void onPageScrolled(ViewPager2 pager, int position, float positionOffset, int positionOffsetPixels) {
+        if (!isEnabled()) return;
+        mViewPager.removeCallbacks(mDwellRunnable);
+        mScheduler.onPageScrolled(SystemClock.uptimeMillis(), position, positionOffset);
+    }
+
+    @Override
+    public void onPagePeekStart(ViewPager2 pager, int position, int peekPosition) {
+        super.onPagePeekStart(pager, position, peekPosition);
+        if (!isEnabled()) return;
+        mScheduler.setItemCount(itemCount());
+        mScheduler.onPagePeekStart(SystemClock.uptimeMillis(), position, peekPosition);
+    }
+
+    @Override
+    public void onPageSelected(ViewPager2 pager, int position) {
+        super.onPageSelected(pager, position);
+        if (!isEnabled()) return;
+        mScheduler.setItemCount(itemCount());
+        mScheduler.onPageSelected(SystemClock.uptimeMillis(), position);
+    }
+
+    @Override
+    public void onPageScrollStateChanged(ViewPager2 pager, int state) {
+        super.onPageScrollStateChanged(pager, state);
+        if (!isEnabled()) return;
+        if (state == ViewPager2.SCROLL_STATE_IDLE) {
+            mScheduler.setItemCount(itemCount());
+            mScheduler.onScrollIdle(SystemClock.uptimeMillis());
+            mViewPager.removeCallbacks(mDwellRunnable);
+            mViewPager.postDelayed(mDwellRunnable, DWELL_CHECK_DELAY_MS);
+        }
+    }
+
+    @Override
+    public void preload(int position) {
+        final int index = videoIndex(position);
+        if (index < 0) return;
+
+        final Runnable runnable = () -> {
+            mPendingPreloads.remove(position);
+            VolcEngineStrategy.preloadAsync(index);
+            SubtitleLoader.prefetch(mediaSource(position));
+        };
+        cancel(position);
+        mPendingPreloads.put(position, runnable);
+        mViewPager.postDelayed(runnable, PRELOAD_DELAY_MS);
+    }
+
+    @Override
+    public void cancel(int position) {
+        final Runnable runnable = mPendingPreloads.get(position);
+        if (runnable != null) {
+            mPendingPreloads.remove(position);
+            mViewPager.removeCallbacks(runnable);
+        }
+    }
+
+    public void reset() {
+        mViewPager.removeCallbacks(mDwellRunnable);
+        mScheduler.reset();
+        notifyItemsChanged();
+    }
+
+    /**
+     * Call it whenever the adapter items are changed.
+     */
+    public void notifyItemsChanged() {
+        mIndexedItems = null;
+        mVideoIndexes = null;
+    }
+
+    private static boolean isEnabled() {
+        return VideoSettings.booleanValue(VideoSettings.SHORT_VIDEO_ENABLE_STRATEGY);
+    }
+
+    private int itemCount() {
+        final List<Item> items = mItems.get();
+        return items == null ? 0 : items.size();
+    }
+
+    /**
+     * Strategy sources only contain not empty video items, see
+     * {@link ShortVideoStrategy#setItems(List)} and {@link VideoItem#toMediaSources(List)}.
+     */
+    private int videoIndex(int position) {
+        final List<Item> items = mItems.get();
+        if (items == null || position < 0 || position >= items.size()) return -1;
+        if (items != mIndexedItems || mVideoIndexes == null || mVideoIndexes.length != items.size()) {
+            final int[] indexes = new int[items.size()];
+            int index = 0;
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = isStrategySource(items.get(i)) ? index++ : -1;
+            }
+            mIndexedItems = items;
+            mVideoIndexes = indexes;
+        }
+        return mVideoIndexes[position];
+    }
+
+    @Nullable
+    private MediaSource mediaSource(int position) {
+        final List<Item> items = mItems.get();
+        if (items == null || position < 0 || position >= items.size()) return null;
+        final VideoItem videoItem = VideoItem.findVideoItem(items.get(position));
+        return videoItem == null ? null : VideoItem.findMediaSource(videoItem);
+    }
+
+    private static boolean isStrategySource(Item item) {
+        final VideoItem videoItem = VideoItem.findVideoItem(item);
+        return videoItem != null && videoItem.getSourceType() != VideoItem.SOURCE_TYPE_EMPTY;
+    }
+}
@@ -22,6 +22,7 @@ import com.bytedance.playerkit.player.volcengine.VolcEngineStrategy;
 import com.bytedance.playerkit.player.volcengine.VolcScene;
 import com.bytedance.volc.vod.scenekit.VideoSettings;
 import com.bytedance.volc.vod.scenekit.data.model.VideoItem;
+import com.bytedance.volc.vod.scenekit.data.utils.MediaSourceConverter;
 import com.bytedance.volc.vod.scenekit.ui.widgets.adatper.Item;
 
 import java.util.List;
@@ -40,7 +41,7 @@ public class ShortVideoStrategy {
         if (items == null) return;
 
         final List<VideoItem> videoItems = VideoItem.findVideoItems(items);
-        VolcEngineStrategy.setMediaSourcesAsync(() -> VideoItem.toMediaSources(videoItems));
+        MediaSourceConverter.setMediaSources(videoItems);
     }
 
     public static void appendItems(List<Item> items) {
@@ -49,6 +50,6 @@ public class ShortVideoStrategy {
         if (items == null) return;
 
         final List<VideoItem> videoItems = VideoItem.findVideoItems(items);
-        VolcEngineStrategy.addMediaSourcesAsync(() -> VideoItem.toMediaSources(videoItems));
+        MediaSourceConverter.addMediaSources(videoItems);
     }
 }
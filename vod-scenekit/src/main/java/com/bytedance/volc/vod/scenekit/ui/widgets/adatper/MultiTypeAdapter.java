@@ -104,10 +104,9 @@ public class MultiTypeAdapter extends RecyclerView.Adapter<ViewHolder> {
 
     public void deleteItems(int position, int count) {
         if (position >= 0 && position < mItems.size()) {
-            List<Item> items = new ArrayList<>(mItems);
-            final int toIndex = Math.min(position + count + 1, items.size());
-            items.removeAll(items.subList(position, toIndex));
-            notifyItemRangeRemoved(position, toIndex - position); // TODO
+            final int toIndex = Math.min(position + count, mItems.size());
+            mItems.subList(position, toIndex).clear();
+            notifyItemRangeRemoved(position, toIndex - position);
         }
     }
 
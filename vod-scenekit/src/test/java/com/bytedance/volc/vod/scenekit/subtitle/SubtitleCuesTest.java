@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.vod.scenekit.subtitle;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class SubtitleCuesTest {
+
+    @Test
+    public void indexOf() {
+        final SubtitleCues cues = new SubtitleCues.Builder()
+                .add(1000, 2000, "a")
+                .add(3000, 4000, "b")
+                .build();
+        assertEquals(-1, cues.indexOf(999));
+        assertEquals(0, cues.indexOf(1000));
+        assertEquals(-1, cues.indexOf(2000));
+        assertEquals(1, cues.indexOf(3500));
+        assertEquals(-1, cues.indexOf(4000));
+        assertEquals("b", cues.text(1));
+    }
+
+    @Test
+    public void overlappingCueShowsAgainAfterNestedCue() {
+        final SubtitleCues cues = new SubtitleCues.Builder()
+                .add(0, 10000, "a")
+                .add(2000, 4000, "b")
+                .build();
+        assertEquals(0, cues.indexOf(1000));
+        assertEquals(1, cues.indexOf(3000));
+        assertEquals(0, cues.indexOf(5000));
+        assertEquals(-1, cues.indexOf(10000));
+
+        assertEquals(2000, cues.nextBoundary(1000));
+        assertEquals(4000, cues.nextBoundary(3000));
+        assertEquals(10000, cues.nextBoundary(5000));
+        assertEquals(-1, cues.nextBoundary(10000));
+    }
+
+    @Test
+    public void unsortedCues() {
+        final SubtitleCues cues = new SubtitleCues.Builder()
+                .add(3000, 4000, "b")
+                .add(1000, 2000, "a")
+                .build();
+        assertEquals(0, cues.indexOf(1500));
+        assertEquals("a", cues.text(0));
+        assertEquals("b", cues.text(1));
+        assertEquals(3000, cues.nextBoundary(2500));
+    }
+}
@@ -51,6 +51,7 @@ public class Option {
 
     private Object value;
     private int valueFrom;
+    private int index = -1;
 
     private Options.UserValues mUserValues;
     private Options.RemoteValues mRemoteValues;
@@ -71,6 +72,17 @@ public class Option {
         this.mRemoteValues = remoteValues;
     }
 
+    void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * @return index of this option in {@link Options#options()}, -1 if not setup.
+     */
+    public int index() {
+        return index;
+    }
+
     public Options.UserValues userValues() {
         return mUserValues;
     }
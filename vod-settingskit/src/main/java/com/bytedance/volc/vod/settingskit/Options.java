@@ -45,4 +45,15 @@ public interface Options {
     UserValues userValues();
 
     RemoteValues remoteValues();
+
+    /**
+     * @return snapshot of current values of all options.
+     */
+    OptionsSnapshot snapshot();
+
+    /**
+     * Rebuilds {@link #snapshot()}. Call it after {@link #remoteValues()} changed. Saving user
+     * values with {@link UserValues#saveValue(Option, Object)} rebuilds it automatically.
+     */
+    void invalidate();
 }
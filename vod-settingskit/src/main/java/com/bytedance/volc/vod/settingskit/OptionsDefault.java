@@ -35,6 +35,7 @@ public class OptionsDefault implements Options {
     private final Map<String, Option> mMap = new HashMap<>();
     private final Options.UserValues mUserProvider;
     private final Options.RemoteValues mRemoteGetter;
+    private volatile OptionsSnapshot mSnapshot;
 
     public OptionsDefault(Context context, List<Option> options, Options.RemoteValues remoteGetter) {
         this(context, options, new InnerUserValues(context), remoteGetter);
@@ -42,11 +43,13 @@ public class OptionsDefault implements Options {
 
     public OptionsDefault(Context context, List<Option> options, Options.UserValues userProvider, Options.RemoteValues remoteGetter) {
         this.mContext = context;
-        this.mUserProvider = userProvider;
+        this.mUserProvider = new InvalidatingUserValues(userProvider);
         this.mRemoteGetter = remoteGetter;
         this.mOptions = options;
-        for (Option option : options) {
-            option.setup(userProvider, remoteGetter);
+        for (int i = 0; i < options.size(); i++) {
+            final Option option = options.get(i);
+            option.setup(mUserProvider, remoteGetter);
+            option.setIndex(i);
             mMap.put(option.key, option);
         }
     }
@@ -73,6 +76,46 @@ public class OptionsDefault implements Options {
         return mRemoteGetter;
     }
 
+    @Override
+    public OptionsSnapshot snapshot() {
+        OptionsSnapshot snapshot = mSnapshot;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = mSnapshot;
+                if (snapshot == null) {
+                    snapshot = new OptionsSnapshot(mOptions);
+                    mSnapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    @Override
+    public synchronized void invalidate() {
+        mSnapshot = new OptionsSnapshot(mOptions);
+    }
+
+    private class InvalidatingUserValues implements Options.UserValues {
+        private final Options.UserValues mUserValues;
+
+        InvalidatingUserValues(Options.UserValues userValues) {
+            this.mUserValues = userValues;
+        }
+
+        @Nullable
+        @Override
+        public Object getValue(Option option) {
+            return mUserValues.getValue(option);
+        }
+
+        @Override
+        public void saveValue(Option option, @Nullable Object value) {
+            mUserValues.saveValue(option, value);
+            invalidate();
+        }
+    }
+
     static class InnerUserValues implements Options.UserValues {
 
         private final static String SHARED_PREF_SETTINGS = "shared_pref_vod_client_settings";
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 bytedance
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Create Date : 2026/10/18
+ */
+
+package com.bytedance.volc.vod.settingskit;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable values of all {@link Option}s of an {@link Options}, decoded once.
+ * <p>
+ * Reading an {@link Option#STRATEGY_IMMEDIATELY} option directly reads and parses its user value
+ * on every call. Reading from a snapshot is an array lookup by {@link Option#index()}.
+ *
+ * @see Options#snapshot()
+ */
+public final class OptionsSnapshot {
+    private static final byte TYPE_OBJECT = 0;
+    private static final byte TYPE_INT = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_BOOLEAN = 3;
+    private static final byte TYPE_FLOAT = 4;
+
+    private static final AtomicInteger sVersion = new AtomicInteger();
+
+    private final int mVersion;
+    private final Object[] mValues;
+    private final long[] mPrimitives;
+    private final byte[] mTypes;
+
+    OptionsSnapshot(List<Option> options) {
+        mVersion = sVersion.incrementAndGet();
+        final int size = options.size();
+        mValues = new Object[size];
+        mPrimitives = new long[size];
+        mTypes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            final Object value = options.get(i).value();
+            mValues[i] = value;
+            if (value instanceof Integer) {
+                mTypes[i] = TYPE_INT;
+                mPrimitives[i] = (Integer) value;
+            } else if (value instanceof Long) {
+                mTypes[i] = TYPE_LONG;
+                mPrimitives[i] = (Long) value;
+            } else if (value instanceof Boolean) {
+                mTypes[i] = TYPE_BOOLEAN;
+                mPrimitives[i] = (Boolean) value ? 1 : 0;
+            } else if (value instanceof Float) {
+                mTypes[i] = TYPE_FLOAT;
+                mPrimitives[i] = Float.floatToRawIntBits((Float) value);
+            }
+        }
+    }
+
+    /**
+     * @return version of this snapshot. A rebuilt snapshot always has a greater version.
+     */
+    public int version() {
+        return mVersion;
+    }
+
+    public int intValue(@NonNull Option option) {
+        final int index = option.index();
+        if (index < 0 || mTypes[index] != TYPE_INT) return option.intValue();
+        return (int) mPrimitives[index];
+    }
+
+    public long longValue(@NonNull Option option) {
+        final int index = option.index();
+        if (index < 0 || mTypes[index] != TYPE_LONG) return option.longValue();
+        return mPrimitives[index];
+    }
+
+    public boolean booleanValue(@NonNull Option option) {
+        final int index = option.index();
+        if (index < 0 || mTypes[index] != TYPE_BOOLEAN) return option.booleanValue();
+        return mPrimitives[index] != 0;
+    }
+
+    public float floatValue(@NonNull Option option) {
+        final int index = option.index();
+        if (index < 0 || mTypes[index] != TYPE_FLOAT) return option.floatValue();
+        return Float.intBitsToFloat((int) mPrimitives[index]);
+    }
+
+    @Nullable
+    public <T> T value(@NonNull Option option, @NonNull Class<T> clazz) {
+        final int index = option.index();
+        if (index < 0) return option.value(clazz);
+        return clazz.cast(mValues[index]);
+    }
+
+    @Nullable
+    public String stringValue(@NonNull Option option) {
+        return value(option, String.class);
+    }
+}